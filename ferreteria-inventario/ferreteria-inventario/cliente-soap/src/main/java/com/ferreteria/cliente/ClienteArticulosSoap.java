@@ -0,0 +1,487 @@
+package com.ferreteria.cliente;
+
+import javax.xml.soap.*;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cliente SOAP no interactivo del servicio de artículos, para integrar en otros programas (RF5, RF6, RNF10)
+ * <p>
+ * Es seguro para uso concurrente y está pensado para crearse una sola vez: reutiliza la fábrica de
+ * mensajes SAAJ y un HttpClient HTTP/1.1 cuyas conexiones keep-alive se reutilizan entre llamadas, en lugar
+ * de abrir una conexión TCP por solicitud. Las conexiones simultáneas se limitan a {@code maxConexiones}.
+ * <p>
+ * Las operaciones SAAJ devuelven las respuestas tal como llegan, incluidos los SOAP Faults (como
+ * SOAPConnection.call); solo los errores de transporte lanzan {@link ClienteSoapException}.
+ * <p>
+ * Para uso programático, las variantes tipadas (insertar, consultar, actualizar, hayStock) escriben el
+ * sobre con StAX y leen la respuesta con un parser de extracción directamente del flujo HTTP, sin DOM ni
+ * Strings intermedios; los SOAP Faults se lanzan como {@link FaultArticuloException}.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class ClienteArticulosSoap implements AutoCloseable {
+
+    /**
+     * Endpoint publicado por la aplicación (server.port=8086, cxf.path=/soap)
+     */
+    public static final String ENDPOINT_POR_DEFECTO = "http://localhost:8086/soap/ArticuloService";
+    public static final String NAMESPACE_URI = "http://soap.inventario.ferreteria.com/";
+
+    /**
+     * Tamaño mínimo (bytes) de una solicitud para enviarla comprimida con GZIP
+     */
+    private static final int UMBRAL_GZIP = 1024;
+
+    /**
+     * La fábrica de SAAJ no guarda estado entre mensajes: una instancia sirve a todos los clientes e hilos
+     */
+    private static final MessageFactory FABRICA_MENSAJES = crearFabricaMensajes();
+
+    private final URI endpoint;
+    private final Duration timeoutRespuesta;
+    private final int maxConexiones;
+    private final Semaphore conexionesDisponibles;
+    private final ExecutorService ejecutor;
+    private final HttpClient http;
+
+    private ClienteArticulosSoap(Builder builder) {
+        this.endpoint = URI.create(builder.endpoint);
+        this.timeoutRespuesta = builder.timeoutRespuesta;
+        this.maxConexiones = builder.maxConexiones;
+        this.conexionesDisponibles = new Semaphore(builder.maxConexiones);
+
+        AtomicInteger contador = new AtomicInteger();
+        this.ejecutor = Executors.newCachedThreadPool(tarea -> {
+            Thread hilo = new Thread(tarea, "cliente-soap-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        // HTTP/1.1 explícito: CXF sobre Tomcat no negocia h2c y el intento de upgrade solo agrega una ida y vuelta
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(builder.timeoutConexion)
+                .executor(ejecutor)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Crea un cliente configurado con propiedades del sistema: soap.endpoint, soap.timeout.conexion-ms,
+     * soap.timeout.respuesta-ms y soap.conexiones (las no indicadas toman el valor por defecto)
+     *
+     * @return cliente configurado
+     */
+    public static ClienteArticulosSoap desdePropiedadesDelSistema() {
+        Builder builder = builder().endpoint(System.getProperty("soap.endpoint", ENDPOINT_POR_DEFECTO));
+        Long timeoutConexion = Long.getLong("soap.timeout.conexion-ms");
+        if (timeoutConexion != null) {
+            builder.timeoutConexion(Duration.ofMillis(timeoutConexion));
+        }
+        Long timeoutRespuesta = Long.getLong("soap.timeout.respuesta-ms");
+        if (timeoutRespuesta != null) {
+            builder.timeoutRespuesta(Duration.ofMillis(timeoutRespuesta));
+        }
+        return builder.maxConexiones(Integer.getInteger("soap.conexiones", Builder.MAX_CONEXIONES_POR_DEFECTO))
+                .build();
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    public int getMaxConexiones() {
+        return maxConexiones;
+    }
+
+    // ==================== OPERACIONES ====================
+
+    /**
+     * Inserta un nuevo artículo (RF5)
+     *
+     * @return respuesta del servidor (artículo creado o SOAP Fault)
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public SOAPMessage insertarArticulo(String codigo, String nombre, String descripcion, String categoria,
+                                        BigDecimal precioCompra, BigDecimal precioVenta,
+                                        int stockActual, int stockMinimo, String proveedor) throws ClienteSoapException {
+        return enviar(crearMensajeInsertarArticulo(codigo, nombre, descripcion, categoria,
+                precioCompra, precioVenta, stockActual, stockMinimo, proveedor));
+    }
+
+    /**
+     * Consulta un artículo por código (RF6)
+     *
+     * @return respuesta del servidor (artículo o SOAP Fault)
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public SOAPMessage consultarArticulo(String codigo) throws ClienteSoapException {
+        return enviar(crearMensajeConCodigo("consultarArticulo", codigo));
+    }
+
+    /**
+     * Actualiza un artículo existente
+     *
+     * @return respuesta del servidor (artículo actualizado o SOAP Fault)
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public SOAPMessage actualizarArticulo(String codigo, String nombre, String descripcion, String categoria,
+                                          BigDecimal precioCompra, BigDecimal precioVenta,
+                                          int stockActual, int stockMinimo, String proveedor) throws ClienteSoapException {
+        return enviar(crearMensajeActualizarArticulo(codigo, nombre, descripcion, categoria,
+                precioCompra, precioVenta, stockActual, stockMinimo, proveedor));
+    }
+
+    /**
+     * Verifica si hay stock disponible (RF7)
+     *
+     * @return respuesta del servidor (true/false o SOAP Fault)
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public SOAPMessage verificarStock(String codigo) throws ClienteSoapException {
+        return enviar(crearMensajeConCodigo("verificarStock", codigo));
+    }
+
+    // ==================== OPERACIONES TIPADAS (StAX) ====================
+
+    /**
+     * Inserta un nuevo artículo escribiendo y leyendo el sobre con StAX, sin DOM (RF5)
+     *
+     * @return artículo creado
+     * @throws FaultArticuloException si el servidor rechaza la operación (validación, duplicado)
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public RespuestaArticulo insertar(SolicitudArticulo articulo) throws ClienteSoapException {
+        return intercambiar(salida -> EscritorSobreSoap.escribirInsertarArticulo(salida, articulo),
+                (tipoContenido, entrada) -> LectorSobreSoap.leerArticulo(entrada));
+    }
+
+    /**
+     * Consulta un artículo por código escribiendo y leyendo el sobre con StAX, sin DOM (RF6)
+     *
+     * @return artículo encontrado
+     * @throws FaultArticuloException NO_ENCONTRADO si el código no existe
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public RespuestaArticulo consultar(String codigo) throws ClienteSoapException {
+        return intercambiar(salida -> EscritorSobreSoap.escribirConCodigo(salida, "consultarArticulo", codigo),
+                (tipoContenido, entrada) -> LectorSobreSoap.leerArticulo(entrada));
+    }
+
+    /**
+     * Actualiza el artículo con el código de la solicitud, escribiendo y leyendo el sobre con StAX
+     *
+     * @return artículo actualizado
+     * @throws FaultArticuloException si el artículo no existe o los datos no son válidos
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public RespuestaArticulo actualizar(SolicitudArticulo articulo) throws ClienteSoapException {
+        return intercambiar(salida -> EscritorSobreSoap.escribirActualizarArticulo(salida, articulo),
+                (tipoContenido, entrada) -> LectorSobreSoap.leerArticulo(entrada));
+    }
+
+    /**
+     * Verifica si hay stock disponible, escribiendo y leyendo el sobre con StAX (RF7)
+     *
+     * @return true si el stock es mayor a 0
+     * @throws FaultArticuloException NO_ENCONTRADO si el código no existe
+     * @throws ClienteSoapException si falla la comunicación
+     */
+    public boolean hayStock(String codigo) throws ClienteSoapException {
+        return intercambiar(salida -> EscritorSobreSoap.escribirConCodigo(salida, "verificarStock", codigo),
+                (tipoContenido, entrada) -> LectorSobreSoap.leerBooleano(entrada));
+    }
+
+    /**
+     * Envía un mensaje SOAP al servidor por una conexión keep-alive del pool.
+     *
+     * @param soapMessage mensaje a enviar
+     * @return respuesta del servidor, incluidos los SOAP Faults
+     * @throws ClienteSoapException si no hay conexión, vence el tiempo de espera o la respuesta no es SOAP
+     */
+    public SOAPMessage enviar(SOAPMessage soapMessage) throws ClienteSoapException {
+        return intercambiar(soapMessage::writeTo, (tipoContenido, entrada) -> {
+            MimeHeaders cabeceras = new MimeHeaders();
+            cabeceras.addHeader("Content-Type", tipoContenido);
+            return FABRICA_MENSAJES.createMessage(cabeceras, new ByteArrayInputStream(entrada.readAllBytes()));
+        });
+    }
+
+    /**
+     * Escribe el sobre, lo envía y entrega el cuerpo de la respuesta al lector.
+     * Se anuncia Accept-Encoding, se comprime la solicitud si supera el umbral y se descomprime la respuesta.
+     */
+    private <T> T intercambiar(EscritorSobre escritor, LectorRespuesta<T> lector) throws ClienteSoapException {
+        boolean conexionTomada = false;
+        try {
+            ByteArrayOutputStream sobre = new ByteArrayOutputStream(1024);
+            escritor.escribir(sobre);
+            byte[] cuerpo = sobre.toByteArray();
+
+            HttpRequest.Builder solicitud = HttpRequest.newBuilder(endpoint)
+                    .timeout(timeoutRespuesta)
+                    .header("Content-Type", "text/xml; charset=utf-8")
+                    .header("SOAPAction", "\"\"")
+                    .header("Accept-Encoding", "gzip");
+            if (cuerpo.length >= UMBRAL_GZIP) {
+                cuerpo = comprimir(cuerpo);
+                solicitud.header("Content-Encoding", "gzip");
+            }
+            solicitud.POST(HttpRequest.BodyPublishers.ofByteArray(cuerpo));
+
+            // Esperar una conexión libre cuenta dentro del mismo tiempo de espera de la llamada
+            if (!conexionesDisponibles.tryAcquire(timeoutRespuesta.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ClienteSoapException("Sin conexiones disponibles hacia " + endpoint
+                        + " después de " + timeoutRespuesta.toMillis() + " ms");
+            }
+            conexionTomada = true;
+
+            // Los SOAP Faults llegan con HTTP 500 y cuerpo SOAP: el lector los recibe igual que una respuesta normal
+            HttpResponse<InputStream> respuesta = http.send(solicitud.build(), HttpResponse.BodyHandlers.ofInputStream());
+            InputStream entrada = respuesta.body();
+            if ("gzip".equalsIgnoreCase(respuesta.headers().firstValue("Content-Encoding").orElse(null))) {
+                entrada = new GZIPInputStream(entrada);
+            }
+            String tipoContenido = respuesta.headers().firstValue("Content-Type").orElse("text/xml; charset=utf-8");
+            try (InputStream in = entrada) {
+                try {
+                    return lector.leer(tipoContenido, in);
+                } finally {
+                    vaciar(in);
+                }
+            }
+
+        } catch (HttpTimeoutException e) {
+            throw new ClienteSoapException("Tiempo de espera agotado con " + endpoint + ": " + e.getMessage(), e);
+        } catch (IOException | SOAPException | XMLStreamException e) {
+            throw new ClienteSoapException("Error al comunicarse con " + endpoint + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClienteSoapException("Llamada interrumpida", e);
+        } finally {
+            if (conexionTomada) {
+                conexionesDisponibles.release();
+            }
+        }
+    }
+
+    /**
+     * Consume lo que quede de la respuesta para que la conexión keep-alive vuelva al pool.
+     * Si falla, la conexión simplemente no se reutiliza: no debe ocultar el resultado de la llamada.
+     */
+    private static void vaciar(InputStream entrada) {
+        try {
+            entrada.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // La conexión se descarta
+        }
+    }
+
+    /**
+     * Escribe el sobre de la solicitud
+     */
+    @FunctionalInterface
+    private interface EscritorSobre {
+        void escribir(OutputStream salida) throws IOException, SOAPException, XMLStreamException;
+    }
+
+    /**
+     * Interpreta el cuerpo de la respuesta (ya descomprimido)
+     */
+    @FunctionalInterface
+    private interface LectorRespuesta<T> {
+        T leer(String tipoContenido, InputStream entrada)
+                throws IOException, SOAPException, XMLStreamException, ClienteSoapException;
+    }
+
+    /**
+     * Detiene los hilos del transporte; el cliente no puede usarse después
+     */
+    @Override
+    public void close() {
+        ejecutor.shutdownNow();
+    }
+
+    // ==================== MÉTODOS DE CREACIÓN DE MENSAJES SOAP ====================
+
+    /**
+     * Crea mensaje SOAP para insertar artículo
+     */
+    private SOAPMessage crearMensajeInsertarArticulo(
+            String codigo, String nombre, String descripcion, String categoria,
+            BigDecimal precioCompra, BigDecimal precioVenta,
+            int stockActual, int stockMinimo, String proveedor) throws ClienteSoapException {
+        try {
+            SOAPMessage soapMessage = FABRICA_MENSAJES.createMessage();
+            SOAPEnvelope envelope = soapMessage.getSOAPPart().getEnvelope();
+            envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
+
+            SOAPElement operacion = envelope.getBody().addChildElement("insertarArticulo", "ns");
+            agregarArticulo(operacion, codigo, nombre, descripcion, categoria,
+                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor);
+
+            soapMessage.saveChanges();
+            return soapMessage;
+        } catch (SOAPException e) {
+            throw new ClienteSoapException("Error al crear el mensaje insertarArticulo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Crea mensaje SOAP para actualizar artículo
+     */
+    private SOAPMessage crearMensajeActualizarArticulo(
+            String codigo, String nombre, String descripcion, String categoria,
+            BigDecimal precioCompra, BigDecimal precioVenta,
+            int stockActual, int stockMinimo, String proveedor) throws ClienteSoapException {
+        try {
+            SOAPMessage soapMessage = FABRICA_MENSAJES.createMessage();
+            SOAPEnvelope envelope = soapMessage.getSOAPPart().getEnvelope();
+            envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
+
+            SOAPElement operacion = envelope.getBody().addChildElement("actualizarArticulo", "ns");
+            operacion.addChildElement("codigo").addTextNode(codigo);
+            agregarArticulo(operacion, codigo, nombre, descripcion, categoria,
+                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor);
+
+            soapMessage.saveChanges();
+            return soapMessage;
+        } catch (SOAPException e) {
+            throw new ClienteSoapException("Error al crear el mensaje actualizarArticulo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Crea mensaje SOAP de una operación cuyo único parámetro es el código (consultar, verificar stock)
+     */
+    private SOAPMessage crearMensajeConCodigo(String operacionSoap, String codigo) throws ClienteSoapException {
+        try {
+            SOAPMessage soapMessage = FABRICA_MENSAJES.createMessage();
+            SOAPEnvelope envelope = soapMessage.getSOAPPart().getEnvelope();
+            envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
+
+            SOAPElement operacion = envelope.getBody().addChildElement(operacionSoap, "ns");
+            operacion.addChildElement("codigo").addTextNode(codigo);
+
+            soapMessage.saveChanges();
+            return soapMessage;
+        } catch (SOAPException e) {
+            throw new ClienteSoapException("Error al crear el mensaje " + operacionSoap + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Agrega el elemento articuloRequest con los datos del artículo
+     */
+    private static void agregarArticulo(SOAPElement operacion,
+                                        String codigo, String nombre, String descripcion, String categoria,
+                                        BigDecimal precioCompra, BigDecimal precioVenta,
+                                        int stockActual, int stockMinimo, String proveedor) throws SOAPException {
+        SOAPElement request = operacion.addChildElement("articuloRequest");
+        request.addChildElement("codigo", "ns").addTextNode(codigo);
+        request.addChildElement("nombre", "ns").addTextNode(nombre);
+        request.addChildElement("descripcion", "ns").addTextNode(descripcion);
+        request.addChildElement("categoria", "ns").addTextNode(categoria);
+        request.addChildElement("precioCompra", "ns").addTextNode(precioCompra.toString());
+        request.addChildElement("precioVenta", "ns").addTextNode(precioVenta.toString());
+        request.addChildElement("stockActual", "ns").addTextNode(String.valueOf(stockActual));
+        request.addChildElement("stockMinimo", "ns").addTextNode(String.valueOf(stockMinimo));
+        request.addChildElement("proveedor", "ns").addTextNode(proveedor);
+    }
+
+    /**
+     * Comprime el sobre con GZIP
+     */
+    private static byte[] comprimir(byte[] datos) throws IOException {
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream(datos.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+            gzip.write(datos);
+        }
+        return comprimido.toByteArray();
+    }
+
+    private static MessageFactory crearFabricaMensajes() {
+        try {
+            return MessageFactory.newInstance();
+        } catch (SOAPException e) {
+            throw new IllegalStateException("No hay una implementación de SAAJ disponible", e);
+        }
+    }
+
+    /**
+     * Configuración del cliente
+     */
+    public static class Builder {
+
+        static final int MAX_CONEXIONES_POR_DEFECTO = 8;
+
+        private String endpoint = ENDPOINT_POR_DEFECTO;
+        private Duration timeoutConexion = Duration.ofSeconds(5);
+        private Duration timeoutRespuesta = Duration.ofSeconds(30);
+        private int maxConexiones = MAX_CONEXIONES_POR_DEFECTO;
+
+        private Builder() {
+        }
+
+        /**
+         * URL del servicio (por defecto {@value ClienteArticulosSoap#ENDPOINT_POR_DEFECTO})
+         */
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Tiempo máximo para establecer una conexión TCP (por defecto 5 s)
+         */
+        public Builder timeoutConexion(Duration timeoutConexion) {
+            this.timeoutConexion = timeoutConexion;
+            return this;
+        }
+
+        /**
+         * Tiempo máximo de cada llamada, incluida la espera por una conexión libre (por defecto 30 s)
+         */
+        public Builder timeoutRespuesta(Duration timeoutRespuesta) {
+            this.timeoutRespuesta = timeoutRespuesta;
+            return this;
+        }
+
+        /**
+         * Máximo de llamadas simultáneas y, por tanto, de conexiones keep-alive abiertas (por defecto 8)
+         */
+        public Builder maxConexiones(int maxConexiones) {
+            this.maxConexiones = maxConexiones;
+            return this;
+        }
+
+        public ClienteArticulosSoap build() {
+            if (maxConexiones < 1) {
+                throw new IllegalArgumentException("maxConexiones debe ser al menos 1");
+            }
+            return new ClienteArticulosSoap(this);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.ferreteria.cliente;
 
-import javax.xml.namespace.QName;
-import javax.xml.soap.*;
+import javax.xml.soap.SOAPMessage;
 import javax.xml.transform.*;
 import javax.xml.transform.stream.StreamResult;
 import java.io.StringWriter;
@@ -11,14 +10,15 @@ import java.util.Scanner;
 /**
  * Cliente SOAP para consumir los servicios web de gestión de artículos
  * Permite insertar y consultar artículos mediante SOAP (RF5, RF6, RNF10)
+ * Menú interactivo sobre {@link ClienteArticulosSoap}; el endpoint y los tiempos de espera se
+ * configuran con -Dsoap.endpoint, -Dsoap.timeout.conexion-ms y -Dsoap.timeout.respuesta-ms.
  *
  * @author Sistema Ferretería
  * @version 1.0
  */
 public class ClienteSOAP {
 
-    private static final String SOAP_ENDPOINT = "http://localhost:8080/ferreteria/soap/ArticuloService";
-    private static final String NAMESPACE_URI = "http://soap.inventario.ferreteria.com/";
+    private static final ClienteArticulosSoap cliente = ClienteArticulosSoap.desdePropiedadesDelSistema();
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
@@ -60,6 +60,7 @@ public class ClienteSOAP {
         }
 
         scanner.close();
+        cliente.close();
     }
 
     /**
@@ -126,15 +127,12 @@ public class ClienteSOAP {
             System.out.print("Proveedor: ");
             String proveedor = scanner.nextLine();
 
-            // Crear mensaje SOAP
-            SOAPMessage soapMessage = crearMensajeInsertarArticulo(
-                    codigo, nombre, descripcion, categoria,
-                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor
-            );
-
             // Enviar solicitud
             System.out.println("\n⏳ Enviando solicitud al servidor SOAP...");
-            SOAPMessage respuesta = enviarMensajeSOAP(soapMessage);
+            SOAPMessage respuesta = enviar(() -> cliente.insertarArticulo(
+                    codigo, nombre, descripcion, categoria,
+                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor
+            ));
 
             // Procesar respuesta
             if (respuesta != null) {
@@ -160,12 +158,9 @@ public class ClienteSOAP {
             System.out.print("\nIngrese el código del artículo: ");
             String codigo = scanner.nextLine().toUpperCase();
 
-            // Crear mensaje SOAP
-            SOAPMessage soapMessage = crearMensajeConsultarArticulo(codigo);
-
             // Enviar solicitud
             System.out.println("\n⏳ Consultando artículo...");
-            SOAPMessage respuesta = enviarMensajeSOAP(soapMessage);
+            SOAPMessage respuesta = enviar(() -> cliente.consultarArticulo(codigo));
 
             // Procesar respuesta
             if (respuesta != null) {
@@ -214,15 +209,12 @@ public class ClienteSOAP {
             System.out.print("Nuevo proveedor: ");
             String proveedor = scanner.nextLine();
 
-            // Crear mensaje SOAP
-            SOAPMessage soapMessage = crearMensajeActualizarArticulo(
-                    codigo, nombre, descripcion, categoria,
-                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor
-            );
-
             // Enviar solicitud
             System.out.println("\n⏳ Actualizando artículo...");
-            SOAPMessage respuesta = enviarMensajeSOAP(soapMessage);
+            SOAPMessage respuesta = enviar(() -> cliente.actualizarArticulo(
+                    codigo, nombre, descripcion, categoria,
+                    precioCompra, precioVenta, stockActual, stockMinimo, proveedor
+            ));
 
             // Procesar respuesta
             if (respuesta != null) {
@@ -247,12 +239,9 @@ public class ClienteSOAP {
             System.out.print("\nIngrese el código del artículo: ");
             String codigo = scanner.nextLine().toUpperCase();
 
-            // Crear mensaje SOAP
-            SOAPMessage soapMessage = crearMensajeVerificarStock(codigo);
-
             // Enviar solicitud
             System.out.println("\n⏳ Verificando stock...");
-            SOAPMessage respuesta = enviarMensajeSOAP(soapMessage);
+            SOAPMessage respuesta = enviar(() -> cliente.verificarStock(codigo));
 
             // Procesar respuesta
             if (respuesta != null) {
@@ -265,79 +254,28 @@ public class ClienteSOAP {
         }
     }
 
-    // ==================== MÉTODOS DE CREACIÓN DE MENSAJES SOAP ====================
+    // ==================== MÉTODOS DE ENVÍO Y PROCESAMIENTO ====================
 
     /**
-     * Crea mensaje SOAP para insertar artículo
+     * Llamada al cliente SOAP
      */
-    private static SOAPMessage crearMensajeInsertarArticulo(
-            String codigo, String nombre, String descripcion, String categoria,
-            BigDecimal precioCompra, BigDecimal precioVenta,
-            int stockActual, int stockMinimo, String proveedor) throws Exception {
-
-        MessageFactory messageFactory = MessageFactory.newInstance();
-        SOAPMessage soapMessage = messageFactory.createMessage();
-        SOAPPart soapPart = soapMessage.getSOAPPart();
-
-        SOAPEnvelope envelope = soapPart.getEnvelope();
-        envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
-
-        SOAPBody soapBody = envelope.getBody();
-        SOAPElement operacion = soapBody.addChildElement("insertarArticulo", "ns");
-
-        SOAPElement request = operacion.addChildElement("articuloRequest", "ns");
-        request.addChildElement("codigo", "ns").addTextNode(codigo);
-        request.addChildElement("nombre", "ns").addTextNode(nombre);
-        request.addChildElement("descripcion", "ns").addTextNode(descripcion);
-        request.addChildElement("categoria", "ns").addTextNode(categoria);
-        request.addChildElement("precioCompra", "ns").addTextNode(precioCompra.toString());
-        request.addChildElement("precioVenta", "ns").addTextNode(precioVenta.toString());
-        request.addChildElement("stockActual", "ns").addTextNode(String.valueOf(stockActual));
-        request.addChildElement("stockMinimo", "ns").addTextNode(String.valueOf(stockMinimo));
-        request.addChildElement("proveedor", "ns").addTextNode(proveedor);
-
-        soapMessage.saveChanges();
-        return soapMessage;
+    @FunctionalInterface
+    private interface LlamadaSoap {
+        SOAPMessage ejecutar() throws ClienteSoapException;
     }
 
     /**
-     * Crea mensaje SOAP para verificar stock
+     * Ejecuta la llamada mostrando los errores de comunicación
+     *
+     * @return respuesta del servidor, o null si no se pudo comunicar
      */
-    private static SOAPMessage crearMensajeVerificarStock(String codigo) throws Exception {
-        MessageFactory messageFactory = MessageFactory.newInstance();
-        SOAPMessage soapMessage = messageFactory.createMessage();
-        SOAPPart soapPart = soapMessage.getSOAPPart();
-
-        SOAPEnvelope envelope = soapPart.getEnvelope();
-        envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
-
-        SOAPBody soapBody = envelope.getBody();
-        SOAPElement operacion = soapBody.addChildElement("verificarStock", "ns");
-        operacion.addChildElement("codigo", "ns").addTextNode(codigo);
-
-        soapMessage.saveChanges();
-        return soapMessage;
-    }
-
-    // ==================== MÉTODOS DE ENVÍO Y PROCESAMIENTO ====================
-
-    /**
-     * Envía un mensaje SOAP al servidor
-     */
-    private static SOAPMessage enviarMensajeSOAP(SOAPMessage soapMessage) {
+    private static SOAPMessage enviar(LlamadaSoap llamada) {
         try {
-            SOAPConnectionFactory soapConnectionFactory = SOAPConnectionFactory.newInstance();
-            SOAPConnection soapConnection = soapConnectionFactory.createConnection();
-
-            SOAPMessage soapResponse = soapConnection.call(soapMessage, SOAP_ENDPOINT);
-
-            soapConnection.close();
-            return soapResponse;
-
-        } catch (Exception e) {
+            return llamada.ejecutar();
+        } catch (ClienteSoapException e) {
             System.err.println("\n✗ Error al comunicarse con el servidor SOAP:");
             System.err.println("   " + e.getMessage());
-            System.err.println("\n⚠️  Asegúrese de que el servidor esté ejecutándose en: " + SOAP_ENDPOINT);
+            System.err.println("\n⚠️  Asegúrese de que el servidor esté ejecutándose en: " + cliente.getEndpoint());
             return null;
         }
     }
@@ -366,57 +304,4 @@ public class ClienteSOAP {
             System.err.println("Error al mostrar respuesta: " + e.getMessage());
         }
     }
-}(proveedor);
-
-        soapMessage.saveChanges();
-        return soapMessage;
-    }
-
-/**
- * Crea mensaje SOAP para consultar artículo
- */
-private static SOAPMessage crearMensajeConsultarArticulo(String codigo) throws Exception {
-    MessageFactory messageFactory = MessageFactory.newInstance();
-    SOAPMessage soapMessage = messageFactory.createMessage();
-    SOAPPart soapPart = soapMessage.getSOAPPart();
-
-    SOAPEnvelope envelope = soapPart.getEnvelope();
-    envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
-
-    SOAPBody soapBody = envelope.getBody();
-    SOAPElement operacion = soapBody.addChildElement("consultarArticulo", "ns");
-    operacion.addChildElement("codigo", "ns").addTextNode(codigo);
-
-    soapMessage.saveChanges();
-    return soapMessage;
 }
-
-/**
- * Crea mensaje SOAP para actualizar artículo
- */
-private static SOAPMessage crearMensajeActualizarArticulo(
-        String codigo, String nombre, String descripcion, String categoria,
-        BigDecimal precioCompra, BigDecimal precioVenta,
-        int stockActual, int stockMinimo, String proveedor) throws Exception {
-
-    MessageFactory messageFactory = MessageFactory.newInstance();
-    SOAPMessage soapMessage = messageFactory.createMessage();
-    SOAPPart soapPart = soapMessage.getSOAPPart();
-
-    SOAPEnvelope envelope = soapPart.getEnvelope();
-    envelope.addNamespaceDeclaration("ns", NAMESPACE_URI);
-
-    SOAPBody soapBody = envelope.getBody();
-    SOAPElement operacion = soapBody.addChildElement("actualizarArticulo", "ns");
-    operacion.addChildElement("codigo", "ns").addTextNode(codigo);
-
-    SOAPElement request = operacion.addChildElement("articuloRequest", "ns");
-    request.addChildElement("codigo", "ns").addTextNode(codigo);
-    request.addChildElement("nombre", "ns").addTextNode(nombre);
-    request.addChildElement("descripcion", "ns").addTextNode(descripcion);
-    request.addChildElement("categoria", "ns").addTextNode(categoria);
-    request.addChildElement("precioCompra", "ns").addTextNode(precioCompra.toString());
-    request.addChildElement("precioVenta", "ns").addTextNode(precioVenta.toString());
-    request.addChildElement("stockActual", "ns").addTextNode(String.valueOf(stockActual));
-    request.addChildElement("stockMinimo", "ns").addTextNode(String.valueOf(stockMinimo));
-    request.addChildElement("proveedor", "ns").addTextNode
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.ferreteria.cliente;
+
+/**
+ * Error de comunicación con el servicio SOAP de artículos (conexión, tiempo de espera, respuesta ilegible)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class ClienteSoapException extends Exception {
+
+    public ClienteSoapException(String mensaje) {
+        super(mensaje);
+    }
+
+    public ClienteSoapException(String mensaje, Throwable causa) {
+        super(mensaje, causa);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ferreteria.cliente;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+/**
+ * Escribe los sobres SOAP de las operaciones de artículos directamente sobre un flujo de bytes con StAX,
+ * sin construir un árbol DOM ni un String intermedio (RNF2). Produce el mismo XML que los mensajes SAAJ
+ * de {@link ClienteArticulosSoap}: la operación y los campos del artículo en el espacio de nombres del
+ * servicio, y los parámetros (codigo, articuloRequest) sin espacio de nombres.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+final class EscritorSobreSoap {
+
+    static final String SOAP_ENV_URI = "http://schemas.xmlsoap.org/soap/envelope/";
+
+    /**
+     * Las fábricas de StAX del JDK son seguras para hilos una vez configuradas
+     */
+    private static final XMLOutputFactory FABRICA = XMLOutputFactory.newFactory();
+
+    private EscritorSobreSoap() {
+    }
+
+    static void escribirInsertarArticulo(OutputStream salida, SolicitudArticulo articulo) throws XMLStreamException {
+        XMLStreamWriter xml = abrirOperacion(salida, "insertarArticulo");
+        escribirArticulo(xml, articulo);
+        cerrar(xml);
+    }
+
+    static void escribirActualizarArticulo(OutputStream salida, SolicitudArticulo articulo) throws XMLStreamException {
+        XMLStreamWriter xml = abrirOperacion(salida, "actualizarArticulo");
+        escribirParametro(xml, "codigo", articulo.getCodigo());
+        escribirArticulo(xml, articulo);
+        cerrar(xml);
+    }
+
+    /**
+     * Operación cuyo único parámetro es el código (consultarArticulo, verificarStock)
+     */
+    static void escribirConCodigo(OutputStream salida, String operacion, String codigo) throws XMLStreamException {
+        XMLStreamWriter xml = abrirOperacion(salida, operacion);
+        escribirParametro(xml, "codigo", codigo);
+        cerrar(xml);
+    }
+
+    private static XMLStreamWriter abrirOperacion(OutputStream salida, String operacion) throws XMLStreamException {
+        XMLStreamWriter xml = FABRICA.createXMLStreamWriter(salida, "UTF-8");
+        xml.writeStartElement("soapenv", "Envelope", SOAP_ENV_URI);
+        xml.writeNamespace("soapenv", SOAP_ENV_URI);
+        xml.writeNamespace("ns", ClienteArticulosSoap.NAMESPACE_URI);
+        xml.writeStartElement("soapenv", "Body", SOAP_ENV_URI);
+        xml.writeStartElement("ns", operacion, ClienteArticulosSoap.NAMESPACE_URI);
+        return xml;
+    }
+
+    private static void escribirArticulo(XMLStreamWriter xml, SolicitudArticulo articulo) throws XMLStreamException {
+        xml.writeStartElement("articuloRequest");
+        escribirCampo(xml, "codigo", articulo.getCodigo());
+        escribirCampo(xml, "nombre", articulo.getNombre());
+        escribirCampo(xml, "descripcion", articulo.getDescripcion());
+        escribirCampo(xml, "categoria", articulo.getCategoria());
+        escribirCampo(xml, "precioCompra", articulo.getPrecioCompra());
+        escribirCampo(xml, "precioVenta", articulo.getPrecioVenta());
+        escribirCampo(xml, "stockActual", Integer.toString(articulo.getStockActual()));
+        escribirCampo(xml, "stockMinimo", Integer.toString(articulo.getStockMinimo()));
+        escribirCampo(xml, "proveedor", articulo.getProveedor());
+        xml.writeEndElement();
+    }
+
+    /**
+     * Parámetro de la operación, sin espacio de nombres (estilo document/literal wrapped de JAX-WS)
+     */
+    private static void escribirParametro(XMLStreamWriter xml, String nombre, String valor) throws XMLStreamException {
+        xml.writeStartElement(nombre);
+        xml.writeCharacters(valor);
+        xml.writeEndElement();
+    }
+
+    /**
+     * Campo del artículo en el espacio de nombres del servicio; los valores nulos se omiten
+     */
+    private static void escribirCampo(XMLStreamWriter xml, String nombre, String valor) throws XMLStreamException {
+        if (valor != null) {
+            xml.writeStartElement("ns", nombre, ClienteArticulosSoap.NAMESPACE_URI);
+            xml.writeCharacters(valor);
+            xml.writeEndElement();
+        }
+    }
+
+    private static void escribirCampo(XMLStreamWriter xml, String nombre, BigDecimal valor) throws XMLStreamException {
+        // xs:decimal no admite notación científica: 1E+3 se escribe 1000
+        escribirCampo(xml, nombre, valor != null ? valor.toPlainString() : null);
+    }
+
+    private static void cerrar(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeEndDocument();
+        xml.flush();
+        xml.close();
+    }
+}
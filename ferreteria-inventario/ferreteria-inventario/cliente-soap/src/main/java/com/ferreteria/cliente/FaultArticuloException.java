@@ -0,0 +1,39 @@
+package com.ferreteria.cliente;
+
+/**
+ * SOAP Fault devuelto por el servicio de artículos (RF10): el servidor respondió, pero rechazó la operación
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class FaultArticuloException extends ClienteSoapException {
+
+    private final String codigoFault;
+    private final String codigoError;
+    private final String detalle;
+
+    public FaultArticuloException(String mensaje, String codigoFault, String codigoError, String detalle) {
+        super(mensaje);
+        this.codigoFault = codigoFault;
+        this.codigoError = codigoError;
+        this.detalle = detalle;
+    }
+
+    /**
+     * faultcode del sobre (soap:Client o soap:Server)
+     */
+    public String getCodigoFault() {
+        return codigoFault;
+    }
+
+    /**
+     * Código de error del negocio (NO_ENCONTRADO, VALIDACION, DUPLICADO...); null si el fault no trae detalle
+     */
+    public String getCodigoError() {
+        return codigoError;
+    }
+
+    public String getDetalle() {
+        return detalle;
+    }
+}
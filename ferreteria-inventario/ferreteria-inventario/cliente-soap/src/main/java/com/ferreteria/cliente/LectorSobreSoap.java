@@ -0,0 +1,205 @@
+package com.ferreteria.cliente;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+/**
+ * Lee las respuestas SOAP del servicio de artículos con un parser de extracción (StAX) directamente del
+ * flujo HTTP, sin árbol DOM ni copia del documento en un String (RNF2). Los campos de ArticuloResponse se
+ * asignan a {@link RespuestaArticulo} a medida que aparecen; los desconocidos se ignoran. Un SOAP Fault
+ * se convierte en {@link FaultArticuloException}.
+ * <p>
+ * Usa la implementación de StAX que haya en el classpath. Con Woodstox (la misma que usa CXF en el
+ * servidor) leer un artículo asigna unos 3 KB; el parser incluido en el JDK reserva sus búferes en cada
+ * lector y ronda los 45 KB, aun así por debajo de los ~90 KB del DOM de SAAJ.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+final class LectorSobreSoap {
+
+    /**
+     * Sin DTD ni entidades externas: la respuesta no debe poder leer archivos ni abrir conexiones (XXE)
+     */
+    private static final XMLInputFactory FABRICA = crearFabrica();
+
+    private LectorSobreSoap() {
+    }
+
+    /**
+     * Lee la respuesta de insertarArticulo, consultarArticulo o actualizarArticulo
+     *
+     * @throws FaultArticuloException si el servidor respondió con un SOAP Fault
+     * @throws XMLStreamException si la respuesta no es un sobre SOAP válido
+     */
+    static RespuestaArticulo leerArticulo(InputStream entrada) throws XMLStreamException, FaultArticuloException {
+        XMLStreamReader xml = FABRICA.createXMLStreamReader(entrada);
+        try {
+            avanzarAlResultado(xml);
+            RespuestaArticulo articulo = new RespuestaArticulo();
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                try {
+                    asignarCampo(xml, articulo);
+                } catch (NumberFormatException e) {
+                    throw new XMLStreamException("Valor numérico inválido: " + e.getMessage(), xml.getLocation(), e);
+                }
+            }
+            return articulo;
+        } finally {
+            xml.close();
+        }
+    }
+
+    /**
+     * Lee la respuesta de verificarStock
+     *
+     * @throws FaultArticuloException si el servidor respondió con un SOAP Fault
+     * @throws XMLStreamException si la respuesta no es un sobre SOAP válido
+     */
+    static boolean leerBooleano(InputStream entrada) throws XMLStreamException, FaultArticuloException {
+        XMLStreamReader xml = FABRICA.createXMLStreamReader(entrada);
+        try {
+            avanzarAlResultado(xml);
+            return Boolean.parseBoolean(xml.getElementText().trim());
+        } finally {
+            xml.close();
+        }
+    }
+
+    /**
+     * Deja el lector en el inicio del elemento de resultado dentro del wrapper de respuesta
+     * (Envelope / Body / xxxResponse / resultado)
+     */
+    private static void avanzarAlResultado(XMLStreamReader xml) throws XMLStreamException, FaultArticuloException {
+        while (!(xml.isStartElement() && "Body".equals(xml.getLocalName())
+                && EscritorSobreSoap.SOAP_ENV_URI.equals(xml.getNamespaceURI()))) {
+            if (!xml.hasNext()) {
+                throw new XMLStreamException("La respuesta no contiene soap:Body");
+            }
+            xml.next();
+        }
+        xml.nextTag();
+        if ("Fault".equals(xml.getLocalName())) {
+            throw leerFault(xml);
+        }
+        if (xml.nextTag() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("La respuesta no contiene resultado", xml.getLocation());
+        }
+    }
+
+    private static void asignarCampo(XMLStreamReader xml, RespuestaArticulo articulo) throws XMLStreamException {
+        switch (xml.getLocalName()) {
+            case "id":
+                articulo.id = Long.valueOf(xml.getElementText().trim());
+                break;
+            case "codigo":
+                articulo.codigo = xml.getElementText();
+                break;
+            case "nombre":
+                articulo.nombre = xml.getElementText();
+                break;
+            case "descripcion":
+                articulo.descripcion = xml.getElementText();
+                break;
+            case "categoria":
+                articulo.categoria = xml.getElementText();
+                break;
+            case "precioCompra":
+                articulo.precioCompra = new BigDecimal(xml.getElementText().trim());
+                break;
+            case "precioVenta":
+                articulo.precioVenta = new BigDecimal(xml.getElementText().trim());
+                break;
+            case "stockActual":
+                articulo.stockActual = Integer.valueOf(xml.getElementText().trim());
+                break;
+            case "stockMinimo":
+                articulo.stockMinimo = Integer.valueOf(xml.getElementText().trim());
+                break;
+            case "proveedor":
+                articulo.proveedor = xml.getElementText();
+                break;
+            case "fechaRegistro":
+                articulo.fechaRegistro = xml.getElementText();
+                break;
+            case "fechaActualizacion":
+                articulo.fechaActualizacion = xml.getElementText();
+                break;
+            case "activo":
+                articulo.activo = Boolean.valueOf(xml.getElementText().trim());
+                break;
+            case "tieneStockBajo":
+                articulo.tieneStockBajo = Boolean.valueOf(xml.getElementText().trim());
+                break;
+            case "margenGanancia":
+                articulo.margenGanancia = new BigDecimal(xml.getElementText().trim());
+                break;
+            case "mensaje":
+                articulo.mensaje = xml.getElementText();
+                break;
+            default:
+                saltarElemento(xml);
+        }
+    }
+
+    /**
+     * Lee faultcode, faultstring y, si vienen en el detail, el codigoError y el detalle del ArticuloSoapFault
+     */
+    private static FaultArticuloException leerFault(XMLStreamReader xml) throws XMLStreamException {
+        String codigoFault = null;
+        String mensaje = null;
+        String codigoError = null;
+        String detalle = null;
+        int profundidad = 1;
+        while (profundidad > 0) {
+            int evento = xml.next();
+            if (evento == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "faultcode":
+                        codigoFault = xml.getElementText().trim();
+                        break;
+                    case "faultstring":
+                        mensaje = xml.getElementText();
+                        break;
+                    case "codigoError":
+                        codigoError = xml.getElementText();
+                        break;
+                    case "detalle":
+                        detalle = xml.getElementText();
+                        break;
+                    default:
+                        profundidad++;
+                }
+            } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                profundidad--;
+            }
+        }
+        return new FaultArticuloException(mensaje, codigoFault, codigoError, detalle);
+    }
+
+    /**
+     * Salta el elemento actual completo, incluidos sus hijos
+     */
+    private static void saltarElemento(XMLStreamReader xml) throws XMLStreamException {
+        int profundidad = 1;
+        while (profundidad > 0) {
+            int evento = xml.next();
+            if (evento == XMLStreamConstants.START_ELEMENT) {
+                profundidad++;
+            } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                profundidad--;
+            }
+        }
+    }
+
+    private static XMLInputFactory crearFabrica() {
+        XMLInputFactory fabrica = XMLInputFactory.newFactory();
+        fabrica.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        fabrica.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return fabrica;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ferreteria.cliente;
+
+import java.math.BigDecimal;
+
+/**
+ * Artículo devuelto por el servicio (ArticuloResponse), leído campo a campo del sobre SOAP (RF6)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class RespuestaArticulo {
+
+    Long id;
+    String codigo;
+    String nombre;
+    String descripcion;
+    String categoria;
+    BigDecimal precioCompra;
+    BigDecimal precioVenta;
+    Integer stockActual;
+    Integer stockMinimo;
+    String proveedor;
+    String fechaRegistro;
+    String fechaActualizacion;
+    Boolean activo;
+    Boolean tieneStockBajo;
+    BigDecimal margenGanancia;
+    String mensaje;
+
+    RespuestaArticulo() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public BigDecimal getPrecioCompra() {
+        return precioCompra;
+    }
+
+    public BigDecimal getPrecioVenta() {
+        return precioVenta;
+    }
+
+    public Integer getStockActual() {
+        return stockActual;
+    }
+
+    public Integer getStockMinimo() {
+        return stockMinimo;
+    }
+
+    public String getProveedor() {
+        return proveedor;
+    }
+
+    /**
+     * Fecha de registro en formato ISO, tal como la envía el servidor
+     */
+    public String getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public String getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public Boolean getTieneStockBajo() {
+        return tieneStockBajo;
+    }
+
+    public BigDecimal getMargenGanancia() {
+        return margenGanancia;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    @Override
+    public String toString() {
+        return "RespuestaArticulo{id=" + id + ", codigo=" + codigo + ", nombre=" + nombre
+                + ", stockActual=" + stockActual + ", precioVenta=" + precioVenta + "}";
+    }
+}
@@ -0,0 +1,72 @@
+package com.ferreteria.cliente;
+
+import java.math.BigDecimal;
+
+/**
+ * Datos de un artículo que se envían como articuloRequest en insertarArticulo y actualizarArticulo (RF5)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class SolicitudArticulo {
+
+    private final String codigo;
+    private final String nombre;
+    private final String descripcion;
+    private final String categoria;
+    private final BigDecimal precioCompra;
+    private final BigDecimal precioVenta;
+    private final int stockActual;
+    private final int stockMinimo;
+    private final String proveedor;
+
+    public SolicitudArticulo(String codigo, String nombre, String descripcion, String categoria,
+                             BigDecimal precioCompra, BigDecimal precioVenta,
+                             int stockActual, int stockMinimo, String proveedor) {
+        this.codigo = codigo;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.categoria = categoria;
+        this.precioCompra = precioCompra;
+        this.precioVenta = precioVenta;
+        this.stockActual = stockActual;
+        this.stockMinimo = stockMinimo;
+        this.proveedor = proveedor;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public BigDecimal getPrecioCompra() {
+        return precioCompra;
+    }
+
+    public BigDecimal getPrecioVenta() {
+        return precioVenta;
+    }
+
+    public int getStockActual() {
+        return stockActual;
+    }
+
+    public int getStockMinimo() {
+        return stockMinimo;
+    }
+
+    public String getProveedor() {
+        return proveedor;
+    }
+}
@@ -0,0 +1,187 @@
+package com.ferreteria.cliente;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.soap.SOAPMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del transporte HTTP del cliente contra un servidor local que responde sobres fijos (RNF2, RNF10):
+ * compresión GZIP en ambos sentidos, SOAP Faults con HTTP 500 y respuestas vacías
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class ClienteArticulosSoapTest {
+
+    private HttpServer servidor;
+    private ClienteArticulosSoap cliente;
+
+    /**
+     * Respuesta que devolverá el servidor en la próxima llamada
+     */
+    private volatile int estadoRespuesta;
+    private volatile String cuerpoRespuesta;
+    private volatile boolean comprimirRespuesta;
+
+    /**
+     * Lo que recibió el servidor en la última llamada (cuerpo ya descomprimido)
+     */
+    private volatile String solicitudRecibida;
+    private volatile String codificacionSolicitud;
+    private volatile String aceptaCodificacion;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        servidor.createContext("/soap/ArticuloService", this::responder);
+        servidor.start();
+        cliente = ClienteArticulosSoap.builder()
+                .endpoint("http://localhost:" + servidor.getAddress().getPort() + "/soap/ArticuloService")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cliente.close();
+        servidor.stop(0);
+    }
+
+    @Test
+    @DisplayName("RF6: consultar lee una respuesta comprimida con GZIP")
+    void testConsultarRespuestaGzip() throws Exception {
+        // Arrange
+        prepararRespuesta(200, SobresDePrueba.RESPUESTA_ARTICULO, true);
+
+        // Act
+        RespuestaArticulo articulo = cliente.consultar("MART-001");
+
+        // Assert
+        assertEquals("MART-001", articulo.getCodigo());
+        assertEquals(new BigDecimal("1200.00"), articulo.getPrecioVenta());
+        assertEquals("gzip", aceptaCodificacion);
+        assertNull(codificacionSolicitud, "Una solicitud pequeña no se comprime");
+        assertTrue(solicitudRecibida.contains("consultarArticulo"));
+        assertTrue(solicitudRecibida.contains("<codigo>MART-001</codigo>"));
+    }
+
+    @Test
+    @DisplayName("RF7: hayStock lee una respuesta sin comprimir")
+    void testHayStock() throws Exception {
+        prepararRespuesta(200, SobresDePrueba.RESPUESTA_STOCK, false);
+
+        assertTrue(cliente.hayStock("MART-001"));
+        assertTrue(solicitudRecibida.contains("verificarStock"));
+    }
+
+    @Test
+    @DisplayName("RF10: un SOAP Fault con HTTP 500 y GZIP se lanza como FaultArticuloException")
+    void testFaultComprimido() {
+        // Arrange
+        prepararRespuesta(500, SobresDePrueba.FAULT_NO_ENCONTRADO, true);
+
+        // Act
+        FaultArticuloException fault = assertThrows(FaultArticuloException.class,
+                () -> cliente.hayStock("NO-EXISTE"));
+
+        // Assert
+        assertEquals("NO_ENCONTRADO", fault.getCodigoError());
+        assertEquals("Artículo no existe", fault.getDetalle());
+    }
+
+    @Test
+    @DisplayName("RF5: una solicitud que supera el umbral se envía comprimida con GZIP")
+    void testInsertarSolicitudGzip() throws Exception {
+        // Arrange
+        prepararRespuesta(200, SobresDePrueba.RESPUESTA_ARTICULO, true);
+        String descripcion = "Martillo de carpintero con mango de fibra. ".repeat(40);
+        SolicitudArticulo articulo = new SolicitudArticulo("MART-001", "Martillo", descripcion, "Herramientas",
+                new BigDecimal("800"), new BigDecimal("1200"), 10, 2, "Proveedor S.A.");
+
+        // Act
+        RespuestaArticulo respuesta = cliente.insertar(articulo);
+
+        // Assert
+        assertEquals(7L, respuesta.getId());
+        assertEquals("gzip", codificacionSolicitud);
+        assertTrue(solicitudRecibida.contains("insertarArticulo"));
+        assertTrue(solicitudRecibida.contains(descripcion.trim()));
+    }
+
+    @Test
+    @DisplayName("Un cuerpo de respuesta vacío es un error de comunicación, no un fault")
+    void testRespuestaVacia() {
+        prepararRespuesta(200, "", false);
+
+        ClienteSoapException error = assertThrows(ClienteSoapException.class, () -> cliente.consultar("MART-001"));
+        assertFalse(error instanceof FaultArticuloException);
+    }
+
+    @Test
+    @DisplayName("Un soap:Body vacío comprimido es un error de comunicación")
+    void testBodyVacioGzip() {
+        prepararRespuesta(200, "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body/></soap:Envelope>", true);
+
+        ClienteSoapException error = assertThrows(ClienteSoapException.class, () -> cliente.hayStock("MART-001"));
+        assertFalse(error instanceof FaultArticuloException);
+    }
+
+    @Test
+    @DisplayName("RF10: la variante SAAJ devuelve el SOAP Fault comprimido como mensaje")
+    void testEnviarSaajFaultGzip() throws Exception {
+        prepararRespuesta(500, SobresDePrueba.FAULT_NO_ENCONTRADO, true);
+
+        SOAPMessage respuesta = cliente.consultarArticulo("NO-EXISTE");
+
+        assertTrue(respuesta.getSOAPBody().hasFault());
+        assertEquals("soap:Server", respuesta.getSOAPBody().getFault().getFaultCode());
+    }
+
+    private void prepararRespuesta(int estado, String cuerpo, boolean gzip) {
+        this.estadoRespuesta = estado;
+        this.cuerpoRespuesta = cuerpo;
+        this.comprimirRespuesta = gzip;
+    }
+
+    private void responder(HttpExchange intercambio) throws IOException {
+        codificacionSolicitud = intercambio.getRequestHeaders().getFirst("Content-Encoding");
+        aceptaCodificacion = intercambio.getRequestHeaders().getFirst("Accept-Encoding");
+        InputStream entrada = intercambio.getRequestBody();
+        if ("gzip".equals(codificacionSolicitud)) {
+            entrada = new GZIPInputStream(entrada);
+        }
+        solicitudRecibida = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+
+        byte[] cuerpo = cuerpoRespuesta.getBytes(StandardCharsets.UTF_8);
+        if (comprimirRespuesta) {
+            ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+                gzip.write(cuerpo);
+            }
+            cuerpo = comprimido.toByteArray();
+            intercambio.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        intercambio.getResponseHeaders().add("Content-Type", "text/xml; charset=utf-8");
+        intercambio.sendResponseHeaders(estadoRespuesta, cuerpo.length == 0 ? -1 : cuerpo.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(cuerpo);
+        }
+    }
+}
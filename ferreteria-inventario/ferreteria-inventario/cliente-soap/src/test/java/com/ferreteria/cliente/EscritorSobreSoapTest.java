@@ -0,0 +1,151 @@
+package com.ferreteria.cliente;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.soap.MessageFactory;
+import javax.xml.soap.MimeHeaders;
+import javax.xml.soap.SOAPBody;
+import javax.xml.soap.SOAPElement;
+import javax.xml.soap.SOAPMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de ida y vuelta del escritor StAX: el sobre escrito se vuelve a leer con SAAJ (RNF10)
+ * para comprobar que el servidor recibe el mismo XML que con los mensajes SAAJ del cliente
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class EscritorSobreSoapTest {
+
+    private static final String NS = ClienteArticulosSoap.NAMESPACE_URI;
+
+    @Test
+    @DisplayName("RF6: consultarArticulo lleva la operación calificada y el código sin espacio de nombres")
+    void testEscribirConCodigo() throws Exception {
+        // Arrange
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        EscritorSobreSoap.escribirConCodigo(salida, "consultarArticulo", "MART-001");
+        SOAPBody body = leerConSaaj(salida.toByteArray());
+
+        // Assert
+        SOAPElement operacion = unicoHijo(body);
+        assertEquals("consultarArticulo", operacion.getLocalName());
+        assertEquals(NS, operacion.getNamespaceURI());
+
+        SOAPElement codigo = unicoHijo(operacion);
+        assertEquals("codigo", codigo.getLocalName());
+        assertTrue(sinEspacioDeNombres(codigo));
+        assertEquals("MART-001", codigo.getValue());
+    }
+
+    @Test
+    @DisplayName("RF5: insertarArticulo lleva articuloRequest sin espacio de nombres y sus campos calificados")
+    void testEscribirInsertarArticulo() throws Exception {
+        // Arrange
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        SolicitudArticulo articulo = new SolicitudArticulo("MART-001", "Martillo <acero> & mango",
+                "Martillo de carpintero", "Herramientas", new BigDecimal("1E+3"), new BigDecimal("1500.50"),
+                10, 2, "Proveedor S.A.");
+
+        // Act
+        EscritorSobreSoap.escribirInsertarArticulo(salida, articulo);
+        SOAPBody body = leerConSaaj(salida.toByteArray());
+
+        // Assert
+        SOAPElement operacion = unicoHijo(body);
+        assertEquals("insertarArticulo", operacion.getLocalName());
+        assertEquals(NS, operacion.getNamespaceURI());
+
+        SOAPElement request = unicoHijo(operacion);
+        assertEquals("articuloRequest", request.getLocalName());
+        assertTrue(sinEspacioDeNombres(request));
+
+        List<SOAPElement> campos = hijos(request);
+        assertEquals(9, campos.size());
+        campos.forEach(campo -> assertEquals(NS, campo.getNamespaceURI(), campo.getLocalName()));
+        assertEquals("Martillo <acero> & mango", valor(request, "nombre"));
+        // xs:decimal no admite notación científica
+        assertEquals("1000", valor(request, "precioCompra"));
+        assertEquals("1500.50", valor(request, "precioVenta"));
+        assertEquals("10", valor(request, "stockActual"));
+        assertEquals("2", valor(request, "stockMinimo"));
+    }
+
+    @Test
+    @DisplayName("actualizarArticulo lleva el código como parámetro y omite los campos nulos")
+    void testEscribirActualizarArticulo() throws Exception {
+        // Arrange
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        SolicitudArticulo articulo = new SolicitudArticulo("MART-001", "Martillo", null, "Herramientas",
+                new BigDecimal("800"), new BigDecimal("1200"), 5, 1, null);
+
+        // Act
+        EscritorSobreSoap.escribirActualizarArticulo(salida, articulo);
+        SOAPBody body = leerConSaaj(salida.toByteArray());
+
+        // Assert
+        SOAPElement operacion = unicoHijo(body);
+        assertEquals("actualizarArticulo", operacion.getLocalName());
+
+        List<SOAPElement> parametros = hijos(operacion);
+        assertEquals(2, parametros.size());
+        assertEquals("codigo", parametros.get(0).getLocalName());
+        assertTrue(sinEspacioDeNombres(parametros.get(0)));
+        assertEquals("MART-001", parametros.get(0).getValue());
+        assertEquals("articuloRequest", parametros.get(1).getLocalName());
+
+        List<SOAPElement> campos = hijos(parametros.get(1));
+        assertEquals(7, campos.size());
+        assertTrue(campos.stream().noneMatch(c -> c.getLocalName().equals("descripcion")
+                || c.getLocalName().equals("proveedor")));
+    }
+
+    private static SOAPBody leerConSaaj(byte[] sobre) throws Exception {
+        MimeHeaders cabeceras = new MimeHeaders();
+        cabeceras.addHeader("Content-Type", "text/xml; charset=utf-8");
+        SOAPMessage mensaje = MessageFactory.newInstance().createMessage(cabeceras, new ByteArrayInputStream(sobre));
+        return mensaje.getSOAPBody();
+    }
+
+    private static List<SOAPElement> hijos(SOAPElement padre) {
+        List<SOAPElement> elementos = new ArrayList<>();
+        Iterator<?> it = padre.getChildElements();
+        while (it.hasNext()) {
+            Object nodo = it.next();
+            if (nodo instanceof SOAPElement) {
+                elementos.add((SOAPElement) nodo);
+            }
+        }
+        return elementos;
+    }
+
+    private static SOAPElement unicoHijo(SOAPElement padre) {
+        List<SOAPElement> elementos = hijos(padre);
+        assertEquals(1, elementos.size(), "Se esperaba un único hijo en " + padre.getLocalName());
+        return elementos.get(0);
+    }
+
+    private static String valor(SOAPElement padre, String nombre) {
+        return hijos(padre).stream()
+                .filter(e -> nombre.equals(e.getLocalName()))
+                .findFirst()
+                .map(SOAPElement::getValue)
+                .orElse(null);
+    }
+
+    private static boolean sinEspacioDeNombres(SOAPElement elemento) {
+        String uri = elemento.getNamespaceURI();
+        return uri == null || uri.isEmpty();
+    }
+}
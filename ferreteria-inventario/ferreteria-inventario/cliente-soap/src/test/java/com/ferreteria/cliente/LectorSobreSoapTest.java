@@ -0,0 +1,103 @@
+package com.ferreteria.cliente;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del lector StAX con sobres de respuesta como los que devuelve CXF (RF6, RF7, RF10)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class LectorSobreSoapTest {
+
+    @Test
+    @DisplayName("RF6: lee los campos del artículo e ignora los desconocidos")
+    void testLeerArticulo() throws Exception {
+        // Act
+        RespuestaArticulo articulo = LectorSobreSoap.leerArticulo(flujo(SobresDePrueba.RESPUESTA_ARTICULO));
+
+        // Assert
+        assertEquals(7L, articulo.getId());
+        assertEquals("MART-001", articulo.getCodigo());
+        assertEquals("Martillo & mango", articulo.getNombre());
+        assertEquals("Herramientas", articulo.getCategoria());
+        assertEquals(new BigDecimal("800.00"), articulo.getPrecioCompra());
+        assertEquals(new BigDecimal("1200.00"), articulo.getPrecioVenta());
+        assertEquals(10, articulo.getStockActual());
+        assertEquals(2, articulo.getStockMinimo());
+        assertEquals(Boolean.TRUE, articulo.getActivo());
+        assertEquals(Boolean.FALSE, articulo.getTieneStockBajo());
+        assertEquals(new BigDecimal("50.00"), articulo.getMargenGanancia());
+        assertNull(articulo.getDescripcion());
+    }
+
+    @Test
+    @DisplayName("RF7: lee el booleano de verificarStock")
+    void testLeerBooleano() throws Exception {
+        assertTrue(LectorSobreSoap.leerBooleano(flujo(SobresDePrueba.RESPUESTA_STOCK)));
+    }
+
+    @Test
+    @DisplayName("RF10: un SOAP Fault se lanza con faultcode, faultstring, codigoError y detalle")
+    void testLeerFault() {
+        // Act
+        FaultArticuloException fault = assertThrows(FaultArticuloException.class,
+                () -> LectorSobreSoap.leerArticulo(flujo(SobresDePrueba.FAULT_NO_ENCONTRADO)));
+
+        // Assert
+        assertEquals("soap:Server", fault.getCodigoFault());
+        assertEquals("No se encontró el artículo con identificador: Código: NO-EXISTE", fault.getMessage());
+        assertEquals("NO_ENCONTRADO", fault.getCodigoError());
+        assertEquals("Artículo no existe", fault.getDetalle());
+    }
+
+    @Test
+    @DisplayName("RF10: el fault también se detecta al esperar un booleano")
+    void testLeerBooleanoFault() {
+        FaultArticuloException fault = assertThrows(FaultArticuloException.class,
+                () -> LectorSobreSoap.leerBooleano(flujo(SobresDePrueba.FAULT_NO_ENCONTRADO)));
+        assertEquals("NO_ENCONTRADO", fault.getCodigoError());
+    }
+
+    @Test
+    @DisplayName("Un soap:Body vacío no es una respuesta válida")
+    void testBodyVacio() {
+        String sobre = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body></soap:Body></soap:Envelope>";
+        assertThrows(XMLStreamException.class, () -> LectorSobreSoap.leerArticulo(flujo(sobre)));
+        assertThrows(XMLStreamException.class, () -> LectorSobreSoap.leerBooleano(flujo(sobre)));
+    }
+
+    @Test
+    @DisplayName("Un cuerpo HTTP vacío no es una respuesta válida")
+    void testFlujoVacio() {
+        assertThrows(XMLStreamException.class, () -> LectorSobreSoap.leerArticulo(flujo("")));
+    }
+
+    @Test
+    @DisplayName("Un sobre sin soap:Body no es una respuesta válida")
+    void testSinBody() {
+        String sobre = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"/>";
+        assertThrows(XMLStreamException.class, () -> LectorSobreSoap.leerArticulo(flujo(sobre)));
+    }
+
+    @Test
+    @DisplayName("Un número mal formado se informa como XML inválido")
+    void testNumeroInvalido() {
+        String sobre = SobresDePrueba.RESPUESTA_ARTICULO.replace("<ns2:id>7</ns2:id>", "<ns2:id>siete</ns2:id>");
+        assertThrows(XMLStreamException.class, () -> LectorSobreSoap.leerArticulo(flujo(sobre)));
+    }
+
+    private static InputStream flujo(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,50 @@
+package com.ferreteria.cliente;
+
+/**
+ * Sobres de respuesta como los que devuelve CXF, compartidos por las pruebas del lector y del transporte
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+final class SobresDePrueba {
+
+    static final String RESPUESTA_ARTICULO =
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body><ns2:consultarArticuloResponse xmlns:ns2=\"http://soap.inventario.ferreteria.com/\">"
+            + "<return>"
+            + "<ns2:id>7</ns2:id>"
+            + "<ns2:codigo>MART-001</ns2:codigo>"
+            + "<ns2:nombre>Martillo &amp; mango</ns2:nombre>"
+            + "<ns2:categoria>Herramientas</ns2:categoria>"
+            + "<ns2:precioCompra>800.00</ns2:precioCompra>"
+            + "<ns2:precioVenta>1200.00</ns2:precioVenta>"
+            + "<ns2:stockActual>10</ns2:stockActual>"
+            + "<ns2:stockMinimo>2</ns2:stockMinimo>"
+            + "<ns2:campoNuevo><ns2:anidado>x</ns2:anidado></ns2:campoNuevo>"
+            + "<ns2:activo>true</ns2:activo>"
+            + "<ns2:tieneStockBajo>false</ns2:tieneStockBajo>"
+            + "<ns2:margenGanancia>50.00</ns2:margenGanancia>"
+            + "</return>"
+            + "</ns2:consultarArticuloResponse></soap:Body></soap:Envelope>";
+
+    static final String RESPUESTA_STOCK =
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body><ns2:verificarStockResponse xmlns:ns2=\"http://soap.inventario.ferreteria.com/\">"
+            + "<return> true </return>"
+            + "</ns2:verificarStockResponse></soap:Body></soap:Envelope>";
+
+    static final String FAULT_NO_ENCONTRADO =
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<soap:Body><soap:Fault>"
+            + "<faultcode>soap:Server</faultcode>"
+            + "<faultstring>No se encontró el artículo con identificador: Código: NO-EXISTE</faultstring>"
+            + "<detail><ns2:ArticuloSoapFault xmlns:ns2=\"http://soap.inventario.ferreteria.com/\">"
+            + "<codigoError>NO_ENCONTRADO</codigoError>"
+            + "<mensaje>No se encontró el artículo</mensaje>"
+            + "<detalle>Artículo no existe</detalle>"
+            + "</ns2:ArticuloSoapFault></detail>"
+            + "</soap:Fault></soap:Body></soap:Envelope>";
+
+    private SobresDePrueba() {
+    }
+}
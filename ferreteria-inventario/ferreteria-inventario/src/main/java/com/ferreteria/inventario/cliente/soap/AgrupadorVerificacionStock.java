@@ -0,0 +1,201 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.soap.ArticuloSoapFault;
+import com.ferreteria.inventario.soap.dto.SoapFaultInfo;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa verificaciones de stock individuales en llamadas verificarStockLote (RF7, RNF2).
+ *
+ * Los lectores de estantería disparan muchos verificarStock independientes en pocos milisegundos.
+ * Este agrupador retiene cada consulta como máximo durante una ventana corta (2 ms por defecto) o
+ * hasta reunir un número de códigos distintos (64 por defecto), envía un único lote al servidor y
+ * reparte el resultado de cada código al futuro de cada llamador. Se cambia un retraso pequeño y
+ * acotado por muchas menos idas y vueltas HTTP y transacciones en el servidor.
+ *
+ * El resultado es el mismo que el de verificarStock: true si el stock es mayor a 0, y un
+ * {@link ArticuloSoapFault} NO_ENCONTRADO si el código no existe. Un error del lote completo
+ * (red, plazo, cupo del cliente) se propaga a todas las consultas de ese lote.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class AgrupadorVerificacionStock implements AutoCloseable {
+
+    /**
+     * Máximo de códigos que acepta verificarStockLote en el servidor
+     */
+    private static final int MAXIMO_CODIGOS_SERVIDOR = 500;
+
+    private final EnvioLote envioLote;
+    private final long ventanaNanos;
+    private final int maxCodigos;
+    private final ScheduledExecutorService temporizador;
+
+    /**
+     * Consultas pendientes del lote en formación, una entrada por código distinto (protegido por this)
+     */
+    private Map<String, CompletableFuture<Boolean>> pendientes = new LinkedHashMap<>();
+    private ScheduledFuture<?> envioProgramado;
+    private boolean cerrado;
+
+    /**
+     * @param cliente cliente asíncrono que envía los lotes; no se cierra junto con el agrupador
+     * @param ventana tiempo máximo que una consulta espera a otras antes de enviarse
+     * @param maxCodigos códigos distintos que disparan el envío sin esperar la ventana
+     */
+    public AgrupadorVerificacionStock(ClienteArticulosAsincrono cliente, Duration ventana, int maxCodigos) {
+        this(cliente::verificarStockLote, ventana, maxCodigos);
+    }
+
+    public AgrupadorVerificacionStock(ClienteArticulosAsincrono cliente) {
+        this(cliente, Duration.ofMillis(2), 64);
+    }
+
+    /**
+     * @param envioLote envío de cada lote al servidor (en las pruebas, un puerto simulado)
+     */
+    AgrupadorVerificacionStock(EnvioLote envioLote, Duration ventana, int maxCodigos) {
+        if (ventana.isNegative() || ventana.isZero() || maxCodigos < 1 || maxCodigos > MAXIMO_CODIGOS_SERVIDOR) {
+            throw new IllegalArgumentException(
+                    "La ventana debe ser positiva y maxCodigos estar entre 1 y " + MAXIMO_CODIGOS_SERVIDOR);
+        }
+        this.envioLote = envioLote;
+        this.ventanaNanos = ventana.toNanos();
+        this.maxCodigos = maxCodigos;
+        this.temporizador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "agrupador-stock");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Verifica si hay stock disponible del artículo; la consulta viaja en el siguiente lote
+     *
+     * @param codigo código del artículo
+     * @return futuro con true si el stock es mayor a 0
+     */
+    public CompletableFuture<Boolean> verificarStock(String codigo) {
+        if (codigo == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("El código es obligatorio"));
+        }
+        CompletableFuture<Boolean> compartido;
+        Map<String, CompletableFuture<Boolean>> lleno = null;
+        synchronized (this) {
+            if (cerrado) {
+                return CompletableFuture.failedFuture(new IllegalStateException("El agrupador de stock está cerrado"));
+            }
+            // El mismo código repetido dentro de la ventana comparte una sola entrada del lote
+            compartido = pendientes.computeIfAbsent(codigo, c -> new CompletableFuture<>());
+            if (pendientes.size() >= maxCodigos) {
+                lleno = tomarPendientes();
+            } else if (envioProgramado == null) {
+                envioProgramado = temporizador.schedule(this::enviarPendientes, ventanaNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (lleno != null) {
+            enviar(lleno);
+        }
+        // Copia por llamador: cancelar o completar la propia no afecta a los demás del lote
+        return compartido.copy();
+    }
+
+    private void enviarPendientes() {
+        Map<String, CompletableFuture<Boolean>> lote;
+        synchronized (this) {
+            lote = tomarPendientes();
+        }
+        enviar(lote);
+    }
+
+    /**
+     * Retira el lote en formación y cancela su envío programado; se llama con el monitor tomado
+     */
+    private Map<String, CompletableFuture<Boolean>> tomarPendientes() {
+        Map<String, CompletableFuture<Boolean>> lote = pendientes;
+        pendientes = new LinkedHashMap<>();
+        if (envioProgramado != null) {
+            envioProgramado.cancel(false);
+            envioProgramado = null;
+        }
+        return lote;
+    }
+
+    private void enviar(Map<String, CompletableFuture<Boolean>> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<String> codigos = new ArrayList<>(lote.keySet());
+        List<SolicitudStockRequest> solicitudes = new ArrayList<>(codigos.size());
+        for (String codigo : codigos) {
+            // Cantidad 1: disponible si stock >= 1, igual que verificarStock (stock > 0)
+            solicitudes.add(new SolicitudStockRequest(codigo, 1));
+        }
+        envioLote.enviar(solicitudes).whenComplete((resultados, error) -> {
+            if (error != null) {
+                lote.values().forEach(futuro -> futuro.completeExceptionally(error));
+                return;
+            }
+            // El servidor responde un resultado por solicitud, en el mismo orden
+            for (int i = 0; i < codigos.size(); i++) {
+                CompletableFuture<Boolean> futuro = lote.get(codigos.get(i));
+                VerificacionStockResponse resultado = i < resultados.size() ? resultados.get(i) : null;
+                if (resultado == null) {
+                    futuro.completeExceptionally(new IllegalStateException(
+                            "El lote no incluyó el resultado de " + codigos.get(i)));
+                } else if (Boolean.TRUE.equals(resultado.getEncontrado())) {
+                    futuro.complete(Boolean.TRUE.equals(resultado.getDisponible()));
+                } else {
+                    futuro.completeExceptionally(crearFaultNoEncontrado(codigos.get(i)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Mismo fault que devuelve verificarStock para un código inexistente
+     */
+    private static ArticuloSoapFault crearFaultNoEncontrado(String codigo) {
+        String mensaje = "No se encontró el artículo con identificador: Código: " + codigo;
+        return new ArticuloSoapFault(mensaje, SoapFaultInfo.builder()
+                .codigoError("NO_ENCONTRADO")
+                .mensaje(mensaje)
+                .detalle("Artículo no existe")
+                .build());
+    }
+
+    /**
+     * Envía el lote pendiente y deja de aceptar consultas; el cliente asíncrono sigue abierto
+     */
+    @Override
+    public void close() {
+        Map<String, CompletableFuture<Boolean>> lote;
+        synchronized (this) {
+            cerrado = true;
+            lote = tomarPendientes();
+        }
+        enviar(lote);
+        temporizador.shutdown();
+    }
+
+    /**
+     * Envío de un lote al servidor; con el cliente asíncrono es su verificarStockLote
+     */
+    @FunctionalInterface
+    interface EnvioLote {
+        CompletableFuture<List<VerificacionStockResponse>> enviar(List<SolicitudStockRequest> solicitudes);
+    }
+}
@@ -0,0 +1,337 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.soap.ArticuloSoapService;
+import com.ferreteria.inventario.soap.dto.ArticuloRequest;
+import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
+import jakarta.xml.ws.BindingProvider;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.message.Message;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cliente SOAP asíncrono y seguro para hilos del servicio de artículos (RNF2).
+ *
+ * Mantiene un pool de proxies CXF: cada llamada toma un proxy en exclusiva, fija en su contexto
+ * de solicitud los tiempos de espera que le quedan hasta el plazo y lo devuelve al terminar, de modo
+ * que nunca dos hilos modifican el mismo contexto. Las cuatro operaciones devuelven
+ * {@link CompletableFuture}, lo que permite consultar en paralelo el stock de varias sucursales:
+ *
+ * <pre>
+ * try (ClienteArticulosAsincrono cliente = ClienteArticulosAsincrono.builder().url(url).build()) {
+ *     List&lt;CompletableFuture&lt;Boolean&gt;&gt; consultas = codigos.stream().map(cliente::verificarStock).toList();
+ *     CompletableFuture.allOf(consultas.toArray(CompletableFuture[]::new)).join();
+ * }
+ * </pre>
+ *
+ * Las llamadas en curso (en cola o ejecutándose) están acotadas: al superar el máximo el futuro
+ * falla de inmediato con {@link RejectedExecutionException} en lugar de acumular trabajo. Si vence
+ * el plazo, el futuro falla con {@link TimeoutException}; los faults del servicio llegan como
+ * {@link com.ferreteria.inventario.soap.ArticuloSoapFault}.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class ClienteArticulosAsincrono implements AutoCloseable {
+
+    private final String url;
+    private final Duration plazoPorDefecto;
+    private final Duration timeoutConexion;
+    private final FabricaProxies fabricaProxies;
+    private final BlockingQueue<ArticuloSoapService> proxies;
+    private final List<ArticuloSoapService> todosLosProxies;
+    private final Semaphore llamadasDisponibles;
+    private final ExecutorService ejecutor;
+    private volatile boolean cerrado;
+
+    private ClienteArticulosAsincrono(Builder builder) {
+        this.url = builder.url;
+        this.plazoPorDefecto = builder.plazo;
+        this.timeoutConexion = builder.timeoutConexion;
+        this.fabricaProxies = builder.fabricaProxies != null
+                ? builder.fabricaProxies
+                : new ProxiesCxf(builder.url, builder.fastInfoset);
+        this.proxies = new ArrayBlockingQueue<>(builder.proxies);
+        this.todosLosProxies = new ArrayList<>(builder.proxies);
+        for (int i = 0; i < builder.proxies; i++) {
+            ArticuloSoapService proxy = fabricaProxies.crear();
+            todosLosProxies.add(proxy);
+            proxies.add(proxy);
+        }
+        this.llamadasDisponibles = new Semaphore(builder.maxLlamadasEnCurso);
+
+        // Un hilo por proxy: nunca hay más llamadas bloqueadas en la red que proxies en el pool
+        AtomicInteger contador = new AtomicInteger();
+        this.ejecutor = Executors.newFixedThreadPool(builder.proxies, tarea -> {
+            Thread hilo = new Thread(tarea, "cliente-soap-async-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public CompletableFuture<ArticuloResponse> insertarArticulo(ArticuloRequest request) {
+        return insertarArticulo(request, plazoPorDefecto);
+    }
+
+    public CompletableFuture<ArticuloResponse> insertarArticulo(ArticuloRequest request, Duration plazo) {
+        return enviar(proxy -> proxy.insertarArticulo(request), plazo);
+    }
+
+    public CompletableFuture<ArticuloResponse> consultarArticulo(String codigo) {
+        return consultarArticulo(codigo, plazoPorDefecto);
+    }
+
+    public CompletableFuture<ArticuloResponse> consultarArticulo(String codigo, Duration plazo) {
+        return enviar(proxy -> proxy.consultarArticulo(codigo), plazo);
+    }
+
+    public CompletableFuture<ArticuloResponse> actualizarArticulo(String codigo, ArticuloRequest request) {
+        return actualizarArticulo(codigo, request, plazoPorDefecto);
+    }
+
+    public CompletableFuture<ArticuloResponse> actualizarArticulo(String codigo, ArticuloRequest request, Duration plazo) {
+        return enviar(proxy -> proxy.actualizarArticulo(codigo, request), plazo);
+    }
+
+    public CompletableFuture<Boolean> verificarStock(String codigo) {
+        return verificarStock(codigo, plazoPorDefecto);
+    }
+
+    public CompletableFuture<Boolean> verificarStock(String codigo, Duration plazo) {
+        return enviar(proxy -> proxy.verificarStock(codigo), plazo);
+    }
+
+    /**
+     * Verifica el stock de varios códigos en una sola llamada (verificarStockLote)
+     */
+    public CompletableFuture<List<VerificacionStockResponse>> verificarStockLote(List<SolicitudStockRequest> solicitudes) {
+        return verificarStockLote(solicitudes, plazoPorDefecto);
+    }
+
+    public CompletableFuture<List<VerificacionStockResponse>> verificarStockLote(List<SolicitudStockRequest> solicitudes,
+                                                                                  Duration plazo) {
+        return enviar(proxy -> proxy.verificarStockLote(solicitudes), plazo);
+    }
+
+    /**
+     * Encola la llamada si hay cupo. El cupo se libera cuando la llamada termina de verdad, no cuando
+     * vence el plazo del futuro, para que las llamadas abandonadas sigan contando contra el máximo.
+     */
+    private <T> CompletableFuture<T> enviar(LlamadaSoap<T> llamada, Duration plazo) {
+        if (cerrado) {
+            return CompletableFuture.failedFuture(new IllegalStateException("El cliente SOAP está cerrado"));
+        }
+        if (!llamadasDisponibles.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "Se alcanzó el máximo de llamadas SOAP en curso"));
+        }
+        long limite = System.nanoTime() + plazo.toNanos();
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        try {
+            ejecutor.execute(() -> {
+                T valor = null;
+                Throwable error = null;
+                try {
+                    if (!resultado.isDone()) {
+                        valor = ejecutar(llamada, limite);
+                    }
+                } catch (Throwable e) {
+                    error = e;
+                } finally {
+                    // Antes de completar, para que quien encadena otra llamada ya encuentre el cupo libre
+                    llamadasDisponibles.release();
+                }
+                if (error != null) {
+                    resultado.completeExceptionally(error);
+                } else {
+                    resultado.complete(valor);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            llamadasDisponibles.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return resultado.orTimeout(plazo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Toma un proxy del pool, ajusta los tiempos de espera al plazo restante e invoca la operación
+     */
+    private <T> T ejecutar(LlamadaSoap<T> llamada, long limite) throws Exception {
+        ArticuloSoapService proxy = proxies.poll(restante(limite), TimeUnit.NANOSECONDS);
+        if (proxy == null) {
+            throw new TimeoutException("No hubo un proxy SOAP libre antes del plazo");
+        }
+        try {
+            long restanteMs = TimeUnit.NANOSECONDS.toMillis(restante(limite));
+            if (restanteMs <= 0) {
+                throw new TimeoutException("Venció el plazo antes de enviar la llamada SOAP");
+            }
+            Map<String, Object> contexto = ((BindingProvider) proxy).getRequestContext();
+            contexto.put(Message.CONNECTION_TIMEOUT, Math.min(restanteMs, timeoutConexion.toMillis()));
+            contexto.put(Message.RECEIVE_TIMEOUT, restanteMs);
+            return llamada.invocar(proxy);
+        } finally {
+            proxies.offer(proxy);
+        }
+    }
+
+    private static long restante(long limite) {
+        return Math.max(0, limite - System.nanoTime());
+    }
+
+    /**
+     * Deja de aceptar llamadas, espera a las que están en curso hasta el plazo por defecto y libera los proxies
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        ejecutor.shutdown();
+        try {
+            if (!ejecutor.awaitTermination(plazoPorDefecto.toMillis(), TimeUnit.MILLISECONDS)) {
+                ejecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ejecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        for (ArticuloSoapService proxy : todosLosProxies) {
+            fabricaProxies.destruir(proxy);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LlamadaSoap<T> {
+        T invocar(ArticuloSoapService proxy) throws Exception;
+    }
+
+    /**
+     * Crea y libera los proxies del pool; cada proxy debe implementar también {@link BindingProvider}
+     */
+    interface FabricaProxies {
+        ArticuloSoapService crear();
+
+        void destruir(ArticuloSoapService proxy);
+    }
+
+    /**
+     * Proxies CXF contra la URL configurada, con GZIP y opcionalmente Fast Infoset
+     */
+    private static final class ProxiesCxf implements FabricaProxies {
+        private final String url;
+        private final boolean fastInfoset;
+
+        private ProxiesCxf(String url, boolean fastInfoset) {
+            this.url = url;
+            this.fastInfoset = fastInfoset;
+        }
+
+        @Override
+        public ArticuloSoapService crear() {
+            return ClienteSOAP.ArticuloSoapServiceProxy.crearServicio(url, fastInfoset);
+        }
+
+        @Override
+        public void destruir(ArticuloSoapService proxy) {
+            Client cliente = ClientProxy.getClient(proxy);
+            cliente.destroy();
+        }
+    }
+
+    /**
+     * Configuración del cliente asíncrono
+     */
+    public static final class Builder {
+        private String url = ClienteSOAP.SERVICE_URL;
+        private boolean fastInfoset;
+        private int proxies = 8;
+        private int maxLlamadasEnCurso = 64;
+        private Duration plazo = Duration.ofSeconds(10);
+        private Duration timeoutConexion = Duration.ofSeconds(5);
+        private FabricaProxies fabricaProxies;
+
+        private Builder() {
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder fastInfoset(boolean fastInfoset) {
+            this.fastInfoset = fastInfoset;
+            return this;
+        }
+
+        /**
+         * Proxies en el pool; también es el número máximo de llamadas simultáneas en la red
+         */
+        public Builder proxies(int proxies) {
+            this.proxies = proxies;
+            return this;
+        }
+
+        /**
+         * Máximo de llamadas aceptadas a la vez, contando las que esperan un proxy
+         */
+        public Builder maxLlamadasEnCurso(int maxLlamadasEnCurso) {
+            this.maxLlamadasEnCurso = maxLlamadasEnCurso;
+            return this;
+        }
+
+        /**
+         * Plazo por defecto de cada llamada, desde que se invoca hasta que llega la respuesta
+         */
+        public Builder plazo(Duration plazo) {
+            this.plazo = plazo;
+            return this;
+        }
+
+        public Builder timeoutConexion(Duration timeoutConexion) {
+            this.timeoutConexion = timeoutConexion;
+            return this;
+        }
+
+        /**
+         * Reemplaza los proxies CXF (en las pruebas, un servicio simulado); url y fastInfoset se ignoran
+         */
+        Builder fabricaProxies(FabricaProxies fabricaProxies) {
+            this.fabricaProxies = fabricaProxies;
+            return this;
+        }
+
+        public ClienteArticulosAsincrono build() {
+            if (proxies < 1 || maxLlamadasEnCurso < proxies) {
+                throw new IllegalArgumentException("Se requiere al menos un proxy y maxLlamadasEnCurso >= proxies");
+            }
+            if (plazo.isNegative() || plazo.isZero() || timeoutConexion.isNegative() || timeoutConexion.isZero()) {
+                throw new IllegalArgumentException("El plazo y el timeout de conexión deben ser positivos");
+            }
+            return new ClienteArticulosAsincrono(this);
+        }
+    }
+}
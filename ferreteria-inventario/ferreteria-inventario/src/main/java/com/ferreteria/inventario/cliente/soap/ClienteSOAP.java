@@ -1,7 +1,12 @@
 package com.ferreteria.inventario.cliente.soap;
 
+import org.apache.cxf.feature.FastInfosetFeature;
 import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
+import org.apache.cxf.transport.common.gzip.GZIPFeature;
+import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
@@ -21,7 +26,23 @@ import java.util.Scanner;
  */
 public class ClienteSOAP {
 
-    private static final String SERVICE_URL = "http://localhost:8086/soap/ArticuloService";
+    static final String SERVICE_URL = "http://localhost:8086/soap/ArticuloService";
+
+    /**
+     * Tamaño mínimo (bytes) de una solicitud para enviarla comprimida con GZIP
+     */
+    private static final int UMBRAL_GZIP = 1024;
+
+    /**
+     * Comprime también las solicitudes, sin negociación previa con el servidor. Solo debe activarse
+     * (-Dinventario.soap.gzip.habilitado=true) si el servidor tiene GZIP habilitado con esa misma propiedad
+     */
+    private static final boolean GZIP_SOLICITUDES = Boolean.getBoolean("inventario.soap.gzip.habilitado");
+
+    /**
+     * Usa Fast Infoset (XML binario) en lugar de SOAP de texto. Se activa con -Dsoap.fastinfoset=true
+     */
+    private static final boolean FAST_INFOSET = Boolean.getBoolean("soap.fastinfoset");
 
     private static final Scanner scanner = new Scanner(System.in);
 
@@ -84,7 +105,7 @@ public class ClienteSOAP {
             System.out.println(" Conectando al servicio SOAP...");
             System.out.println(" URL: " + SERVICE_URL);
 
-            service = new ArticuloSoapServiceProxy(SERVICE_URL);
+            service = new ArticuloSoapServiceProxy(SERVICE_URL, FAST_INFOSET);
 
             System.out.println(" Conexión establecida correctamente");
             System.out.println();
@@ -316,10 +337,48 @@ public class ClienteSOAP {
         private final com.ferreteria.inventario.soap.ArticuloSoapService service;
 
         public ArticuloSoapServiceProxy(String serviceUrl) {
+            this(serviceUrl, false);
+        }
+
+        public ArticuloSoapServiceProxy(String serviceUrl, boolean fastInfoset) {
+            this.service = crearServicio(serviceUrl, fastInfoset);
+        }
+
+        /**
+         * Crea un proxy CXF del servicio con GZIP y, opcionalmente, Fast Infoset
+         */
+        static com.ferreteria.inventario.soap.ArticuloSoapService crearServicio(String serviceUrl, boolean fastInfoset) {
+            return crearServicio(serviceUrl, fastInfoset, GZIP_SOLICITUDES);
+        }
+
+        /**
+         * @param gzipSolicitudes comprime las solicitudes que superan el umbral; las respuestas se
+         *                        piden comprimidas siempre, el servidor decide según Accept-Encoding
+         */
+        static com.ferreteria.inventario.soap.ArticuloSoapService crearServicio(String serviceUrl, boolean fastInfoset,
+                                                                              boolean gzipSolicitudes) {
             JaxWsProxyFactoryBean factory = new JaxWsProxyFactoryBean();
             factory.setServiceClass(com.ferreteria.inventario.soap.ArticuloSoapService.class);
             factory.setAddress(serviceUrl);
-            this.service = (com.ferreteria.inventario.soap.ArticuloSoapService) factory.create();
+
+            // GZIP: anuncia Accept-Encoding y descomprime las respuestas comprimidas. Sin negociación
+            // previa, un servidor sin GZIP no entendería una solicitud comprimida: solo se comprimen
+            // si se pide expresamente
+            GZIPFeature gzip = new GZIPFeature();
+            gzip.setThreshold(UMBRAL_GZIP);
+            factory.getFeatures().add(gzip);
+            Map<String, Object> propiedades = new HashMap<>();
+            propiedades.put(GZIPOutInterceptor.USE_GZIP_KEY,
+                    gzipSolicitudes ? GZIPOutInterceptor.UseGzip.YES : GZIPOutInterceptor.UseGzip.NO);
+            factory.setProperties(propiedades);
+
+            // Fast Infoset: envía las solicitudes en XML binario y pide las respuestas en ese formato
+            if (fastInfoset) {
+                FastInfosetFeature fi = new FastInfosetFeature();
+                fi.setForce(true);
+                factory.getFeatures().add(fi);
+            }
+            return (com.ferreteria.inventario.soap.ArticuloSoapService) factory.create();
         }
 
         public ArticuloResponseDTO insertarArticulo(ArticuloRequestDTO request) throws Exception {
@@ -0,0 +1,432 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.cliente.soap.ClienteSOAP.ArticuloRequestDTO;
+import com.ferreteria.inventario.cliente.soap.ClienteSOAP.ArticuloSoapServiceProxy;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga sin interfaz para el servicio SOAP de artículos (RNF2).
+ * Reproduce una mezcla configurable de insertarArticulo, consultarArticulo, actualizarArticulo y
+ * verificarStock con N trabajadores concurrentes y escribe un reporte de latencias por percentil.
+ *
+ * La carga es de lazo abierto: las solicitudes se planifican a la tasa objetivo sin esperar a las
+ * anteriores, y la latencia se mide desde el instante planificado. Si el servicio no da abasto, la
+ * espera en cola aparece en los percentiles en lugar de ocultarse bajando la tasa.
+ *
+ * USO (con la aplicación levantada en local sobre H2: mvn spring-boot:test-run@local):
+ * java -Dcarga.tasa=300 -Dcarga.duracion-s=60 -cp ... com.ferreteria.inventario.cliente.soap.GeneradorCarga
+ *
+ * PROPIEDADES (-D):
+ * - carga.url: endpoint del servicio (por defecto el de ClienteSOAP)
+ * - carga.trabajadores: trabajadores concurrentes (16)
+ * - carga.tasa: solicitudes por segundo planificadas (200)
+ * - carga.calentamiento-s: segundos iniciales que no se registran (10)
+ * - carga.duracion-s: segundos medidos después del calentamiento (60)
+ * - carga.mezcla: pesos por operación (insertar=10,consultar=50,actualizar=10,verificar=30)
+ * - carga.articulos: artículos que se crean antes de empezar para consultar y actualizar (100)
+ * - carga.reporte: archivo del reporte (reporte-carga.txt)
+ * - carga.umbral-p99-ms: si se indica, termina con código 1 cuando el p99 global lo supera
+ * - soap.fastinfoset: igual que en ClienteSOAP
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class GeneradorCarga {
+
+    private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9, 99.99, 100};
+
+    /**
+     * Retraso a partir del cual se considera que una solicitud arrancó tarde (trabajadores saturados)
+     */
+    private static final long TOLERANCIA_INICIO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int MAX_ERRORES_DISTINTOS = 10;
+
+    enum Operacion {
+        INSERTAR("insertarArticulo"),
+        CONSULTAR("consultarArticulo"),
+        ACTUALIZAR("actualizarArticulo"),
+        VERIFICAR("verificarStock");
+
+        private final String nombre;
+
+        Operacion(String nombre) {
+            this.nombre = nombre;
+        }
+    }
+
+    private final String url;
+    private final int trabajadores;
+    private final double tasa;
+    private final int calentamientoSegundos;
+    private final int duracionSegundos;
+    private final Map<Operacion, Integer> mezcla;
+    private final int pesoTotal;
+    private final int articulos;
+    private final Path reporte;
+    private final boolean fastInfoset;
+
+    /**
+     * Prefijo único por ejecución para que los códigos no choquen con los de corridas anteriores
+     */
+    private final String prefijo = "CG" + Long.toString(System.currentTimeMillis(), 36).toUpperCase(Locale.ROOT);
+    private final AtomicLong secuenciaInsercion = new AtomicLong();
+    private final AtomicLong siguienteSolicitud = new AtomicLong();
+    private final AtomicLong iniciosTardios = new AtomicLong();
+    private final Set<String> errores = new LinkedHashSet<>();
+    private List<String> codigosSembrados;
+    private long inicioMedicion;
+
+    GeneradorCarga(String url, int trabajadores, double tasa, int calentamientoSegundos, int duracionSegundos,
+                   Map<Operacion, Integer> mezcla, int articulos, Path reporte, boolean fastInfoset) {
+        if (trabajadores < 1 || tasa <= 0 || duracionSegundos < 1 || calentamientoSegundos < 0 || articulos < 1) {
+            throw new IllegalArgumentException("Trabajadores, tasa, duración y artículos deben ser positivos");
+        }
+        this.url = url;
+        this.trabajadores = trabajadores;
+        this.tasa = tasa;
+        this.calentamientoSegundos = calentamientoSegundos;
+        this.duracionSegundos = duracionSegundos;
+        this.mezcla = mezcla;
+        this.pesoTotal = mezcla.values().stream().mapToInt(Integer::intValue).sum();
+        this.articulos = articulos;
+        this.reporte = reporte;
+        this.fastInfoset = fastInfoset;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneradorCarga generador = new GeneradorCarga(
+                System.getProperty("carga.url", ClienteSOAP.SERVICE_URL),
+                Integer.getInteger("carga.trabajadores", 16),
+                Double.parseDouble(System.getProperty("carga.tasa", "200")),
+                Integer.getInteger("carga.calentamiento-s", 10),
+                Integer.getInteger("carga.duracion-s", 60),
+                leerMezcla(System.getProperty("carga.mezcla", "insertar=10,consultar=50,actualizar=10,verificar=30")),
+                Integer.getInteger("carga.articulos", 100),
+                Paths.get(System.getProperty("carga.reporte", "reporte-carga.txt")),
+                Boolean.getBoolean("soap.fastinfoset"));
+
+        Map<Operacion, Resultado> resultados = generador.ejecutar();
+        String texto = generador.escribirReporte(resultados);
+        System.out.println(texto);
+        System.out.println("Reporte guardado en " + generador.reporte.toAbsolutePath());
+
+        String umbral = System.getProperty("carga.umbral-p99-ms");
+        if (umbral != null) {
+            long p99 = total(resultados).latencias.percentil(99) / 1_000;
+            if (p99 > Long.parseLong(umbral)) {
+                System.err.println("p99 de " + p99 + " ms supera el umbral de " + umbral + " ms");
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Siembra los artículos, ejecuta calentamiento y medición, y devuelve los resultados por operación
+     */
+    Map<Operacion, Resultado> ejecutar() throws Exception {
+        System.out.printf("Sembrando %d artículos en %s ...%n", articulos, url);
+        ArticuloSoapServiceProxy sembrador = new ArticuloSoapServiceProxy(url, fastInfoset);
+        codigosSembrados = new ArrayList<>(articulos);
+        for (int i = 0; i < articulos; i++) {
+            String codigo = prefijo + "-S" + i;
+            sembrador.insertarArticulo(crearArticulo(codigo, 100));
+            codigosSembrados.add(codigo);
+        }
+
+        // Un proxy por trabajador, creado antes de arrancar el reloj
+        List<ArticuloSoapServiceProxy> proxies = new ArrayList<>(trabajadores);
+        for (int i = 0; i < trabajadores; i++) {
+            proxies.add(new ArticuloSoapServiceProxy(url, fastInfoset));
+        }
+
+        long intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / tasa);
+        long inicio = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        inicioMedicion = inicio + TimeUnit.SECONDS.toNanos(calentamientoSegundos);
+        long fin = inicioMedicion + TimeUnit.SECONDS.toNanos(duracionSegundos);
+
+        System.out.printf("Carga: %.0f sol/s, %d trabajadores, %d s de calentamiento + %d s medidos%n",
+                tasa, trabajadores, calentamientoSegundos, duracionSegundos);
+
+        List<Map<Operacion, Resultado>> parciales = new ArrayList<>(trabajadores);
+        CountDownLatch terminados = new CountDownLatch(trabajadores);
+        ExecutorService ejecutor = crearEjecutor(trabajadores);
+        try {
+            for (ArticuloSoapServiceProxy proxy : proxies) {
+                Map<Operacion, Resultado> parcial = nuevosResultados();
+                parciales.add(parcial);
+                ejecutor.execute(() -> {
+                    try {
+                        trabajar(proxy, parcial, inicio, intervalo, inicioMedicion, fin);
+                    } finally {
+                        terminados.countDown();
+                    }
+                });
+            }
+            terminados.await();
+        } finally {
+            ejecutor.shutdown();
+        }
+
+        Map<Operacion, Resultado> resultados = nuevosResultados();
+        for (Map<Operacion, Resultado> parcial : parciales) {
+            parcial.forEach((operacion, resultado) -> resultados.get(operacion).agregar(resultado));
+        }
+        return resultados;
+    }
+
+    /**
+     * Bucle de un trabajador: toma el siguiente turno del plan global, espera a su instante y lo ejecuta
+     */
+    private void trabajar(ArticuloSoapServiceProxy proxy, Map<Operacion, Resultado> resultados,
+                          long inicio, long intervalo, long inicioMedicion, long fin) {
+        while (true) {
+            long planificado = inicio + siguienteSolicitud.getAndIncrement() * intervalo;
+            if (planificado >= fin) {
+                return;
+            }
+            long espera = planificado - System.nanoTime();
+            while (espera > 0) {
+                LockSupport.parkNanos(espera);
+                espera = planificado - System.nanoTime();
+            }
+            boolean medido = planificado >= inicioMedicion;
+            if (medido && -espera > TOLERANCIA_INICIO_NANOS) {
+                iniciosTardios.incrementAndGet();
+            }
+
+            Operacion operacion = elegirOperacion();
+            boolean exito = true;
+            try {
+                invocar(proxy, operacion);
+            } catch (Exception e) {
+                exito = false;
+                if (medido) {
+                    registrarError(operacion, e);
+                }
+            }
+            if (medido) {
+                resultados.get(operacion).registrar(planificado, System.nanoTime(), exito);
+            }
+        }
+    }
+
+    private void invocar(ArticuloSoapServiceProxy proxy, Operacion operacion) throws Exception {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        switch (operacion) {
+            case INSERTAR:
+                proxy.insertarArticulo(crearArticulo(prefijo + "-" + secuenciaInsercion.incrementAndGet(), 100));
+                break;
+            case CONSULTAR:
+                proxy.consultarArticulo(codigoAleatorio());
+                break;
+            case ACTUALIZAR:
+                String codigo = codigoAleatorio();
+                proxy.actualizarArticulo(codigo, crearArticulo(codigo, 10 + aleatorio.nextInt(200)));
+                break;
+            case VERIFICAR:
+                proxy.verificarStock(codigoAleatorio());
+                break;
+        }
+    }
+
+    private Operacion elegirOperacion() {
+        int sorteo = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (Map.Entry<Operacion, Integer> entrada : mezcla.entrySet()) {
+            sorteo -= entrada.getValue();
+            if (sorteo < 0) {
+                return entrada.getKey();
+            }
+        }
+        throw new IllegalStateException("Mezcla de operaciones vacía");
+    }
+
+    private String codigoAleatorio() {
+        return codigosSembrados.get(ThreadLocalRandom.current().nextInt(codigosSembrados.size()));
+    }
+
+    private static ArticuloRequestDTO crearArticulo(String codigo, int stock) {
+        ArticuloRequestDTO request = new ArticuloRequestDTO();
+        request.codigo = codigo;
+        request.nombre = "Artículo de carga " + codigo;
+        request.descripcion = "Creado por el generador de carga";
+        request.categoria = "Carga";
+        request.precioCompra = new BigDecimal("10.00");
+        request.precioVenta = new BigDecimal("15.00");
+        request.stockActual = stock;
+        request.stockMinimo = 10;
+        request.proveedor = "Generador de carga";
+        return request;
+    }
+
+    private void registrarError(Operacion operacion, Exception e) {
+        synchronized (errores) {
+            if (errores.size() < MAX_ERRORES_DISTINTOS) {
+                errores.add(operacion.nombre + ": " + e.getClass().getSimpleName() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Hilos virtuales (un hilo por trabajador) cuando la JVM los ofrece (Java 21+);
+     * en Java 17 un pool fijo de hilos de plataforma con un hilo por trabajador
+     */
+    private static ExecutorService crearEjecutor(int trabajadores) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger contador = new AtomicInteger();
+            return Executors.newFixedThreadPool(trabajadores, tarea -> {
+                Thread hilo = new Thread(tarea, "carga-" + contador.incrementAndGet());
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        }
+    }
+
+    /**
+     * Convierte "insertar=10,consultar=50,..." en pesos por operación; las omitidas no se ejecutan
+     */
+    static Map<Operacion, Integer> leerMezcla(String texto) {
+        Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+        for (String parte : texto.split(",")) {
+            String[] claveValor = parte.trim().split("=");
+            if (claveValor.length != 2) {
+                throw new IllegalArgumentException("Mezcla inválida: " + parte);
+            }
+            int peso = Integer.parseInt(claveValor[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("Peso negativo en la mezcla: " + parte);
+            }
+            if (peso > 0) {
+                mezcla.put(Operacion.valueOf(claveValor[0].trim().toUpperCase(Locale.ROOT)), peso);
+            }
+        }
+        if (mezcla.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla debe incluir al menos una operación con peso positivo");
+        }
+        return mezcla;
+    }
+
+    private static Map<Operacion, Resultado> nuevosResultados() {
+        Map<Operacion, Resultado> resultados = new EnumMap<>(Operacion.class);
+        for (Operacion operacion : Operacion.values()) {
+            resultados.put(operacion, new Resultado());
+        }
+        return resultados;
+    }
+
+    private static Resultado total(Map<Operacion, Resultado> resultados) {
+        Resultado total = new Resultado();
+        resultados.values().forEach(total::agregar);
+        return total;
+    }
+
+    /**
+     * Genera el reporte en texto, lo guarda en el archivo configurado y lo devuelve
+     */
+    String escribirReporte(Map<Operacion, Resultado> resultados) throws IOException {
+        StringWriter texto = new StringWriter();
+        PrintWriter salida = new PrintWriter(texto);
+        Resultado total = total(resultados);
+
+        salida.println("REPORTE DE CARGA - SERVICIO SOAP DE ARTÍCULOS");
+        salida.println("Fecha:          " + LocalDateTime.now().withNano(0));
+        salida.println("Endpoint:       " + url + (fastInfoset ? " (Fast Infoset)" : ""));
+        salida.printf(Locale.ROOT, "Tasa objetivo:  %.1f sol/s, %d trabajadores%n", tasa, trabajadores);
+        salida.printf("Duración:       %d s medidos tras %d s de calentamiento%n", duracionSegundos, calentamientoSegundos);
+        salida.println("Mezcla:         " + mezcla);
+        // Si el servicio no da abasto, la última respuesta llega después del fin planificado
+        double segundosReales = Math.max(duracionSegundos, (total.ultimaRespuesta - inicioMedicion) / 1e9);
+        salida.printf(Locale.ROOT, "Tasa lograda:   %.1f sol/s (%.1f s hasta la última respuesta)%n",
+                total.latencias.getTotal() / segundosReales, segundosReales);
+        salida.printf("Inicios tardíos (> 1 ms): %d%n", iniciosTardios.get());
+        salida.println();
+        salida.println("Latencia desde el instante planificado, en ms:");
+        salida.printf("%-20s %9s %8s %8s %8s %8s %8s %8s %8s %8s%n",
+                "Operación", "Total", "Errores", "Mín", "Media", "p50", "p90", "p99", "p99.9", "Máx");
+        for (Map.Entry<Operacion, Resultado> entrada : resultados.entrySet()) {
+            if (mezcla.containsKey(entrada.getKey())) {
+                escribirFila(salida, entrada.getKey().nombre, entrada.getValue());
+            }
+        }
+        escribirFila(salida, "TOTAL", total);
+        salida.println();
+        salida.println("Distribución global:");
+        for (double percentil : PERCENTILES) {
+            salida.printf(Locale.ROOT, "  p%-7s %10.3f ms%n", formatear(percentil), total.latencias.percentil(percentil) / 1_000.0);
+        }
+        if (!errores.isEmpty()) {
+            salida.println();
+            salida.println("Primeros errores distintos:");
+            errores.forEach(error -> salida.println("  " + error));
+        }
+        salida.flush();
+
+        Path directorio = reporte.toAbsolutePath().getParent();
+        if (directorio != null) {
+            Files.createDirectories(directorio);
+        }
+        Files.writeString(reporte, texto.toString(), StandardCharsets.UTF_8);
+        return texto.toString();
+    }
+
+    private static void escribirFila(PrintWriter salida, String nombre, Resultado resultado) {
+        HistogramaLatencias h = resultado.latencias;
+        salida.printf(Locale.ROOT, "%-20s %9d %8d %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                nombre, h.getTotal(), resultado.errores, h.getMinimo() / 1_000.0, h.getMedia() / 1_000.0,
+                h.percentil(50) / 1_000.0, h.percentil(90) / 1_000.0, h.percentil(99) / 1_000.0,
+                h.percentil(99.9) / 1_000.0, h.getMaximo() / 1_000.0);
+    }
+
+    private static String formatear(double percentil) {
+        return percentil == Math.rint(percentil) ? String.valueOf((long) percentil) : String.valueOf(percentil);
+    }
+
+    /**
+     * Latencias y errores de una operación; cada trabajador tiene los suyos y se combinan al final
+     */
+    static final class Resultado {
+        private final HistogramaLatencias latencias = new HistogramaLatencias();
+        private long errores;
+        private long ultimaRespuesta;
+
+        void registrar(long planificado, long respuesta, boolean exito) {
+            latencias.registrar(respuesta - planificado);
+            ultimaRespuesta = Math.max(ultimaRespuesta, respuesta);
+            if (!exito) {
+                errores++;
+            }
+        }
+
+        void agregar(Resultado otro) {
+            latencias.agregar(otro.latencias);
+            errores += otro.errores;
+            ultimaRespuesta = Math.max(ultimaRespuesta, otro.ultimaRespuesta);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ferreteria.inventario.cliente.soap;
+
+/**
+ * Histograma de latencias en microsegundos con cubetas log-lineales (estilo HdrHistogram):
+ * valores exactos hasta 128 µs y, por encima, 64 cubetas por cada potencia de 2, con un
+ * error relativo máximo de 1/64 (~1,6 %) en los percentiles. Memoria fija (~18 KB) sin
+ * importar cuántas muestras se registren.
+ *
+ * No es seguro para hilos: cada trabajador registra en su propio histograma y al final se
+ * combinan con {@link #agregar(HistogramaLatencias)}.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+final class HistogramaLatencias {
+
+    private static final int BITS_SUBCUBETA = 6;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    private static final int LINEALES = SUBCUBETAS * 2;
+
+    /**
+     * Exponente máximo representable: 2^41 µs (~25 días); los valores mayores se acumulan en la última cubeta
+     */
+    private static final int EXPONENTE_MAXIMO = 41;
+
+    private final long[] cuentas = new long[LINEALES + (EXPONENTE_MAXIMO - BITS_SUBCUBETA) * SUBCUBETAS];
+    private long total;
+    private long suma;
+    private long minimo = Long.MAX_VALUE;
+    private long maximo;
+
+    /**
+     * Registra una latencia
+     *
+     * @param nanos duración en nanosegundos
+     */
+    void registrar(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        cuentas[indice(micros)]++;
+        total++;
+        suma += micros;
+        minimo = Math.min(minimo, micros);
+        maximo = Math.max(maximo, micros);
+    }
+
+    /**
+     * Suma las muestras de otro histograma a este
+     */
+    void agregar(HistogramaLatencias otro) {
+        for (int i = 0; i < cuentas.length; i++) {
+            cuentas[i] += otro.cuentas[i];
+        }
+        total += otro.total;
+        suma += otro.suma;
+        minimo = Math.min(minimo, otro.minimo);
+        maximo = Math.max(maximo, otro.maximo);
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    long getMinimo() {
+        return total == 0 ? 0 : minimo;
+    }
+
+    long getMaximo() {
+        return maximo;
+    }
+
+    double getMedia() {
+        return total == 0 ? 0 : (double) suma / total;
+    }
+
+    /**
+     * Valor (µs) por debajo del cual queda el porcentaje indicado de las muestras
+     *
+     * @param porcentaje entre 0 y 100
+     * @return límite superior de la cubeta que contiene el percentil, acotado por el máximo observado
+     */
+    long percentil(double porcentaje) {
+        if (total == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(total * porcentaje / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < cuentas.length; i++) {
+            acumulado += cuentas[i];
+            if (acumulado >= objetivo) {
+                return Math.min(valorMaximoDe(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    private static int indice(long micros) {
+        if (micros < LINEALES) {
+            return (int) micros;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponente >= EXPONENTE_MAXIMO) {
+            return LINEALES + (EXPONENTE_MAXIMO - BITS_SUBCUBETA - 1) * SUBCUBETAS + SUBCUBETAS - 1;
+        }
+        int desplazamiento = exponente - BITS_SUBCUBETA;
+        int subcubeta = (int) (micros >>> desplazamiento) - SUBCUBETAS;
+        return LINEALES + (exponente - BITS_SUBCUBETA - 1) * SUBCUBETAS + subcubeta;
+    }
+
+    private static long valorMaximoDe(int indice) {
+        if (indice < LINEALES) {
+            return indice;
+        }
+        int desplazamiento = (indice - LINEALES) / SUBCUBETAS + 1;
+        long subcubeta = (indice - LINEALES) % SUBCUBETAS + SUBCUBETAS;
+        return ((subcubeta + 1) << desplazamiento) - 1;
+    }
+}
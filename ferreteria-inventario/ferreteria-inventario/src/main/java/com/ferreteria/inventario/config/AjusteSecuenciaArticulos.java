@@ -0,0 +1,81 @@
+package com.ferreteria.inventario.config;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+
+/**
+ * Ajusta al arrancar la secuencia de IDs de artículos para que no repita IDs existentes.
+ *
+ * En MySQL Hibernate emula articulos_seq con una tabla. En una base creada cuando los IDs eran
+ * AUTO_INCREMENT, ddl-auto=update crea esa tabla con next_val = 1 y los primeros INSERT chocarían
+ * con los artículos existentes. Antes de que el servidor web acepte peticiones se sube next_val a
+ * MAX(id) + {@link Articulo#TAMANIO_BLOQUE_IDS}: el primer bloque que reserve Hibernate empieza
+ * después del último ID usado. Solo se sube, nunca se baja, así que es seguro en cada arranque y con
+ * varias instancias. Con secuencias nativas (H2 en pruebas) no existe la tabla y no se hace nada.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class AjusteSecuenciaArticulos implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(AjusteSecuenciaArticulos.class);
+
+    /**
+     * Tabla con la que Hibernate emula la secuencia en bases sin secuencias nativas
+     */
+    static final String TABLA_SECUENCIA = "articulos_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AjusteSecuenciaArticulos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ajustar();
+    }
+
+    /**
+     * Sube next_val por encima del mayor ID de artículo si hace falta
+     *
+     * @return true si la secuencia se ajustó
+     */
+    boolean ajustar() {
+        if (!existeTablaSecuencia()) {
+            logger.debug("La secuencia de artículos es nativa: no requiere ajuste");
+            return false;
+        }
+        Long maximoId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM articulos", Long.class);
+        long minimo = (maximoId != null ? maximoId : 0L) + Articulo.TAMANIO_BLOQUE_IDS;
+        int filas = jdbcTemplate.update("UPDATE " + TABLA_SECUENCIA + " SET next_val = ? WHERE next_val < ?",
+                minimo, minimo);
+        if (filas > 0) {
+            logger.warn("Secuencia de artículos ajustada: next_val = {} (mayor ID existente: {})", minimo, maximoId);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean existeTablaSecuencia() {
+        Boolean existe = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion -> {
+            try (ResultSet tablas = conexion.getMetaData().getTables(conexion.getCatalog(), null,
+                    TABLA_SECUENCIA, new String[]{"TABLE"})) {
+                return tablas.next();
+            }
+        });
+        return Boolean.TRUE.equals(existe);
+    }
+}
@@ -5,11 +5,15 @@ import com.ferreteria.inventario.soap.ArticuloSoapServiceImpl;
 import jakarta.xml.ws.Endpoint;
 import org.apache.cxf.Bus;
 import org.apache.cxf.bus.spring.SpringBus;
+import org.apache.cxf.feature.FastInfosetFeature;
 import org.apache.cxf.jaxws.EndpointImpl;
+import org.apache.cxf.transport.common.gzip.GZIPFeature;
 import org.apache.cxf.transport.servlet.CXFServlet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Configuración de Apache CXF para servicios SOAP (RNF5)
@@ -22,7 +26,13 @@ import org.springframework.context.annotation.Configuration;
 public class CxfConfig {
 
     /**
-     * Configura el servlet de CXF
+     * Nombre del ejecutor de las operaciones SOAP asíncronas
+     */
+    public static final String EJECUTOR_SOAP = "soapExecutor";
+
+    /**
+     * Configura el servlet de CXF. Debe admitir modo asíncrono para que las operaciones con
+     * {@code @UseAsyncMethod} suspendan la petición y liberen el hilo de Tomcat.
      */
     @Bean
     public ServletRegistrationBean<CXFServlet> cxfServlet() {
@@ -30,28 +40,67 @@ public class CxfConfig {
                 new ServletRegistrationBean<>(new CXFServlet(), "/soap/*");
         servletRegistration.setLoadOnStartup(1);
         servletRegistration.setName("CXFServlet");
+        servletRegistration.setAsyncSupported(true);
         return servletRegistration;
     }
 
     /**
-     * Configura el bus de CXF
+     * Ejecutor acotado de las operaciones SOAP (RNF2). Una consulta lenta a MySQL ocupa un hilo de
+     * este pool y no un hilo de Tomcat, así que la interfaz web sigue atendiendo aunque SOAP esté
+     * saturado. Con el pool y la cola llenos las llamadas se rechazan con un fault SERVICIO_OCUPADO.
+     */
+    @Bean(name = EJECUTOR_SOAP)
+    public ThreadPoolTaskExecutor soapExecutor(
+            @Value("${inventario.soap.ejecutor.hilos:16}") int hilos,
+            @Value("${inventario.soap.ejecutor.capacidad-cola:500}") int capacidadCola) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(capacidadCola);
+        executor.setThreadNamePrefix("soap-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Configura el bus de CXF. Con GZIP habilitado (RNF2) las respuestas se comprimen solo si el
+     * cliente envía {@code Accept-Encoding: gzip} y superan el umbral; las solicitudes con
+     * {@code Content-Encoding: gzip} se descomprimen. Los clientes sin GZIP no se ven afectados.
      */
     @Bean(name = Bus.DEFAULT_BUS_ID)
-    public SpringBus springBus() {
-        return new SpringBus();
+    public SpringBus springBus(
+            @Value("${inventario.soap.gzip.habilitado:true}") boolean gzipHabilitado,
+            @Value("${inventario.soap.gzip.umbral-bytes:1024}") int umbralGzip) {
+        SpringBus bus = new SpringBus();
+        if (gzipHabilitado) {
+            GZIPFeature gzip = new GZIPFeature();
+            gzip.setThreshold(umbralGzip);
+            bus.getFeatures().add(gzip);
+        }
+        return bus;
     }
 
     /**
      * Publica el endpoint del servicio SOAP de artículos
      * Disponible en: http://localhost:8080/ferreteria/soap/ArticuloService
      * WSDL en: http://localhost:8080/ferreteria/soap/ArticuloService?wsdl
+     *
+     * Con Fast Infoset habilitado (RNF2) el endpoint acepta solicitudes en XML binario
+     * ({@code application/fastinfoset}) y responde en ese formato solo a los clientes que lo piden
+     * en {@code Accept}; el resto sigue recibiendo SOAP de texto.
      */
     @Bean
     public Endpoint articuloSoapEndpoint(
             Bus bus,
-            ArticuloSoapServiceImpl articuloSoapService) {
+            ArticuloSoapServiceImpl articuloSoapService,
+            @Value("${inventario.soap.fastinfoset.habilitado:true}") boolean fastInfosetHabilitado) {
 
         EndpointImpl endpoint = new EndpointImpl(bus, articuloSoapService);
+        endpoint.getOutInterceptors().add(new MtomExportacionInterceptor());
+        if (fastInfosetHabilitado) {
+            endpoint.getFeatures().add(new FastInfosetFeature());
+        }
         endpoint.publish("/ArticuloService");
 
         return endpoint;
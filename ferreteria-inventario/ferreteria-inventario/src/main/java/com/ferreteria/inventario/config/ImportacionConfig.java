@@ -0,0 +1,38 @@
+package com.ferreteria.inventario.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuración de las importaciones masivas de artículos en segundo plano (RF5, RNF2)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Configuration
+public class ImportacionConfig {
+
+    /**
+     * Nombre del ejecutor de las importaciones
+     */
+    public static final String EJECUTOR_IMPORTACION = "importacionExecutor";
+
+    /**
+     * Ejecutor de las importaciones: pocos hilos para no competir con las operaciones en línea
+     * por las conexiones a MySQL. La cola no se acota porque cada tarea es una importación completa
+     * ya registrada en la base de datos. Al detener la aplicación no se espera a las importaciones
+     * en curso: el bloque abierto se revierte y se reanuda al arrancar.
+     */
+    @Bean(name = EJECUTOR_IMPORTACION)
+    public ThreadPoolTaskExecutor importacionExecutor(
+            @Value("${inventario.importacion.hilos:2}") int hilos) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setThreadNamePrefix("importacion-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ferreteria.inventario.config;
+
+import org.apache.cxf.interceptor.FIStaxOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.service.model.BindingOperationInfo;
+
+/**
+ * Activa MTOM solo en la respuesta de exportarInventario, para que el adjunto se transmita en binario
+ * y en streaming sin cambiar el formato (sin MIME) del resto de operaciones.
+ * Esa respuesta se envía siempre como XML de texto: CXF no marca como Fast Infoset la parte raíz
+ * de un mensaje MTOM y el cliente no podría leerla; el adjunto ya viaja en binario de todos modos.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class MtomExportacionInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    static final String OPERACION_EXPORTACION = "exportarInventario";
+
+    public MtomExportacionInterceptor() {
+        super(Phase.PREPARE_SEND);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+        BindingOperationInfo operacion = message.getExchange().getBindingOperationInfo();
+        if (operacion != null && OPERACION_EXPORTACION.equals(operacion.getName().getLocalPart())) {
+            message.put(Message.MTOM_ENABLED, Boolean.TRUE);
+            message.put(FIStaxOutInterceptor.FI_ENABLED, Boolean.FALSE);
+            Message entrada = message.getExchange().getInMessage();
+            if (entrada != null) {
+                entrada.remove(Message.ACCEPT_CONTENT_TYPE);
+            }
+        }
+    }
+}
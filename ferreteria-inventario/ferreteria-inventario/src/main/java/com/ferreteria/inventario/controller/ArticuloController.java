@@ -1,20 +1,32 @@
 package com.ferreteria.inventario.controller;
 
 import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
 import com.ferreteria.inventario.exception.ArticuloDuplicadoException;
 import com.ferreteria.inventario.exception.ArticuloNoEncontradoException;
 import com.ferreteria.inventario.exception.ValidationException;
+import com.ferreteria.inventario.repository.ArticuloResumen;
 import com.ferreteria.inventario.service.ArticuloService;
+import com.ferreteria.inventario.service.ImportacionService;
+import com.ferreteria.inventario.service.OrdenArticulos;
+import com.ferreteria.inventario.service.PaginaArticulos;
+import com.ferreteria.inventario.util.LectorCsvArticulos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Controlador web para la interfaz de usuario
@@ -25,21 +37,37 @@ public class ArticuloController {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticuloController.class);
 
+    private static final String TAMANIO_PAGINA_DEFECTO = "50";
+
+    private static final String MODO_RELEVANCIA = "relevancia";
+    private static final int LIMITE_RELEVANCIA = 50;
+
+    private static final String ORIGEN_IMPORTACION = "WEB";
+    private static final int MAXIMO_RECHAZOS_IMPORTACION = 100;
+
     @Autowired
     private ArticuloService articuloService;
 
+    @Autowired
+    private ImportacionService importacionService;
+
     /** ============ PÁGINA PRINCIPAL ============ */
     @GetMapping({"/", "", "/index"})
-    public String index(Model model) {
+    public String index(@RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) String orden,
+                        @RequestParam(defaultValue = TAMANIO_PAGINA_DEFECTO) int tamanio,
+                        Model model) {
         logger.info("========== CARGANDO PÁGINA PRINCIPAL ==========");
         try {
-            List<Articulo> articulos = articuloService.obtenerTodosLosArticulos();
-            List<Articulo> articulosStockBajo = articuloService.obtenerArticulosConStockBajo();
+            PaginaArticulos pagina = articuloService.obtenerPaginaArticulos(
+                    cursor, tamanio, OrdenArticulos.desde(orden));
+            List<ArticuloResumen> articulos = pagina.getArticulos();
 
             model.addAttribute("articulos", articulos);
-            model.addAttribute("articulosStockBajo", articulosStockBajo);
-            model.addAttribute("totalArticulos", articulos.size());
-            model.addAttribute("articulosConStockBajo", articulosStockBajo.size());
+            model.addAttribute("totalArticulos", articuloService.contarArticulosActivos());
+            model.addAttribute("articulosConStockBajo", articuloService.contarArticulosConStockBajo());
+            model.addAttribute("resumenInventario", articuloService.obtenerResumenInventario());
+            agregarPaginacion(model, pagina, tamanio);
 
             try {
                 model.addAttribute("categorias", articuloService.obtenerTodasLasCategorias());
@@ -135,23 +163,35 @@ public class ArticuloController {
     @GetMapping("/buscar")
     public String buscarArticulos(@RequestParam(required = false) String criterio,
                                   @RequestParam(required = false) String categoria,
+                                  @RequestParam(required = false) String modo,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(required = false) String orden,
+                                  @RequestParam(defaultValue = TAMANIO_PAGINA_DEFECTO) int tamanio,
                                   Model model) {
         logger.info("========== BUSCANDO - Criterio: {}, Categoría: {} ==========",
                 criterio, categoria);
         try {
-            List<Articulo> resultados;
+            List<ArticuloResumen> resultados;
 
             if (categoria != null && !categoria.isEmpty()) {
-                resultados = articuloService.obtenerArticulosPorCategoria(categoria);
+                resultados = articuloService.obtenerResumenPorCategoria(categoria);
+            } else if (criterio != null && !criterio.isEmpty() && MODO_RELEVANCIA.equals(modo)) {
+                resultados = articuloService.buscarArticulosPorRelevancia(criterio, LIMITE_RELEVANCIA).stream()
+                        .map(ArticuloResumen::desde)
+                        .collect(Collectors.toList());
             } else if (criterio != null && !criterio.isEmpty()) {
-                resultados = articuloService.buscarArticulos(criterio);
+                resultados = articuloService.buscarResumenArticulos(criterio);
             } else {
-                resultados = articuloService.obtenerTodosLosArticulos();
+                PaginaArticulos pagina = articuloService.obtenerPaginaArticulos(
+                        cursor, tamanio, OrdenArticulos.desde(orden));
+                resultados = pagina.getArticulos();
+                agregarPaginacion(model, pagina, tamanio);
             }
 
             model.addAttribute("articulos", resultados);
             model.addAttribute("criterio", criterio);
             model.addAttribute("categoria", categoria);
+            model.addAttribute("modo", modo);
             model.addAttribute("totalResultados", resultados.size());
 
             try {
@@ -295,6 +335,59 @@ public class ArticuloController {
         }
     }
 
+    /** ============ IMPORTAR - GET ============ */
+    @GetMapping("/importar")
+    public String mostrarFormularioImportacion(Model model) {
+        logger.info("========== MOSTRANDO FORMULARIO IMPORTAR ==========");
+        model.addAttribute("importaciones", importacionService.obtenerUltimasImportaciones());
+        return "importar";
+    }
+
+    /** ============ IMPORTAR - POST ============ */
+    @PostMapping("/importar")
+    public String importarArticulos(@RequestParam("archivo") MultipartFile archivo,
+                                    RedirectAttributes redirectAttributes) {
+        logger.info("========== IMPORTANDO ARCHIVO: {} ==========", archivo.getOriginalFilename());
+        try {
+            List<Articulo> articulos;
+            try (Reader lector = new InputStreamReader(archivo.getInputStream(), StandardCharsets.UTF_8)) {
+                articulos = LectorCsvArticulos.leer(lector);
+            }
+            ImportacionArticulos importacion = importacionService.iniciarImportacion(articulos, ORIGEN_IMPORTACION);
+
+            redirectAttributes.addFlashAttribute("success",
+                    "✅ Importación registrada: " + importacion.getTotalLineas() + " líneas en proceso");
+            logger.info("✅ Importación {} registrada", importacion.getId());
+            return "redirect:/importar/" + importacion.getId();
+
+        } catch (ValidationException e) {
+            logger.warn("⚠️ Importación rechazada: {}", e.getErrores());
+            redirectAttributes.addFlashAttribute("error", "❌ " + String.join(", ", e.getErrores()));
+            return "redirect:/importar";
+        } catch (Exception e) {
+            logger.error("❌ ERROR al importar archivo", e);
+            redirectAttributes.addFlashAttribute("error", "❌ Error al importar: " + e.getMessage());
+            return "redirect:/importar";
+        }
+    }
+
+    /** ============ IMPORTAR - ESTADO ============ */
+    @GetMapping("/importar/{id}")
+    public String verImportacion(@PathVariable Long id, Model model) {
+        logger.debug("========== ESTADO IMPORTACIÓN ID: {} ==========", id);
+        Optional<ImportacionArticulos> importacion = importacionService.consultarImportacion(id);
+        if (importacion.isEmpty()) {
+            logger.warn("⚠️ Importación no encontrada: {}", id);
+            return "redirect:/importar";
+        }
+        model.addAttribute("importacion", importacion.get());
+        model.addAttribute("rechazadas", importacion.get().getRechazados() > 0
+                ? importacionService.obtenerLineasRechazadas(id, MAXIMO_RECHAZOS_IMPORTACION)
+                : List.of());
+        model.addAttribute("importaciones", importacionService.obtenerUltimasImportaciones());
+        return "importar";
+    }
+
     /** ============ SOAP INFO ============ */
     @GetMapping("/soap-info")
     public String soapInfo(Model model) {
@@ -310,6 +403,16 @@ public class ArticuloController {
         return "soap-info";
     }
 
+    /**
+     * Agrega al modelo los datos necesarios para navegar a la siguiente página
+     */
+    private void agregarPaginacion(Model model, PaginaArticulos pagina, int tamanio) {
+        model.addAttribute("orden", pagina.getOrden().name());
+        model.addAttribute("ordenes", OrdenArticulos.values());
+        model.addAttribute("tamanio", tamanio);
+        model.addAttribute("siguienteCursor", pagina.getSiguienteCursor());
+    }
+
     /** ============ MANEJO DE ERRORES ============ */
     @ExceptionHandler(Exception.class)
     public String handleException(Exception e, Model model) {
@@ -21,7 +21,9 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_codigo", columnList = "codigo"),
                 @Index(name = "idx_nombre", columnList = "nombre"),
-                @Index(name = "idx_categoria", columnList = "categoria")
+                @Index(name = "idx_categoria", columnList = "categoria"),
+                @Index(name = "idx_activo_deficit", columnList = "activo, deficit"),
+                @Index(name = "idx_fecha_actualizacion", columnList = "fechaActualizacion, id")
         })
 @Data
 @NoArgsConstructor
@@ -29,8 +31,17 @@ import java.time.LocalDateTime;
 @Builder
 public class Articulo {
 
+    /**
+     * IDs que Hibernate reserva de la secuencia articulos_seq en cada acceso
+     */
+    public static final int TAMANIO_BLOQUE_IDS = 50;
+
+    /**
+     * ID asignado por secuencia en bloques de 50 (IDENTITY impide el batching de inserts en Hibernate)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articulos_seq")
+    @SequenceGenerator(name = "articulos_seq", sequenceName = "articulos_seq", allocationSize = TAMANIO_BLOQUE_IDS)
     private Long id;
 
     /**
@@ -123,6 +134,25 @@ public class Articulo {
     @Column(nullable = false)
     private Boolean activo = true;
 
+    /**
+     * Contador de cambios de la fila (RNF2). Cada UPDATE lo incrementa en la base de datos mientras
+     * la fila está bloqueada, así que su orden es el de confirmación: las estructuras en memoria lo usan
+     * para descartar valores confirmados antes que el que ya tienen. Nunca se escribe desde la entidad.
+     */
+    @Builder.Default
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long revision = 0L;
+
+    /**
+     * Unidades que faltan para alcanzar el stock mínimo (RF7). Columna generada por la base de datos
+     * e indexada junto con activo, para listar el stock bajo por rango ordenado por urgencia.
+     * En schema.sql es STORED; aquí se omite para que la definición también sea válida en H2.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false,
+            columnDefinition = "INT GENERATED ALWAYS AS (stock_minimo - stock_actual)")
+    private Integer deficit;
+
     /**
      * Valida la coherencia entre precio de compra y venta (RF3)
      * Este método se ejecuta antes de persistir o actualizar la entidad
@@ -148,6 +178,28 @@ public class Articulo {
         return stockActual != null && stockMinimo != null && stockActual < stockMinimo;
     }
 
+    /**
+     * Obtiene el déficit de stock. Se calcula a partir de los campos actuales porque la columna
+     * generada solo se lee al cargar la entidad y no refleja cambios aún no persistidos.
+     *
+     * @return stock mínimo menos stock actual (negativo si sobra stock)
+     */
+    public Integer getDeficit() {
+        if (stockActual != null && stockMinimo != null) {
+            return stockMinimo - stockActual;
+        }
+        return deficit;
+    }
+
+    /**
+     * Obtiene la revisión de la fila
+     *
+     * @return revisión confirmada, 0 para artículos aún no guardados
+     */
+    public Long getRevision() {
+        return revision != null ? revision : 0L;
+    }
+
     /**
      * Calcula el margen de ganancia del artículo
      *
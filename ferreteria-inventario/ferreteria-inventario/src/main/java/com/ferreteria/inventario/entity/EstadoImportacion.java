@@ -0,0 +1,31 @@
+package com.ferreteria.inventario.entity;
+
+/**
+ * Estados de una importación masiva de artículos (RF5)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public enum EstadoImportacion {
+
+    /**
+     * Registrada, a la espera de un hilo del ejecutor de importaciones
+     */
+    PENDIENTE,
+
+    /**
+     * Procesándose por bloques; si la aplicación se detiene, se reanuda al arrancar
+     */
+    EN_PROCESO,
+
+    COMPLETADA,
+
+    /**
+     * Detenida por un error inesperado (los bloques ya confirmados se conservan)
+     */
+    FALLIDA;
+
+    public boolean isTerminal() {
+        return this == COMPLETADA || this == FALLIDA;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ferreteria.inventario.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Importación masiva de artículos procesada en segundo plano (RF5, RNF2).
+ * Guarda el avance junto con cada bloque confirmado, de modo que una importación
+ * interrumpida se reanuda desde el primer bloque sin confirmar.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Entity
+@Table(name = "importaciones",
+        indexes = {
+                @Index(name = "idx_importacion_estado", columnList = "estado")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacionArticulos {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoImportacion estado;
+
+    /**
+     * Canal por el que se envió (SOAP, WEB)
+     */
+    @Column(nullable = false, length = 20)
+    private String origen;
+
+    @Column(nullable = false)
+    private Integer totalLineas;
+
+    /**
+     * Líneas ya confirmadas; el siguiente bloque empieza en esta posición
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer lineasProcesadas = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer insertados = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer actualizados = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer rechazados = 0;
+
+    /**
+     * Motivo del fallo cuando el estado es FALLIDA
+     */
+    @Column(length = 1000)
+    private String mensajeError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime fechaActualizacion;
+
+    private LocalDateTime fechaFin;
+
+    /**
+     * Porcentaje de líneas procesadas (0-100)
+     */
+    public int getPorcentaje() {
+        if (totalLineas == null || totalLineas == 0) {
+            return 100;
+        }
+        return (int) (lineasProcesadas * 100L / totalLineas);
+    }
+}
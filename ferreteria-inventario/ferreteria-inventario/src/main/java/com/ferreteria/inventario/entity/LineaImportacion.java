@@ -0,0 +1,123 @@
+package com.ferreteria.inventario.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Línea de una importación masiva, tal como se recibió (RF5).
+ * Los campos no llevan validaciones de Bean Validation y son más amplios que los de Articulo:
+ * cualquier línea se puede registrar, se valida con ValidationUtil al procesar su bloque
+ * y los errores quedan en la propia línea.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Entity
+@Table(name = "importacion_lineas",
+        indexes = {
+                @Index(name = "idx_importacion_numero", columnList = "importacionId, numero", unique = true)
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LineaImportacion {
+
+    private static final int LONGITUD_TEXTO = 255;
+
+    /**
+     * ID asignado por secuencia en bloques de 50 para insertar las líneas por lotes
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "importacion_lineas_seq")
+    @SequenceGenerator(name = "importacion_lineas_seq", sequenceName = "importacion_lineas_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long importacionId;
+
+    /**
+     * Posición de la línea dentro de la importación (desde 0)
+     */
+    @Column(nullable = false)
+    private Integer numero;
+
+    @Column(length = LONGITUD_TEXTO)
+    private String codigo;
+
+    @Column(length = LONGITUD_TEXTO)
+    private String nombre;
+
+    @Column(columnDefinition = "TEXT")
+    private String descripcion;
+
+    @Column(length = LONGITUD_TEXTO)
+    private String categoria;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal precioCompra;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal precioVenta;
+
+    private Integer stockActual;
+
+    private Integer stockMinimo;
+
+    @Column(length = LONGITUD_TEXTO)
+    private String proveedor;
+
+    /**
+     * Código de error (VALIDACION, DUPLICADO) o null si la línea se importó
+     */
+    @Column(length = 20)
+    private String codigoError;
+
+    @Column(length = 1000)
+    private String mensaje;
+
+    /**
+     * Crea la línea a partir de un artículo recibido
+     */
+    public static LineaImportacion desde(Long importacionId, int numero, Articulo articulo) {
+        return LineaImportacion.builder()
+                .importacionId(importacionId)
+                .numero(numero)
+                .codigo(recortar(articulo.getCodigo()))
+                .nombre(recortar(articulo.getNombre()))
+                .descripcion(articulo.getDescripcion())
+                .categoria(recortar(articulo.getCategoria()))
+                .precioCompra(articulo.getPrecioCompra())
+                .precioVenta(articulo.getPrecioVenta())
+                .stockActual(articulo.getStockActual())
+                .stockMinimo(articulo.getStockMinimo())
+                .proveedor(recortar(articulo.getProveedor()))
+                .build();
+    }
+
+    /**
+     * Recorta el texto a la longitud de la columna (la validación rechaza después los demasiado largos)
+     */
+    private static String recortar(String valor) {
+        return (valor != null && valor.length() > LONGITUD_TEXTO) ? valor.substring(0, LONGITUD_TEXTO) : valor;
+    }
+
+    /**
+     * Construye el artículo a importar con los datos de la línea
+     */
+    public Articulo aArticulo() {
+        return Articulo.builder()
+                .codigo(codigo)
+                .nombre(nombre)
+                .descripcion(descripcion)
+                .categoria(categoria)
+                .precioCompra(precioCompra)
+                .precioVenta(precioVenta)
+                .stockActual(stockActual)
+                .stockMinimo(stockMinimo)
+                .proveedor(proveedor)
+                .build();
+    }
+}
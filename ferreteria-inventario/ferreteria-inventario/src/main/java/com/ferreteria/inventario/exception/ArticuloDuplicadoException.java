@@ -3,7 +3,7 @@ package com.ferreteria.inventario.exception;
 /**
  * Excepción lanzada cuando se intenta registrar un artículo con código duplicado (RF3, RF10)
  */
-public class ArticuloDuplicadoException extends RuntimeException {
+public class ArticuloDuplicadoException extends NegocioException {
 
     private final String codigo;
 
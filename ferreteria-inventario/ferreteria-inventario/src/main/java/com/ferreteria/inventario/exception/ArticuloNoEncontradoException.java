@@ -3,7 +3,7 @@ package com.ferreteria.inventario.exception;
 /**
  * Excepción lanzada cuando no se encuentra un artículo (RF10)
  */
-public class ArticuloNoEncontradoException extends RuntimeException {
+public class ArticuloNoEncontradoException extends NegocioException {
 
     private final String identificador;
 
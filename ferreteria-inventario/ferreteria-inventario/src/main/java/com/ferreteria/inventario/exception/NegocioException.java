@@ -0,0 +1,13 @@
+package com.ferreteria.inventario.exception;
+
+/**
+ * Base de las excepciones de negocio esperadas: código inexistente, duplicado, validación, stock (RF10)
+ * No captura la traza de la pila: se lanzan en el flujo normal (ej: códigos desconocidos en un conteo)
+ * y la traza no aporta información, solo costo.
+ */
+public abstract class NegocioException extends RuntimeException {
+
+    protected NegocioException(String mensaje) {
+        super(mensaje, null, false, false);
+    }
+}
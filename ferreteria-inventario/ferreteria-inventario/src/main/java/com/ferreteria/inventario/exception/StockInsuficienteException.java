@@ -0,0 +1,31 @@
+package com.ferreteria.inventario.exception;
+
+/**
+ * Excepción lanzada cuando no hay stock suficiente para descontar la cantidad solicitada (RF7, RF10)
+ */
+public class StockInsuficienteException extends NegocioException {
+
+    private final String codigo;
+    private final int cantidadSolicitada;
+    private final int stockDisponible;
+
+    public StockInsuficienteException(String codigo, int cantidadSolicitada, int stockDisponible) {
+        super("Stock insuficiente para el artículo '" + codigo + "': solicitado " + cantidadSolicitada +
+                ", disponible " + stockDisponible);
+        this.codigo = codigo;
+        this.cantidadSolicitada = cantidadSolicitada;
+        this.stockDisponible = stockDisponible;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public int getCantidadSolicitada() {
+        return cantidadSolicitada;
+    }
+
+    public int getStockDisponible() {
+        return stockDisponible;
+    }
+}
@@ -6,7 +6,7 @@ import java.util.List;
 /**
  * Excepción lanzada cuando hay errores de validación (RF3, RF10)
  */
-public class ValidationException extends RuntimeException {
+public class ValidationException extends NegocioException {
 
     private final List<String> errores;
 
@@ -1,13 +1,22 @@
 package com.ferreteria.inventario.repository;
 
 import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.service.ResumenCategoria;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la gestión de artículos en la base de datos.
@@ -18,7 +27,14 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
+public interface ArticuloRepository extends JpaRepository<Articulo, Long>, ArticuloRepositoryCustom {
+
+    /**
+     * Expresión de constructor de {@link ArticuloResumen} para las consultas de listados
+     */
+    String SELECT_RESUMEN = "SELECT new com.ferreteria.inventario.repository.ArticuloResumen(" +
+            "a.id, a.codigo, a.nombre, a.categoria, a.precioCompra, a.precioVenta, " +
+            "a.stockActual, a.stockMinimo, a.proveedor, a.activo) FROM Articulo a ";
 
     /**
      * Busca un artículo por su código único (RF4)
@@ -28,6 +44,23 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
      */
     Optional<Articulo> findByCodigo(String codigo);
 
+    /**
+     * Busca los artículos con cualquiera de los códigos dados en una sola consulta IN (RF6)
+     *
+     * @param codigos códigos a buscar
+     * @return artículos encontrados (los códigos inexistentes simplemente no aparecen)
+     */
+    List<Articulo> findByCodigoIn(Collection<String> codigos);
+
+    /**
+     * Obtiene los resúmenes de los artículos con los códigos dados en una sola consulta IN
+     *
+     * @param codigos códigos a buscar
+     * @return resúmenes de los artículos encontrados
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.codigo IN :codigos")
+    List<ArticuloResumen> findResumenByCodigoIn(@Param("codigos") Collection<String> codigos);
+
     /**
      * Verifica si existe un artículo con el código dado (RF3)
      *
@@ -61,6 +94,43 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
             @Param("nombre") String nombre
     );
 
+    /**
+     * Proyección de {@link #findByCodigoOrNombre} para listados
+     *
+     * @param criterio texto a buscar en código o nombre
+     * @return resúmenes de los artículos que coinciden
+     */
+    @Query(SELECT_RESUMEN + "WHERE " +
+            "(LOWER(a.codigo) LIKE LOWER(CONCAT('%', :criterio, '%')) OR " +
+            "LOWER(a.nombre) LIKE LOWER(CONCAT('%', :criterio, '%'))) " +
+            "AND a.activo = true")
+    List<ArticuloResumen> findResumenByCodigoOrNombre(@Param("criterio") String criterio);
+
+    /**
+     * Búsqueda de texto completo ordenada por relevancia (MySQL FULLTEXT ft_nombre_descripcion)
+     *
+     * @param texto texto libre a buscar
+     * @param limite número máximo de resultados
+     * @return artículos activos ordenados por relevancia descendente
+     */
+    @Query(value = "SELECT * FROM articulos a WHERE a.activo = TRUE " +
+            "AND MATCH(a.nombre, a.descripcion) AGAINST (:texto IN NATURAL LANGUAGE MODE) " +
+            "ORDER BY MATCH(a.nombre, a.descripcion) AGAINST (:texto IN NATURAL LANGUAGE MODE) DESC " +
+            "LIMIT :limite", nativeQuery = true)
+    List<Articulo> buscarPorRelevancia(@Param("texto") String texto, @Param("limite") int limite);
+
+    /**
+     * Busca artículos cuyo nombre o descripción contienen el término (alternativa sin FULLTEXT, ej. H2)
+     *
+     * @param termino término a buscar
+     * @return lista de artículos que coinciden
+     */
+    @Query("SELECT a FROM Articulo a WHERE " +
+            "(LOWER(a.nombre) LIKE LOWER(CONCAT('%', :termino, '%')) OR " +
+            "LOWER(a.descripcion) LIKE LOWER(CONCAT('%', :termino, '%'))) " +
+            "AND a.activo = true")
+    List<Articulo> findByNombreOrDescripcionContaining(@Param("termino") String termino);
+
     /**
      * Obtiene artículos por categoría
      *
@@ -70,11 +140,38 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
     List<Articulo> findByCategoria(String categoria);
 
     /**
-     * Obtiene artículos con stock bajo (RF7)
+     * Proyección de {@link #findByCategoria} para listados
+     *
+     * @param categoria categoría a buscar
+     * @return resúmenes de los artículos de esa categoría
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.categoria = :categoria")
+    List<ArticuloResumen> findResumenByCategoria(@Param("categoria") String categoria);
+
+    /**
+     * Obtiene los artículos activos con los IDs dados (resultados del índice de búsqueda)
+     *
+     * @param ids identificadores
+     * @return artículos encontrados que siguen activos
+     */
+    List<Articulo> findByIdInAndActivoTrue(Collection<Long> ids);
+
+    /**
+     * Obtiene los resúmenes de los artículos activos con los IDs dados
+     *
+     * @param ids identificadores
+     * @return resúmenes de los artículos encontrados que siguen activos
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.id IN :ids AND a.activo = true")
+    List<ArticuloResumen> findResumenActivosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene artículos con stock bajo (RF7), del más urgente al menos urgente.
+     * Recorre por rango el índice idx_activo_deficit, ya ordenado por la columna generada.
      *
      * @return lista de artículos con stock menor al mínimo
      */
-    @Query("SELECT a FROM Articulo a WHERE a.stockActual < a.stockMinimo AND a.activo = true")
+    @Query("SELECT a FROM Articulo a WHERE a.activo = true AND a.deficit > 0 ORDER BY a.deficit DESC")
     List<Articulo> findArticulosConStockBajo();
 
     /**
@@ -84,6 +181,106 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
      */
     List<Articulo> findByActivoTrue();
 
+    /**
+     * Obtiene la primera página de artículos activos según el orden del Pageable.
+     * No ejecuta consulta de conteo (retorna List en lugar de Page).
+     *
+     * @param pageable tamaño de página y orden
+     * @return resúmenes de los artículos activos de la primera página
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.activo = true")
+    List<ArticuloResumen> findResumenActivos(Pageable pageable);
+
+    /**
+     * Recorre los artículos activos por bloques de ID ascendente (construcción de estructuras en memoria)
+     *
+     * @param id último ID del bloque anterior
+     * @param pageable tamaño de bloque
+     * @return siguiente bloque de artículos activos
+     */
+    List<Articulo> findByActivoTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Paginación keyset ascendente por ID (seek sobre la clave primaria)
+     *
+     * @param id último ID de la página anterior
+     * @param pageable tamaño de página
+     * @return siguiente página de artículos activos
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.activo = true AND a.id > :id ORDER BY a.id ASC")
+    List<ArticuloResumen> findResumenActivosConIdMayorA(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Paginación keyset descendente por ID
+     *
+     * @param id último ID de la página anterior
+     * @param pageable tamaño de página
+     * @return siguiente página de artículos activos
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.activo = true AND a.id < :id ORDER BY a.id DESC")
+    List<ArticuloResumen> findResumenActivosConIdMenorA(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Paginación keyset ascendente por código (usa idx_codigo)
+     *
+     * @param codigo último código de la página anterior
+     * @param pageable tamaño de página
+     * @return siguiente página de artículos activos
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.activo = true AND a.codigo > :codigo ORDER BY a.codigo ASC")
+    List<ArticuloResumen> findResumenActivosConCodigoMayorA(@Param("codigo") String codigo, Pageable pageable);
+
+    /**
+     * Paginación keyset descendente por código (usa idx_codigo)
+     *
+     * @param codigo último código de la página anterior
+     * @param pageable tamaño de página
+     * @return siguiente página de artículos activos
+     */
+    @Query(SELECT_RESUMEN + "WHERE a.activo = true AND a.codigo < :codigo ORDER BY a.codigo DESC")
+    List<ArticuloResumen> findResumenActivosConCodigoMenorA(@Param("codigo") String codigo, Pageable pageable);
+
+    /**
+     * Feed de cambios: artículos (activos o no) modificados después de la posición (fecha, id),
+     * en orden de modificación. Recorrido keyset sobre idx_fecha_actualizacion; el ID desempata
+     * los artículos con la misma fecha.
+     *
+     * @param fecha fecha de actualización de la posición de partida
+     * @param id ID de la posición de partida
+     * @param hasta fecha de actualización máxima a incluir
+     * @param pageable tamaño de página
+     * @return artículos modificados después de la posición
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Articulo a WHERE a.fechaActualizacion <= :hasta AND " +
+            "(a.fechaActualizacion > :fecha OR (a.fechaActualizacion = :fecha AND a.id > :id)) " +
+            "ORDER BY a.fechaActualizacion ASC, a.id ASC")
+    List<Articulo> findCambiosDesde(@Param("fecha") LocalDateTime fecha,
+                                    @Param("id") Long id,
+                                    @Param("hasta") LocalDateTime hasta,
+                                    Pageable pageable);
+
+    /**
+     * Recorre todos los artículos activos con un cursor de solo avance (exportación).
+     * Debe consumirse dentro de una transacción y cerrarse al terminar; en MySQL el fetch size
+     * solo se respeta con useCursorFetch=true.
+     *
+     * @return flujo de artículos activos ordenados por ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Articulo a WHERE a.activo = true ORDER BY a.id")
+    Stream<Articulo> streamArticulosActivos();
+
+    /**
+     * Cuenta los artículos activos
+     *
+     * @return número de artículos activos
+     */
+    long countByActivoTrue();
+
     /**
      * Busca artículos por proveedor
      *
@@ -100,6 +297,17 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
      */
     long countByCategoria(String categoria);
 
+    /**
+     * Valoración del inventario activo por categoría (misma agregación que la vista resumen_inventario)
+     *
+     * @return una fila por categoría, ordenadas por nombre
+     */
+    @Query("SELECT new com.ferreteria.inventario.service.ResumenCategoria(a.categoria, COUNT(a), " +
+            "SUM(a.stockActual), SUM(a.stockActual * a.precioCompra), SUM(a.stockActual * a.precioVenta), " +
+            "SUM(a.stockActual * (a.precioVenta - a.precioCompra))) " +
+            "FROM Articulo a WHERE a.activo = true GROUP BY a.categoria ORDER BY a.categoria")
+    List<ResumenCategoria> calcularResumenInventario();
+
     /**
      * Obtiene todas las categorías distintas
      *
@@ -132,4 +340,167 @@ public interface ArticuloRepository extends JpaRepository<Articulo, Long> {
      * @return true si existe otro artículo con ese código (diferente al ID)
      */
     boolean existsByCodigoAndIdNot(String codigo, Long id);
+
+    /**
+     * Obtiene cuáles de los códigos dados ya existen (una sola consulta IN por bloque)
+     *
+     * @param codigos códigos a verificar
+     * @return códigos existentes
+     */
+    @Query("SELECT a.codigo FROM Articulo a WHERE a.codigo IN :codigos")
+    List<String> findCodigosExistentes(@Param("codigos") Collection<String> codigos);
+
+    /**
+     * Obtiene solo el stock actual de un artículo (sin materializar la entidad)
+     *
+     * @param codigo código del artículo
+     * @return Optional con el stock actual si el artículo existe
+     */
+    @Query("SELECT a.stockActual FROM Articulo a WHERE a.codigo = :codigo")
+    Optional<Integer> findStockActualByCodigo(@Param("codigo") String codigo);
+
+    /**
+     * Obtiene el stock actual de un artículo activo; los desactivados no admiten movimientos de stock
+     *
+     * @param codigo código del artículo
+     * @return Optional con el stock actual si el artículo existe y está activo
+     */
+    @Query("SELECT a.stockActual FROM Articulo a WHERE a.codigo = :codigo AND a.activo = true")
+    Optional<Integer> findStockActualActivoByCodigo(@Param("codigo") String codigo);
+
+    /**
+     * Obtiene el stock y la revisión de un artículo (sin materializar la entidad)
+     *
+     * @param codigo código del artículo
+     * @return Optional con el estado si el artículo existe
+     */
+    @Query("SELECT new com.ferreteria.inventario.repository.EstadoStock(a.id, a.stockActual, a.revision) " +
+            "FROM Articulo a WHERE a.codigo = :codigo")
+    Optional<EstadoStock> findEstadoStockByCodigo(@Param("codigo") String codigo);
+
+    /**
+     * Obtiene el stock y la revisión de varios artículos
+     *
+     * @param ids IDs a consultar
+     * @return estados de los artículos existentes
+     */
+    @Query("SELECT new com.ferreteria.inventario.repository.EstadoStock(a.id, a.stockActual, a.revision) " +
+            "FROM Articulo a WHERE a.id IN :ids")
+    List<EstadoStock> findEstadoStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Incrementa la revisión de filas modificadas a través de la entidad (la entidad no escribe la columna).
+     * fecha_actualizacion se reasigna a sí misma para que ON UPDATE CURRENT_TIMESTAMP (schema.sql) no reemplace
+     * la fecha que la entidad acaba de escribir con el reloj de la base de datos.
+     *
+     * @param ids IDs de los artículos modificados
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Articulo a SET a.revision = a.revision + 1, a.fechaActualizacion = a.fechaActualizacion " +
+            "WHERE a.id IN :ids")
+    int incrementarRevision(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Condición de {@link #guardarOnDuplicateKey}: la fila existente ya tiene los valores recibidos
+     * ({@code n} es el alias de la fila insertada)
+     */
+    String SIN_CAMBIOS_ON_DUPLICATE_KEY = "BINARY articulos.nombre <=> BINARY n.nombre " +
+            "AND BINARY articulos.descripcion <=> BINARY n.descripcion " +
+            "AND BINARY articulos.categoria <=> BINARY n.categoria " +
+            "AND articulos.precio_compra <=> n.precio_compra AND articulos.precio_venta <=> n.precio_venta " +
+            "AND articulos.stock_actual <=> n.stock_actual AND articulos.stock_minimo <=> n.stock_minimo " +
+            "AND BINARY articulos.proveedor <=> BINARY n.proveedor";
+
+    /**
+     * Inserta o actualiza un artículo por código en una sola sentencia (MySQL 8.0.19 o posterior).
+     * Los valores recibidos se leen por el alias de fila {@code n} en lugar de VALUES(col), obsoleto desde 8.0.20.
+     * fecha_actualizacion y revision se asignan primero, comparando con los valores aún sin modificar: si ningún
+     * campo cambia la fila no se escribe. Los textos se comparan en binario para que un cambio solo de
+     * mayúsculas (colación _ci) también cuente. El artículo existente conserva su estado activo.
+     *
+     * @param id ID a usar si el código no existe (ver {@link #generarIdArticulo()})
+     * @param articulo datos del artículo ya validados
+     * @param fecha fecha de registro/actualización
+     * @return 1 si se insertó, 2 si se actualizó, 1 si no hubo cambios (la URL fija useAffectedRows=false,
+     *         CLIENT_FOUND_ROWS; con useAffectedRows=true sería 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO articulos (id, codigo, nombre, descripcion, categoria, precio_compra, " +
+            "precio_venta, stock_actual, stock_minimo, proveedor, fecha_registro, fecha_actualizacion, activo) " +
+            "VALUES (:id, :#{#articulo.codigo}, :#{#articulo.nombre}, :#{#articulo.descripcion}, " +
+            ":#{#articulo.categoria}, :#{#articulo.precioCompra}, :#{#articulo.precioVenta}, " +
+            ":#{#articulo.stockActual}, :#{#articulo.stockMinimo}, :#{#articulo.proveedor}, :fecha, :fecha, TRUE) " +
+            "AS n " +
+            "ON DUPLICATE KEY UPDATE " +
+            "fecha_actualizacion = IF(" + SIN_CAMBIOS_ON_DUPLICATE_KEY + ", articulos.fecha_actualizacion, n.fecha_actualizacion), " +
+            "revision = IF(" + SIN_CAMBIOS_ON_DUPLICATE_KEY + ", articulos.revision, articulos.revision + 1), " +
+            "nombre = n.nombre, descripcion = n.descripcion, categoria = n.categoria, " +
+            "precio_compra = n.precio_compra, precio_venta = n.precio_venta, " +
+            "stock_actual = n.stock_actual, stock_minimo = n.stock_minimo, " +
+            "proveedor = n.proveedor", nativeQuery = true)
+    int guardarOnDuplicateKey(@Param("id") Long id, @Param("articulo") Articulo articulo,
+                              @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Equivalente de {@link #guardarOnDuplicateKey} con MERGE estándar, para bases sin
+     * ON DUPLICATE KEY UPDATE (H2 en pruebas). La condición de WHEN MATCHED omite las filas sin cambios.
+     *
+     * @param id ID a usar si el código no existe
+     * @param articulo datos del artículo ya validados
+     * @param fecha fecha de registro/actualización
+     * @return 1 si se insertó o actualizó, 0 si no hubo cambios
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "MERGE INTO articulos a USING (VALUES (CAST(:#{#articulo.codigo} AS VARCHAR(50)), " +
+            "CAST(:#{#articulo.nombre} AS VARCHAR(200)), CAST(:#{#articulo.descripcion} AS CLOB), " +
+            "CAST(:#{#articulo.categoria} AS VARCHAR(100)), CAST(:#{#articulo.precioCompra} AS DECIMAL(10, 2)), " +
+            "CAST(:#{#articulo.precioVenta} AS DECIMAL(10, 2)), CAST(:#{#articulo.stockActual} AS INT), " +
+            "CAST(:#{#articulo.stockMinimo} AS INT), CAST(:#{#articulo.proveedor} AS VARCHAR(200)))) " +
+            "n (codigo, nombre, descripcion, categoria, precio_compra, precio_venta, stock_actual, stock_minimo, proveedor) " +
+            "ON a.codigo = n.codigo " +
+            "WHEN MATCHED AND (a.nombre IS DISTINCT FROM n.nombre OR a.descripcion IS DISTINCT FROM n.descripcion " +
+            "OR a.categoria IS DISTINCT FROM n.categoria OR a.precio_compra IS DISTINCT FROM n.precio_compra " +
+            "OR a.precio_venta IS DISTINCT FROM n.precio_venta OR a.stock_actual IS DISTINCT FROM n.stock_actual " +
+            "OR a.stock_minimo IS DISTINCT FROM n.stock_minimo OR a.proveedor IS DISTINCT FROM n.proveedor) " +
+            "THEN UPDATE SET nombre = n.nombre, descripcion = n.descripcion, categoria = n.categoria, " +
+            "precio_compra = n.precio_compra, precio_venta = n.precio_venta, stock_actual = n.stock_actual, " +
+            "stock_minimo = n.stock_minimo, proveedor = n.proveedor, fecha_actualizacion = :fecha, " +
+            "revision = a.revision + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (id, codigo, nombre, descripcion, categoria, precio_compra, precio_venta, " +
+            "stock_actual, stock_minimo, proveedor, fecha_registro, fecha_actualizacion, activo) " +
+            "VALUES (:id, n.codigo, n.nombre, n.descripcion, n.categoria, n.precio_compra, n.precio_venta, " +
+            "n.stock_actual, n.stock_minimo, n.proveedor, :fecha, :fecha, TRUE)", nativeQuery = true)
+    int guardarMerge(@Param("id") Long id, @Param("articulo") Articulo articulo,
+                     @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Incrementa el stock de forma atómica en un solo UPDATE (sin lectura previa)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a sumar
+     * @param fecha fecha de actualización, del mismo reloj que las demás escrituras (feed de cambios)
+     * @return filas actualizadas (0 si el artículo no existe o está desactivado)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Articulo a SET a.stockActual = a.stockActual + :cantidad, " +
+            "a.fechaActualizacion = :fecha, a.revision = a.revision + 1 " +
+            "WHERE a.codigo = :codigo AND a.activo = true")
+    int incrementarStock(@Param("codigo") String codigo, @Param("cantidad") int cantidad,
+                         @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Decrementa el stock de forma atómica solo si alcanza (UPDATE condicional)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a descontar
+     * @param fecha fecha de actualización, del mismo reloj que las demás escrituras (feed de cambios)
+     * @return filas actualizadas (0 si no existe, está desactivado o no hay stock suficiente)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Articulo a SET a.stockActual = a.stockActual - :cantidad, " +
+            "a.fechaActualizacion = :fecha, a.revision = a.revision + 1 " +
+            "WHERE a.codigo = :codigo AND a.activo = true AND a.stockActual >= :cantidad")
+    int decrementarStock(@Param("codigo") String codigo, @Param("cantidad") int cantidad,
+                         @Param("fecha") LocalDateTime fecha);
 }
\ No newline at end of file
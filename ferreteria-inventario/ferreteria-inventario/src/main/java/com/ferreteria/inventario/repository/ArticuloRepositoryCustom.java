@@ -0,0 +1,19 @@
+package com.ferreteria.inventario.repository;
+
+/**
+ * Operaciones del repositorio de artículos que no se expresan como consultas derivadas
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public interface ArticuloRepositoryCustom {
+
+    /**
+     * Reserva un ID de la secuencia de artículos (articulos_seq) con el mismo generador que usa
+     * Hibernate, para las sentencias nativas que insertan sin pasar por la entidad.
+     * Con el optimizador pooled la mayoría de las llamadas no consultan la base de datos.
+     *
+     * @return ID nuevo, nunca asignado antes
+     */
+    Long generarIdArticulo();
+}
@@ -0,0 +1,33 @@
+package com.ferreteria.inventario.repository;
+
+import com.ferreteria.inventario.entity.Articulo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+/**
+ * Implementación de {@link ArticuloRepositoryCustom} sobre la sesión de Hibernate
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class ArticuloRepositoryCustomImpl implements ArticuloRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long generarIdArticulo() {
+        SharedSessionContractImplementor sesion = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generador = (BeforeExecutionGenerator) sesion.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Articulo.class)
+                .getGenerator();
+        return (Long) generador.generate(sesion, null, null, EventType.INSERT);
+    }
+}
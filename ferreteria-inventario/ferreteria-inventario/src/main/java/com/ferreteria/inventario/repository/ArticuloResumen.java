@@ -0,0 +1,53 @@
+package com.ferreteria.inventario.repository;
+
+import com.ferreteria.inventario.entity.Articulo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección de solo lectura con las columnas que muestran los listados (RNF2).
+ * Se construye con una expresión {@code SELECT new ...}: no incluye la descripción TEXT ni las fechas
+ * y no entra al contexto de persistencia, así que no hay snapshots ni dirty checking.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ArticuloResumen {
+
+    private final Long id;
+    private final String codigo;
+    private final String nombre;
+    private final String categoria;
+    private final BigDecimal precioCompra;
+    private final BigDecimal precioVenta;
+    private final Integer stockActual;
+    private final Integer stockMinimo;
+    private final String proveedor;
+    private final Boolean activo;
+
+    /**
+     * Crea el resumen de un artículo ya cargado (ej: resultados de la búsqueda por relevancia)
+     *
+     * @param articulo entidad de origen
+     * @return resumen con los mismos valores
+     */
+    public static ArticuloResumen desde(Articulo articulo) {
+        return new ArticuloResumen(articulo.getId(), articulo.getCodigo(), articulo.getNombre(),
+                articulo.getCategoria(), articulo.getPrecioCompra(), articulo.getPrecioVenta(),
+                articulo.getStockActual(), articulo.getStockMinimo(), articulo.getProveedor(),
+                articulo.getActivo());
+    }
+
+    /**
+     * Verifica si el artículo tiene stock bajo (RF7)
+     *
+     * @return true si el stock actual es menor al stock mínimo
+     */
+    public boolean tieneStockBajo() {
+        return stockActual != null && stockMinimo != null && stockActual < stockMinimo;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ferreteria.inventario.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Proyección con el stock y la revisión de un artículo, leída después de modificar la fila (RNF2).
+ * La revisión ordena las actualizaciones de las estructuras en memoria según el orden de confirmación.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class EstadoStock {
+
+    private final Long id;
+    private final Integer stockActual;
+    private final Long revision;
+}
@@ -0,0 +1,50 @@
+package com.ferreteria.inventario.repository;
+
+import com.ferreteria.inventario.entity.EstadoImportacion;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio de las importaciones masivas de artículos (RF5)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Repository
+public interface ImportacionRepository extends JpaRepository<ImportacionArticulos, Long> {
+
+    /**
+     * Lee la importación bloqueando su fila hasta el fin de la transacción (SELECT ... FOR UPDATE).
+     * Serializa el procesamiento de sus bloques aunque dos instancias la reanuden a la vez.
+     *
+     * @param id identificador de la importación
+     * @return Optional con la importación si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ImportacionArticulos i WHERE i.id = :id")
+    Optional<ImportacionArticulos> findParaProcesarById(@Param("id") Long id);
+
+    /**
+     * Obtiene las importaciones en los estados dados, las más antiguas primero
+     *
+     * @param estados estados buscados
+     * @return importaciones ordenadas por ID
+     */
+    List<ImportacionArticulos> findByEstadoInOrderByIdAsc(Collection<EstadoImportacion> estados);
+
+    /**
+     * Obtiene las últimas importaciones registradas
+     *
+     * @return las 10 importaciones más recientes
+     */
+    List<ImportacionArticulos> findTop10ByOrderByIdDesc();
+}
@@ -0,0 +1,52 @@
+package com.ferreteria.inventario.repository;
+
+import com.ferreteria.inventario.entity.LineaImportacion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio de las líneas de las importaciones masivas (RF5)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Repository
+public interface LineaImportacionRepository extends JpaRepository<LineaImportacion, Long> {
+
+    /**
+     * Obtiene el siguiente bloque de líneas a partir de una posición (seek sobre idx_importacion_numero)
+     *
+     * @param importacionId importación
+     * @param numero primera posición del bloque
+     * @param pageable tamaño del bloque
+     * @return líneas ordenadas por posición
+     */
+    List<LineaImportacion> findByImportacionIdAndNumeroGreaterThanEqualOrderByNumeroAsc(
+            Long importacionId, Integer numero, Pageable pageable);
+
+    /**
+     * Obtiene las líneas rechazadas de una importación
+     *
+     * @param importacionId importación
+     * @param pageable número máximo de líneas
+     * @return líneas con error ordenadas por posición
+     */
+    List<LineaImportacion> findByImportacionIdAndCodigoErrorIsNotNullOrderByNumeroAsc(
+            Long importacionId, Pageable pageable);
+
+    /**
+     * Elimina las líneas importadas correctamente; solo se conservan las rechazadas para consulta
+     *
+     * @param importacionId importación terminada
+     * @return líneas eliminadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM LineaImportacion l WHERE l.importacionId = :importacionId AND l.codigoError IS NULL")
+    int eliminarImportadas(@Param("importacionId") Long importacionId);
+}
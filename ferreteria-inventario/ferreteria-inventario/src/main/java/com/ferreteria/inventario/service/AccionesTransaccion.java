@@ -0,0 +1,34 @@
+package com.ferreteria.inventario.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Acciones diferidas hasta la confirmación de la transacción en curso (RNF2).
+ * Las estructuras en memoria y las tareas en segundo plano solo deben ver cambios confirmados,
+ * nunca cambios que luego se revierten.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+final class AccionesTransaccion {
+
+    private AccionesTransaccion() {
+    }
+
+    /**
+     * Ejecuta la acción cuando la transacción actual se confirma; sin transacción activa se ejecuta de inmediato
+     */
+    static void alConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+}
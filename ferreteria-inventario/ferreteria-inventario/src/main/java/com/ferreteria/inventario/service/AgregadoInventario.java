@@ -0,0 +1,209 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Valoración del inventario por categoría mantenida en memoria (RNF2).
+ * Reemplaza recalcular {@code SUM(stock_actual * precio_compra)} sobre toda la tabla: se construye
+ * al arrancar y cada cambio confirmado se aplica como delta (se resta el aporte anterior del artículo
+ * y se suma el nuevo), así que la consulta cuesta O(categorías).
+ *
+ * Los cambios llegan al confirmar cada transacción y pueden aplicarse en otro orden que el de
+ * confirmación; cada uno trae la revisión de la fila y se descarta si es anterior a la ya aplicada.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class AgregadoInventario {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgregadoInventario.class);
+
+    /**
+     * ID -> aporte actual de cada artículo activo a los totales de su categoría
+     */
+    private final Map<Long, Aporte> aportes = new HashMap<>();
+
+    /**
+     * Código -> ID, para aplicar cambios de stock conocidos solo por código
+     */
+    private final Map<String, Long> idsPorCodigo = new HashMap<>();
+
+    /**
+     * ID -> última revisión aplicada; se conserva al retirar el artículo para descartar cambios anteriores
+     */
+    private final Map<Long, Long> revisiones = new HashMap<>();
+
+    /**
+     * Categoría -> totales, ordenado por nombre de categoría
+     */
+    private final Map<String, Totales> totales = new TreeMap<>();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Registra (o vuelve a registrar) un artículo. Los inactivos se retiran del agregado.
+     * Se ignora si su revisión es anterior a la ya aplicada.
+     *
+     * @param articulo artículo con sus valores confirmados
+     */
+    public synchronized void registrar(Articulo articulo) {
+        if (articulo == null || articulo.getId() == null || !avanzarRevision(articulo.getId(), articulo.getRevision())) {
+            return;
+        }
+        retirar(articulo.getId());
+        if (Boolean.FALSE.equals(articulo.getActivo()) || articulo.getCategoria() == null
+                || articulo.getStockActual() == null || articulo.getPrecioCompra() == null
+                || articulo.getPrecioVenta() == null) {
+            return;
+        }
+
+        Aporte aporte = new Aporte(articulo.getCategoria(), articulo.getCodigo(), articulo.getStockActual(),
+                articulo.getPrecioCompra(), articulo.getPrecioVenta());
+        aportes.put(articulo.getId(), aporte);
+        idsPorCodigo.put(aporte.codigo(), articulo.getId());
+        totales.computeIfAbsent(aporte.categoria(), k -> new Totales()).sumar(aporte, 1);
+    }
+
+    /**
+     * Retira un artículo del agregado (se llama con el bloqueo tomado)
+     */
+    private void retirar(Long id) {
+        Aporte anterior = aportes.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        idsPorCodigo.remove(anterior.codigo());
+        Totales deCategoria = totales.get(anterior.categoria());
+        deCategoria.sumar(anterior, -1);
+        if (deCategoria.articulos == 0) {
+            totales.remove(anterior.categoria());
+        }
+    }
+
+    /**
+     * Aplica un nuevo stock conocido solo por código (incrementos y decrementos atómicos). Si el código
+     * aún no está registrado (alta o carga inicial todavía sin aplicar) se registra la fila con el cargador.
+     *
+     * @param codigo código del artículo
+     * @param nuevoStock stock confirmado
+     * @param revision revisión de la fila con ese stock
+     * @param cargador consulta del artículo completo
+     */
+    public void actualizarStock(String codigo, int nuevoStock, long revision, Supplier<Optional<Articulo>> cargador) {
+        synchronized (this) {
+            Long id = idsPorCodigo.get(codigo);
+            if (id != null) {
+                if (!avanzarRevision(id, revision)) {
+                    return;
+                }
+                Aporte anterior = aportes.get(id);
+                Aporte nuevo = new Aporte(anterior.categoria(), codigo, nuevoStock,
+                        anterior.precioCompra(), anterior.precioVenta());
+                aportes.put(id, nuevo);
+                Totales deCategoria = totales.get(anterior.categoria());
+                deCategoria.sumar(anterior, -1);
+                deCategoria.sumar(nuevo, 1);
+                return;
+            }
+        }
+        // La consulta se hace fuera del bloqueo; registrar() descarta la fila si ya hay una revisión posterior
+        cargador.get().ifPresent(this::registrar);
+    }
+
+    /**
+     * Anota la revisión si no es anterior a la ya aplicada (se llama con el bloqueo tomado)
+     *
+     * @return false si el cambio es anterior y debe descartarse
+     */
+    private boolean avanzarRevision(Long id, long revision) {
+        Long aplicada = revisiones.get(id);
+        if (aplicada != null && revision < aplicada) {
+            return false;
+        }
+        revisiones.put(id, revision);
+        return true;
+    }
+
+    /**
+     * Obtiene el stock confirmado de un artículo activo sin consultar la base de datos (RF7)
+     *
+     * @param codigo código del artículo
+     * @return stock actual, o null si el código no está registrado (inexistente o inactivo)
+     */
+    public synchronized Integer obtenerStock(String codigo) {
+        Long id = idsPorCodigo.get(codigo);
+        return id != null ? aportes.get(id).stock() : null;
+    }
+
+    /**
+     * Cuenta los artículos activos registrados, sin {@code COUNT(*)} sobre la tabla (RNF2)
+     *
+     * @return número de artículos activos
+     */
+    public synchronized int contarActivos() {
+        return aportes.size();
+    }
+
+    /**
+     * Obtiene la valoración por categoría, ordenada por nombre de categoría
+     *
+     * @return una fila por categoría con artículos activos
+     */
+    public synchronized List<ResumenCategoria> obtener() {
+        List<ResumenCategoria> resultado = new ArrayList<>(totales.size());
+        totales.forEach((categoria, t) -> resultado.add(new ResumenCategoria(categoria, t.articulos, t.stock,
+                t.valorCompra, t.valorVenta, t.valorVenta.subtract(t.valorCompra))));
+        return resultado;
+    }
+
+    public void marcarCargado() {
+        this.cargado = true;
+        logger.info("Agregado de inventario cargado: {} categorías", totales.size());
+    }
+
+    /**
+     * Indica si el agregado ya fue construido y puede responder consultas
+     */
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    /**
+     * Valores con los que un artículo contribuye a su categoría
+     */
+    private record Aporte(String categoria, String codigo, int stock,
+                          BigDecimal precioCompra, BigDecimal precioVenta) {
+    }
+
+    /**
+     * Totales acumulados de una categoría (solo se modifican bajo el bloqueo del agregado)
+     */
+    private static final class Totales {
+
+        private long articulos;
+        private long stock;
+        private BigDecimal valorCompra = BigDecimal.ZERO;
+        private BigDecimal valorVenta = BigDecimal.ZERO;
+
+        void sumar(Aporte aporte, int signo) {
+            BigDecimal unidades = BigDecimal.valueOf((long) aporte.stock() * signo);
+            articulos += signo;
+            stock += (long) aporte.stock() * signo;
+            valorCompra = valorCompra.add(aporte.precioCompra().multiply(unidades));
+            valorVenta = valorVenta.add(aporte.precioVenta().multiply(unidades));
+        }
+    }
+}
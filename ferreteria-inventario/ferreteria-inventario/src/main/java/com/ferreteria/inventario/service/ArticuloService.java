@@ -1,7 +1,11 @@
 package com.ferreteria.inventario.service;
 
 import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.repository.ArticuloResumen;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,6 +27,34 @@ public interface ArticuloService {
      */
     Articulo insertarArticulo(Articulo articulo);
 
+    /**
+     * Registra un bloque de artículos en una sola transacción con inserts por lotes (RF5)
+     * Los artículos inválidos o duplicados se reportan por elemento sin afectar al resto.
+     *
+     * @param articulos artículos a registrar
+     * @return resultado por cada artículo, en el mismo orden
+     */
+    List<ResultadoInsercion> insertarArticulos(List<Articulo> articulos);
+
+    /**
+     * Importa un bloque de artículos: inserta los códigos nuevos y actualiza los existentes (RF5)
+     * Se ejecuta en la transacción del llamador; los inválidos se reportan por elemento.
+     *
+     * @param articulos artículos a importar
+     * @return resultado por cada artículo, en el mismo orden
+     */
+    List<ResultadoInsercion> importarArticulos(List<Articulo> articulos);
+
+    /**
+     * Inserta o actualiza un artículo por código en una sola sentencia, sin consulta previa (RF5)
+     * Si los datos son iguales a los guardados la fila no se escribe ni cambia su fecha de actualización.
+     *
+     * @param articulo artículo a guardar
+     * @return si el artículo se creó, se actualizó o no tuvo cambios, con sus datos guardados
+     * @throws com.ferreteria.inventario.exception.ValidationException si hay errores de validación
+     */
+    ResultadoGuardado guardarArticulo(Articulo articulo);
+
     /**
      * Consulta un artículo por su código (RF4, RF6)
      *
@@ -31,6 +63,30 @@ public interface ArticuloService {
      */
     Optional<Articulo> consultarArticuloPorCodigo(String codigo);
 
+    /**
+     * Consulta solo el stock actual de un artículo, sin cargar la entidad (RF7)
+     *
+     * @param codigo código del artículo
+     * @return Optional con el stock actual si el artículo existe
+     */
+    Optional<Integer> consultarStockActual(String codigo);
+
+    /**
+     * Consulta varios artículos por código con una sola consulta (RF6)
+     *
+     * @param codigos códigos a consultar
+     * @return mapa código -> artículo con los encontrados
+     */
+    Map<String, Articulo> consultarArticulos(Collection<String> codigos);
+
+    /**
+     * Consulta el stock actual de varios artículos con una sola consulta (RF7)
+     *
+     * @param codigos códigos a consultar
+     * @return mapa código -> stock actual con los encontrados
+     */
+    Map<String, Integer> consultarStocks(Collection<String> codigos);
+
     /**
      * Consulta un artículo por su ID
      *
@@ -55,6 +111,23 @@ public interface ArticuloService {
      */
     List<Articulo> buscarArticulos(String criterio);
 
+    /**
+     * Busca artículos por código o nombre y retorna solo las columnas de los listados (RF4)
+     *
+     * @param criterio criterio de búsqueda
+     * @return resúmenes de los artículos que coinciden
+     */
+    List<ArticuloResumen> buscarResumenArticulos(String criterio);
+
+    /**
+     * Busca artículos por texto libre en nombre y descripción, ordenados por relevancia (RF4)
+     *
+     * @param texto texto libre (ej: "tornillo galvanizado 2")
+     * @param limite número máximo de resultados
+     * @return artículos más relevantes primero
+     */
+    List<Articulo> buscarArticulosPorRelevancia(String texto, int limite);
+
     /**
      * Actualiza un artículo existente (RF1)
      *
@@ -79,6 +152,35 @@ public interface ArticuloService {
      */
     List<Articulo> obtenerTodosLosArticulos();
 
+    /**
+     * Obtiene una página de artículos activos mediante paginación keyset (RNF2)
+     *
+     * @param cursor cursor devuelto por la página anterior (null para la primera página)
+     * @param tamanio número máximo de artículos por página
+     * @param orden orden del listado
+     * @return página de artículos con el cursor de la siguiente
+     */
+    PaginaArticulos obtenerPaginaArticulos(String cursor, int tamanio, OrdenArticulos orden);
+
+    /**
+     * Obtiene los artículos modificados (incluidos los desactivados) después de una marca de tiempo
+     * o de la posición de un token de continuación, en orden de modificación (RNF2)
+     *
+     * @param marcaTiempo fecha a partir de la cual se buscan cambios (null para todo el catálogo)
+     * @param token token de continuación de la página anterior (tiene prioridad sobre marcaTiempo)
+     * @param limite número máximo de artículos
+     * @return página de cambios con el token de la siguiente
+     * @throws com.ferreteria.inventario.exception.ValidationException si el token no es válido
+     */
+    PaginaCambios obtenerCambiosDesde(LocalDateTime marcaTiempo, String token, int limite);
+
+    /**
+     * Cuenta los artículos activos
+     *
+     * @return número de artículos activos
+     */
+    long contarArticulosActivos();
+
     /**
      * Obtiene artículos con stock bajo (RF7)
      *
@@ -86,6 +188,20 @@ public interface ArticuloService {
      */
     List<Articulo> obtenerArticulosConStockBajo();
 
+    /**
+     * Cuenta los artículos con stock bajo (RF7)
+     *
+     * @return número de artículos con stock menor al mínimo
+     */
+    long contarArticulosConStockBajo();
+
+    /**
+     * Obtiene la valoración del inventario activo por categoría
+     *
+     * @return una fila por categoría con artículos, stock y valores de compra, venta y utilidad
+     */
+    List<ResumenCategoria> obtenerResumenInventario();
+
     /**
      * Obtiene artículos por categoría
      *
@@ -94,6 +210,14 @@ public interface ArticuloService {
      */
     List<Articulo> obtenerArticulosPorCategoria(String categoria);
 
+    /**
+     * Obtiene los resúmenes de los artículos de una categoría (listados)
+     *
+     * @param categoria categoría a buscar
+     * @return resúmenes de los artículos de esa categoría
+     */
+    List<ArticuloResumen> obtenerResumenPorCategoria(String categoria);
+
     /**
      * Obtiene todas las categorías disponibles
      *
@@ -125,4 +249,27 @@ public interface ArticuloService {
      * @throws com.ferreteria.inventario.exception.ArticuloNoEncontradoException si no existe
      */
     Articulo actualizarStock(String codigo, Integer nuevoStock);
+
+    /**
+     * Suma unidades al stock de un artículo de forma atómica (RF7)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a sumar (mayor a 0)
+     * @return nuevo stock del artículo
+     * @throws com.ferreteria.inventario.exception.ArticuloNoEncontradoException si no existe o está desactivado
+     * @throws com.ferreteria.inventario.exception.ValidationException si la cantidad no es positiva
+     */
+    int incrementarStock(String codigo, int cantidad);
+
+    /**
+     * Descuenta unidades del stock de un artículo de forma atómica (RF7)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a descontar (mayor a 0)
+     * @return nuevo stock del artículo
+     * @throws com.ferreteria.inventario.exception.ArticuloNoEncontradoException si no existe o está desactivado
+     * @throws com.ferreteria.inventario.exception.StockInsuficienteException si el stock no alcanza
+     * @throws com.ferreteria.inventario.exception.ValidationException si la cantidad no es positiva
+     */
+    int decrementarStock(String codigo, int cantidad);
 }
\ No newline at end of file
@@ -3,16 +3,40 @@ package com.ferreteria.inventario.service;
 import com.ferreteria.inventario.entity.Articulo;
 import com.ferreteria.inventario.exception.ArticuloDuplicadoException;
 import com.ferreteria.inventario.exception.ArticuloNoEncontradoException;
+import com.ferreteria.inventario.exception.StockInsuficienteException;
 import com.ferreteria.inventario.exception.ValidationException;
 import com.ferreteria.inventario.repository.ArticuloRepository;
+import com.ferreteria.inventario.repository.ArticuloResumen;
+import com.ferreteria.inventario.repository.EstadoStock;
+import com.ferreteria.inventario.util.ValidationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,11 +52,92 @@ public class ArticuloServiceImpl implements ArticuloService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticuloServiceImpl.class);
 
+    /**
+     * Tamaño máximo de página permitido para el listado paginado
+     */
+    static final int TAMANIO_MAXIMO_PAGINA = 500;
+
+    /**
+     * Tamaño de cada bloque leído al construir las estructuras en memoria
+     */
+    private static final int TAMANIO_BLOQUE_CARGA = 1000;
+
+    /**
+     * Límite máximo de resultados de la búsqueda por relevancia
+     */
+    static final int LIMITE_MAXIMO_RELEVANCIA = 100;
+
+    /**
+     * Términos distintos que considera la búsqueda por relevancia sin FULLTEXT (una consulta por término)
+     */
+    static final int MAXIMO_TERMINOS_RELEVANCIA = 8;
+
+    /**
+     * Posición inicial del feed de cambios cuando no se indica marca de tiempo ni token
+     */
+    private static final LocalDateTime INICIO_CAMBIOS = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final ArticuloRepository articuloRepository;
+    private final IndiceBusquedaArticulos indiceBusqueda;
+    private final CacheArticulos cacheArticulos;
+    private final RegistroStockBajo registroStockBajo;
+    private final AgregadoInventario agregadoInventario;
+
+    /**
+     * Usa MATCH ... AGAINST (MySQL). En bases sin FULLTEXT (H2 en pruebas) se desactiva.
+     */
+    @Value("${inventario.busqueda.fulltext:true}")
+    private boolean busquedaFullText = true;
+
+    /**
+     * Usa INSERT ... ON DUPLICATE KEY UPDATE (MySQL 8.0.19+) en guardarArticulo. En H2 (pruebas) se usa MERGE.
+     */
+    @Value("${inventario.guardar.on-duplicate-key:true}")
+    private boolean guardarOnDuplicateKey = true;
+
+    /**
+     * Antigüedad mínima de un cambio para entregarlo en el feed. Un cambio se fecha al hacer flush
+     * pero se ve al confirmar: sin este margen el token podría adelantarse a una transacción en curso
+     * con fecha anterior y ese cambio no se entregaría nunca.
+     */
+    @Value("${inventario.cambios.margen-segundos:5}")
+    private long margenCambiosSegundos = 5;
 
     @Autowired
-    public ArticuloServiceImpl(ArticuloRepository articuloRepository) {
+    public ArticuloServiceImpl(ArticuloRepository articuloRepository,
+                               IndiceBusquedaArticulos indiceBusqueda,
+                               CacheArticulos cacheArticulos,
+                               RegistroStockBajo registroStockBajo,
+                               AgregadoInventario agregadoInventario) {
         this.articuloRepository = articuloRepository;
+        this.indiceBusqueda = indiceBusqueda;
+        this.cacheArticulos = cacheArticulos;
+        this.registroStockBajo = registroStockBajo;
+        this.agregadoInventario = agregadoInventario;
+    }
+
+    /**
+     * Construye las estructuras en memoria recorriendo el catálogo activo por bloques
+     * (paginación keyset), sin cargar toda la tabla de una vez.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarEstructurasEnMemoria() {
+        logger.info("Construyendo índice de búsqueda, registro de stock bajo y agregado de inventario...");
+        Long ultimoId = 0L;
+        List<Articulo> bloque;
+        do {
+            bloque = articuloRepository.findByActivoTrueAndIdGreaterThanOrderByIdAsc(
+                    ultimoId, PageRequest.of(0, TAMANIO_BLOQUE_CARGA));
+            for (Articulo articulo : bloque) {
+                indiceBusqueda.indexar(articulo);
+                registroStockBajo.registrar(articulo);
+                agregadoInventario.registrar(articulo);
+                ultimoId = articulo.getId();
+            }
+        } while (bloque.size() == TAMANIO_BLOQUE_CARGA);
+        indiceBusqueda.marcarCargado();
+        registroStockBajo.marcarCargado();
+        agregadoInventario.marcarCargado();
     }
 
     /**
@@ -58,6 +163,14 @@ public class ArticuloServiceImpl implements ArticuloService {
             articulo.setActivo(true); // Por defecto activo
 
             Articulo saved = articuloRepository.save(articulo);
+            // Con IDs por secuencia el INSERT se difiere: se fuerza aquí para validar y fijar fechas
+            articuloRepository.flush();
+            AccionesTransaccion.alConfirmar(() -> {
+                indiceBusqueda.indexar(saved);
+                registroStockBajo.registrar(saved);
+                agregadoInventario.registrar(saved);
+                cacheArticulos.invalidar(saved.getId(), saved.getCodigo());
+            });
             logger.info("Artículo insertado exitosamente: ID {}", saved.getId());
             return saved;
 
@@ -72,11 +185,254 @@ public class ArticuloServiceImpl implements ArticuloService {
 
     /**
      * {@inheritDoc}
+     * Valida en memoria, detecta duplicados con una sola consulta IN y persiste con saveAll,
+     * que Hibernate agrupa según hibernate.jdbc.batch_size.
+     */
+    @Override
+    @Transactional
+    public List<ResultadoInsercion> insertarArticulos(List<Articulo> articulos) {
+        logger.info("Insertando bloque de {} artículos", articulos.size());
+
+        List<ResultadoInsercion> resultados = new ArrayList<>(Collections.nCopies(articulos.size(), null));
+        Map<String, Integer> pendientes = new LinkedHashMap<>();
+
+        for (int i = 0; i < articulos.size(); i++) {
+            Articulo articulo = articulos.get(i);
+            try {
+                ValidationUtil.validarArticulo(articulo);
+            } catch (ValidationException e) {
+                resultados.set(i, ResultadoInsercion.error(i, articulo.getCodigo(), "VALIDACION",
+                        String.join(", ", e.getErrores())));
+                continue;
+            }
+            if (pendientes.putIfAbsent(articulo.getCodigo(), i) != null) {
+                resultados.set(i, ResultadoInsercion.error(i, articulo.getCodigo(), "DUPLICADO",
+                        "El código '" + articulo.getCodigo() + "' está repetido en el lote."));
+            }
+        }
+
+        if (!pendientes.isEmpty()) {
+            for (String existente : articuloRepository.findCodigosExistentes(pendientes.keySet())) {
+                int i = pendientes.remove(existente);
+                resultados.set(i, ResultadoInsercion.error(i, existente, "DUPLICADO",
+                        "El código '" + existente + "' ya existe en el inventario."));
+            }
+        }
+
+        List<Articulo> nuevos = new ArrayList<>(pendientes.size());
+        for (int i : pendientes.values()) {
+            Articulo articulo = articulos.get(i);
+            articulo.setActivo(true);
+            nuevos.add(articulo);
+        }
+
+        if (!nuevos.isEmpty()) {
+            List<Articulo> guardados = articuloRepository.saveAll(nuevos);
+            articuloRepository.flush();
+
+            int posicion = 0;
+            for (int i : pendientes.values()) {
+                Articulo guardado = guardados.get(posicion++);
+                resultados.set(i, ResultadoInsercion.exito(i, guardado.getCodigo(), guardado.getId()));
+            }
+            AccionesTransaccion.alConfirmar(() -> guardados.forEach(guardado -> {
+                indiceBusqueda.indexar(guardado);
+                registroStockBajo.registrar(guardado);
+                agregadoInventario.registrar(guardado);
+                cacheArticulos.invalidar(guardado.getId(), guardado.getCodigo());
+            }));
+        }
+
+        logger.info("Bloque procesado: {} insertados de {}", nuevos.size(), articulos.size());
+        return resultados;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los existentes se cargan con una sola consulta IN y se modifican sobre la entidad gestionada:
+     * Hibernate solo emite UPDATE para los que cambian, agrupados según hibernate.jdbc.batch_size.
+     * Los artículos desactivados se actualizan sin reactivarlos.
+     */
+    @Override
+    @Transactional
+    public List<ResultadoInsercion> importarArticulos(List<Articulo> articulos) {
+        logger.debug("Importando bloque de {} artículos", articulos.size());
+
+        List<ResultadoInsercion> resultados = new ArrayList<>(Collections.nCopies(articulos.size(), null));
+        Map<String, Integer> validos = new LinkedHashMap<>();
+
+        for (int i = 0; i < articulos.size(); i++) {
+            Articulo articulo = articulos.get(i);
+            try {
+                ValidationUtil.validarArticulo(articulo);
+            } catch (ValidationException e) {
+                resultados.set(i, ResultadoInsercion.error(i, articulo.getCodigo(), "VALIDACION",
+                        String.join(", ", e.getErrores())));
+                continue;
+            }
+            if (validos.putIfAbsent(articulo.getCodigo(), i) != null) {
+                resultados.set(i, ResultadoInsercion.error(i, articulo.getCodigo(), "DUPLICADO",
+                        "El código '" + articulo.getCodigo() + "' está repetido en el bloque."));
+            }
+        }
+        if (validos.isEmpty()) {
+            return resultados;
+        }
+
+        Map<String, Articulo> existentes = new HashMap<>();
+        for (Articulo existente : articuloRepository.findByCodigoIn(validos.keySet())) {
+            existentes.put(existente.getCodigo(), existente);
+        }
+
+        List<Articulo> nuevos = new ArrayList<>();
+        List<Articulo> modificados = new ArrayList<>(existentes.size());
+        for (int i : validos.values()) {
+            Articulo articulo = articulos.get(i);
+            Articulo existente = existentes.get(articulo.getCodigo());
+            if (existente == null) {
+                articulo.setActivo(true);
+                nuevos.add(articulo);
+            } else {
+                existente.setNombre(articulo.getNombre());
+                existente.setDescripcion(articulo.getDescripcion());
+                existente.setCategoria(articulo.getCategoria());
+                existente.setPrecioCompra(articulo.getPrecioCompra());
+                existente.setPrecioVenta(articulo.getPrecioVenta());
+                existente.setStockActual(articulo.getStockActual());
+                existente.setStockMinimo(articulo.getStockMinimo());
+                existente.setProveedor(articulo.getProveedor());
+                modificados.add(existente);
+            }
+        }
+        articuloRepository.saveAll(nuevos);
+        articuloRepository.flush();
+        avanzarRevision(modificados);
+
+        for (int i : validos.values()) {
+            Articulo existente = existentes.get(articulos.get(i).getCodigo());
+            resultados.set(i, existente != null
+                    ? ResultadoInsercion.actualizacion(i, existente.getCodigo(), existente.getId())
+                    : ResultadoInsercion.exito(i, articulos.get(i).getCodigo(), articulos.get(i).getId()));
+        }
+        List<Articulo> afectados = new ArrayList<>(nuevos);
+        afectados.addAll(modificados);
+        AccionesTransaccion.alConfirmar(() -> afectados.forEach(afectado -> {
+            indiceBusqueda.indexar(afectado);
+            registroStockBajo.registrar(afectado);
+            agregadoInventario.registrar(afectado);
+            cacheArticulos.invalidar(afectado.getId(), afectado.getCodigo());
+        }));
+
+        logger.debug("Bloque importado: {} insertados, {} actualizados de {}",
+                nuevos.size(), modificados.size(), articulos.size());
+        return resultados;
+    }
+
+    /**
+     * {@inheritDoc}
+     * El ID para el caso de inserción se reserva antes de la sentencia; si al releer por código el
+     * artículo tiene ese ID, fue creado. Los IDs reservados y no usados quedan como huecos de la secuencia.
+     */
+    @Override
+    @Transactional
+    public ResultadoGuardado guardarArticulo(Articulo articulo) {
+        logger.info("Guardando artículo con código: {}", articulo.getCodigo());
+        ValidationUtil.validarArticulo(articulo);
+
+        Long nuevoId = articuloRepository.generarIdArticulo();
+        LocalDateTime ahora = LocalDateTime.now();
+        int filas = guardarOnDuplicateKey
+                ? articuloRepository.guardarOnDuplicateKey(nuevoId, articulo, ahora)
+                : articuloRepository.guardarMerge(nuevoId, articulo, ahora);
+        Articulo guardado = articuloRepository.findByCodigo(articulo.getCodigo())
+                .orElseThrow(() -> new IllegalStateException(
+                        "El artículo '" + articulo.getCodigo() + "' no existe después de guardarlo"));
+
+        // ON DUPLICATE KEY UPDATE cuenta 2 filas por actualización con o sin useAffectedRows; la fila sin
+        // cambios cuenta 1 (CLIENT_FOUND_ROWS) o 0, y la inserción se reconoce por el ID reservado
+        EstadoGuardado estado;
+        if (nuevoId.equals(guardado.getId())) {
+            estado = EstadoGuardado.CREADO;
+        } else if (filas == (guardarOnDuplicateKey ? 2 : 1)) {
+            estado = EstadoGuardado.ACTUALIZADO;
+        } else {
+            estado = EstadoGuardado.SIN_CAMBIOS;
+        }
+
+        if (estado != EstadoGuardado.SIN_CAMBIOS) {
+            AccionesTransaccion.alConfirmar(() -> {
+                indiceBusqueda.indexar(guardado);
+                registroStockBajo.registrar(guardado);
+                agregadoInventario.registrar(guardado);
+                cacheArticulos.invalidar(guardado.getId(), guardado.getCodigo());
+            });
+        }
+        logger.info("Artículo {} guardado: {}", guardado.getCodigo(), estado);
+        return new ResultadoGuardado(estado, guardado);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Lectura a través de la caché; dentro de una transacción se consulta directamente
+     * para no ver ni guardar cambios aún no confirmados.
      */
     @Override
     public Optional<Articulo> consultarArticuloPorCodigo(String codigo) {
         logger.debug("Consultando artículo por código: {}", codigo);
-        return articuloRepository.findByCodigo(codigo);
+        if (codigo == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return articuloRepository.findByCodigo(codigo);
+        }
+        return cacheArticulos.obtener(codigo, () -> articuloRepository.findByCodigo(codigo));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los artículos activos se responden desde el agregado en memoria; los demás (inexistentes,
+     * inactivos o dentro de una transacción) con la consulta escalar.
+     */
+    @Override
+    public Optional<Integer> consultarStockActual(String codigo) {
+        if (codigo != null && agregadoInventario.isCargado()
+                && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            Integer stockEnMemoria = agregadoInventario.obtenerStock(codigo);
+            if (stockEnMemoria != null) {
+                return Optional.of(stockEnMemoria);
+            }
+        }
+        logger.debug("Consultando stock actual por código: {}", codigo);
+        return articuloRepository.findStockActualByCodigo(codigo);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Articulo> consultarArticulos(Collection<String> codigos) {
+        logger.debug("Consultando {} artículos por código", codigos.size());
+        Map<String, Articulo> encontrados = new HashMap<>();
+        if (codigos.isEmpty()) {
+            return encontrados;
+        }
+        for (Articulo articulo : articuloRepository.findByCodigoIn(new LinkedHashSet<>(codigos))) {
+            encontrados.put(articulo.getCodigo(), articulo);
+        }
+        return encontrados;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Integer> consultarStocks(Collection<String> codigos) {
+        logger.debug("Consultando stock de {} artículos", codigos.size());
+        Map<String, Integer> stocks = new HashMap<>();
+        if (codigos.isEmpty()) {
+            return stocks;
+        }
+        for (ArticuloResumen resumen : articuloRepository.findResumenByCodigoIn(new LinkedHashSet<>(codigos))) {
+            stocks.put(resumen.getCodigo(), resumen.getStockActual());
+        }
+        return stocks;
     }
 
     /**
@@ -94,12 +450,17 @@ public class ArticuloServiceImpl implements ArticuloService {
     @Override
     public List<Articulo> buscarArticulosPorNombre(String nombre) {
         logger.debug("Buscando artículos por nombre: {}", nombre);
-        return articuloRepository.findByNombreContainingIgnoreCase(nombre);
+
+        if (!indiceBusqueda.isCargado()) {
+            return articuloRepository.findByNombreContainingIgnoreCase(nombre);
+        }
+        return cargarPorIds(indiceBusqueda.buscarPorNombre(nombre));
     }
 
     /**
      * {@inheritDoc}
-     * Unifica búsqueda por código o nombre usando repo.
+     * Resuelve los IDs con el índice de trigramas y carga los artículos en una sola consulta por PK.
+     * Mientras el índice se construye, usa una única consulta OR sobre código y nombre.
      */
     @Override
     public List<Articulo> buscarArticulos(String criterio) {
@@ -109,15 +470,57 @@ public class ArticuloServiceImpl implements ArticuloService {
             return obtenerTodosLosArticulos();
         }
 
-        // Unificar: buscar por código o nombre con el mismo criterio
-        List<Articulo> porCodigo = articuloRepository.findByCodigoOrNombre(criterio, "");
-        List<Articulo> porNombre = articuloRepository.findByCodigoOrNombre("", criterio);
+        if (!indiceBusqueda.isCargado()) {
+            return articuloRepository.findByCodigoOrNombre(criterio, criterio);
+        }
+        return cargarPorIds(indiceBusqueda.buscar(criterio));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Igual que {@link #buscarArticulos(String)}, pero carga proyecciones en lugar de entidades.
+     */
+    @Override
+    public List<ArticuloResumen> buscarResumenArticulos(String criterio) {
+        logger.debug("Buscando resúmenes de artículos con criterio: {}", criterio);
+
+        if (criterio == null || criterio.trim().isEmpty()) {
+            return articuloRepository.findResumenActivos(Pageable.unpaged());
+        }
+
+        if (!indiceBusqueda.isCargado()) {
+            return articuloRepository.findResumenByCodigoOrNombre(criterio);
+        }
+        List<Long> ids = indiceBusqueda.buscar(criterio);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ArticuloResumen> resumenes = new ArrayList<>(articuloRepository.findResumenActivosByIdIn(ids));
+        resumenes.sort(Comparator.comparing(ArticuloResumen::getId));
+        return resumenes;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Usa el índice FULLTEXT de MySQL; si no está disponible, rankea en memoria por términos coincidentes.
+     */
+    @Override
+    public List<Articulo> buscarArticulosPorRelevancia(String texto, int limite) {
+        logger.debug("Buscando artículos por relevancia: {}", texto);
 
-        // Combinar y eliminar duplicados por ID
-        return porCodigo.stream()
-                .collect(Collectors.toList()); // Por ahora, usa por código; ajusta si necesitas full OR
+        if (texto == null || texto.trim().isEmpty()) {
+            return List.of();
+        }
+        int limiteEfectivo = Math.max(1, Math.min(limite, LIMITE_MAXIMO_RELEVANCIA));
 
-        // Alternativa full OR: usa una query personalizada en repo si crece complejidad
+        if (busquedaFullText) {
+            try {
+                return articuloRepository.buscarPorRelevancia(texto.trim(), limiteEfectivo);
+            } catch (DataAccessException e) {
+                logger.warn("Búsqueda FULLTEXT no disponible, usando búsqueda alternativa: {}", e.getMessage());
+            }
+        }
+        return buscarPorRelevanciaSinFullText(texto, limiteEfectivo);
     }
 
     /**
@@ -147,6 +550,14 @@ public class ArticuloServiceImpl implements ArticuloService {
             }
 
             Articulo updated = articuloRepository.save(articulo);
+            articuloRepository.flush();
+            avanzarRevision(List.of(updated));
+            AccionesTransaccion.alConfirmar(() -> {
+                indiceBusqueda.indexar(updated);
+                registroStockBajo.registrar(updated);
+                agregadoInventario.registrar(updated);
+                cacheArticulos.invalidar(updated.getId(), updated.getCodigo());
+            });
             logger.info("Artículo actualizado exitosamente: ID {}", updated.getId());
             return updated;
 
@@ -177,6 +588,13 @@ public class ArticuloServiceImpl implements ArticuloService {
         Articulo articulo = optionalArticulo.get();
         articulo.setActivo(false);
         articuloRepository.save(articulo);
+        avanzarRevision(List.of(articulo));
+        AccionesTransaccion.alConfirmar(() -> {
+            indiceBusqueda.indexar(articulo);
+            registroStockBajo.registrar(articulo);
+            agregadoInventario.registrar(articulo);
+            cacheArticulos.invalidar(id, articulo.getCodigo());
+        });
 
         logger.info("Artículo desactivado exitosamente: ID {}", id);
     }
@@ -192,11 +610,98 @@ public class ArticuloServiceImpl implements ArticuloService {
 
     /**
      * {@inheritDoc}
+     * Pide un elemento extra para saber si existe una página siguiente sin ejecutar COUNT.
+     * Carga proyecciones con las columnas del listado, no entidades.
+     */
+    @Override
+    public PaginaArticulos obtenerPaginaArticulos(String cursor, int tamanio, OrdenArticulos orden) {
+        OrdenArticulos ordenEfectivo = (orden != null) ? orden : OrdenArticulos.ID_ASC;
+        int tamanioEfectivo = Math.max(1, Math.min(tamanio, TAMANIO_MAXIMO_PAGINA));
+        logger.debug("Obteniendo página de artículos: cursor={}, tamaño={}, orden={}",
+                cursor, tamanioEfectivo, ordenEfectivo);
+
+        Pageable limite = PageRequest.of(0, tamanioEfectivo + 1);
+        List<ArticuloResumen> articulos;
+
+        if (cursor == null || cursor.trim().isEmpty()) {
+            articulos = articuloRepository.findResumenActivos(PageRequest.of(0, tamanioEfectivo + 1,
+                    Sort.by(ordenEfectivo.getDireccion(), ordenEfectivo.getCampo())));
+        } else {
+            switch (ordenEfectivo) {
+                case ID_DESC:
+                    articulos = articuloRepository.findResumenActivosConIdMenorA(parsearCursorId(cursor), limite);
+                    break;
+                case CODIGO_ASC:
+                    articulos = articuloRepository.findResumenActivosConCodigoMayorA(cursor, limite);
+                    break;
+                case CODIGO_DESC:
+                    articulos = articuloRepository.findResumenActivosConCodigoMenorA(cursor, limite);
+                    break;
+                case ID_ASC:
+                default:
+                    articulos = articuloRepository.findResumenActivosConIdMayorA(parsearCursorId(cursor), limite);
+                    break;
+            }
+        }
+
+        String siguienteCursor = null;
+        if (articulos.size() > tamanioEfectivo) {
+            articulos = articulos.subList(0, tamanioEfectivo);
+            ArticuloResumen ultimo = articulos.get(articulos.size() - 1);
+            siguienteCursor = ordenEfectivo.porId() ? String.valueOf(ultimo.getId()) : ultimo.getCodigo();
+        }
+
+        return new PaginaArticulos(articulos, ordenEfectivo, siguienteCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Responde desde el agregado en memoria; mientras se construye, cuenta en la base de datos.
+     */
+    @Override
+    public long contarArticulosActivos() {
+        if (!agregadoInventario.isCargado()) {
+            logger.debug("Contando artículos activos");
+            return articuloRepository.countByActivoTrue();
+        }
+        return agregadoInventario.contarActivos();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Responde desde el registro en memoria; mientras se construye, consulta la base de datos.
      */
     @Override
     public List<Articulo> obtenerArticulosConStockBajo() {
         logger.debug("Obteniendo artículos con stock bajo");
-        return articuloRepository.findArticulosConStockBajo();
+        if (!registroStockBajo.isCargado()) {
+            return articuloRepository.findArticulosConStockBajo();
+        }
+        return registroStockBajo.obtener();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long contarArticulosConStockBajo() {
+        if (!registroStockBajo.isCargado()) {
+            return articuloRepository.findArticulosConStockBajo().size();
+        }
+        return registroStockBajo.contar();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Responde desde el agregado en memoria; mientras se construye, agrega en la base de datos.
+     */
+    @Override
+    public List<ResumenCategoria> obtenerResumenInventario() {
+        logger.debug("Obteniendo resumen de inventario por categoría");
+        if (!agregadoInventario.isCargado()) {
+            return articuloRepository.calcularResumenInventario();
+        }
+        return agregadoInventario.obtener();
     }
 
     /**
@@ -208,6 +713,15 @@ public class ArticuloServiceImpl implements ArticuloService {
         return articuloRepository.findByCategoria(categoria);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ArticuloResumen> obtenerResumenPorCategoria(String categoria) {
+        logger.debug("Obteniendo resúmenes de artículos por categoría: {}", categoria);
+        return articuloRepository.findResumenByCategoria(categoria);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -243,7 +757,7 @@ public class ArticuloServiceImpl implements ArticuloService {
     public Articulo actualizarStock(String codigo, Integer nuevoStock) {
         logger.info("Actualizando stock para código: {} a {}", codigo, nuevoStock);
 
-        Optional<Articulo> optionalArticulo = consultarArticuloPorCodigo(codigo);
+        Optional<Articulo> optionalArticulo = articuloRepository.findByCodigo(codigo);
         if (optionalArticulo.isEmpty()) {
             logger.warn("Artículo no encontrado para actualizar stock: {}", codigo);
             throw new ArticuloNoEncontradoException("Artículo con código '" + codigo + "' no encontrado.");
@@ -256,8 +770,227 @@ public class ArticuloServiceImpl implements ArticuloService {
         Articulo articulo = optionalArticulo.get();
         articulo.setStockActual(nuevoStock);
         Articulo updated = articuloRepository.save(articulo);
+        avanzarRevision(List.of(updated));
+        AccionesTransaccion.alConfirmar(() -> {
+            registroStockBajo.registrar(updated);
+            agregadoInventario.registrar(updated);
+            cacheArticulos.invalidar(updated.getId(), codigo);
+        });
 
         logger.info("Stock actualizado exitosamente: código {}", codigo);
         return updated;
     }
+
+    /**
+     * Alternativa portable a FULLTEXT: como MATCH ... AGAINST en modo natural, devuelve los artículos
+     * que contienen cualquiera de los términos y puntúa cada uno por los términos encontrados
+     * (el nombre pesa el doble que la descripción).
+     */
+    private List<Articulo> buscarPorRelevanciaSinFullText(String texto, int limite) {
+        Set<String> terminos = new LinkedHashSet<>();
+        for (String termino : texto.toLowerCase().trim().split("\\s+")) {
+            if (terminos.size() == MAXIMO_TERMINOS_RELEVANCIA) {
+                break;
+            }
+            terminos.add(termino);
+        }
+
+        // Una consulta LIKE por término; un artículo que coincide en varios aparece una sola vez
+        Map<Long, Articulo> candidatos = new LinkedHashMap<>();
+        for (String termino : terminos) {
+            for (Articulo articulo : articuloRepository.findByNombreOrDescripcionContaining(termino)) {
+                candidatos.putIfAbsent(articulo.getId(), articulo);
+            }
+        }
+
+        record Puntuado(Articulo articulo, int puntaje) { }
+
+        return candidatos.values().stream()
+                .map(a -> new Puntuado(a, puntuar(a, terminos)))
+                .sorted(Comparator.comparingInt(Puntuado::puntaje).reversed())
+                .limit(limite)
+                .map(Puntuado::articulo)
+                .collect(Collectors.toList());
+    }
+
+    private int puntuar(Articulo articulo, Set<String> terminos) {
+        String nombre = articulo.getNombre() != null ? articulo.getNombre().toLowerCase() : "";
+        String descripcion = articulo.getDescripcion() != null ? articulo.getDescripcion().toLowerCase() : "";
+        int puntaje = 0;
+        for (String termino : terminos) {
+            if (nombre.contains(termino)) {
+                puntaje += 2;
+            }
+            if (descripcion.contains(termino)) {
+                puntaje += 1;
+            }
+        }
+        return puntaje;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Un único UPDATE relativo: no hay lectura previa ni actualizaciones perdidas entre ventas concurrentes.
+     * Un artículo desactivado no actualiza filas y se informa como no encontrado.
+     */
+    @Override
+    @Transactional
+    public int incrementarStock(String codigo, int cantidad) {
+        logger.info("Incrementando stock para código: {} en {}", codigo, cantidad);
+        validarCantidad(cantidad);
+
+        if (articuloRepository.incrementarStock(codigo, cantidad, LocalDateTime.now()) == 0) {
+            logger.warn("Artículo no encontrado para incrementar stock: {}", codigo);
+            throw new ArticuloNoEncontradoException(codigo, "Artículo con código '" + codigo + "' no encontrado.");
+        }
+        return stockTrasActualizar(codigo);
+    }
+
+    /**
+     * {@inheritDoc}
+     * El UPDATE condicional solo descuenta si el artículo está activo y {@code stock_actual >= cantidad};
+     * si no actualiza filas, se distingue entre artículo inexistente (o desactivado) y stock insuficiente.
+     */
+    @Override
+    @Transactional
+    public int decrementarStock(String codigo, int cantidad) {
+        logger.info("Decrementando stock para código: {} en {}", codigo, cantidad);
+        validarCantidad(cantidad);
+
+        if (articuloRepository.decrementarStock(codigo, cantidad, LocalDateTime.now()) == 0) {
+            Integer disponible = articuloRepository.findStockActualActivoByCodigo(codigo)
+                    .orElseThrow(() -> {
+                        logger.warn("Artículo no encontrado para decrementar stock: {}", codigo);
+                        return new ArticuloNoEncontradoException(codigo,
+                                "Artículo con código '" + codigo + "' no encontrado.");
+                    });
+            logger.warn("Stock insuficiente para {}: solicitado {}, disponible {}", codigo, cantidad, disponible);
+            throw new StockInsuficienteException(codigo, cantidad, disponible);
+        }
+        return stockTrasActualizar(codigo);
+    }
+
+    private void validarCantidad(int cantidad) {
+        if (cantidad <= 0) {
+            throw new ValidationException(List.of("La cantidad debe ser mayor a 0."));
+        }
+    }
+
+    /**
+     * Lee el stock y la revisión resultantes dentro de la misma transacción (la fila sigue bloqueada por
+     * el UPDATE) y programa al confirmar la invalidación de la caché y la actualización de las estructuras
+     * en memoria, que descartan el cambio si ya aplicaron una revisión posterior.
+     */
+    private int stockTrasActualizar(String codigo) {
+        EstadoStock estado = articuloRepository.findEstadoStockByCodigo(codigo)
+                .orElseThrow(() -> new ArticuloNoEncontradoException(codigo));
+        int nuevoStock = estado.getStockActual();
+        AccionesTransaccion.alConfirmar(() -> {
+            cacheArticulos.invalidar(null, codigo);
+            registroStockBajo.actualizarStock(codigo, nuevoStock, estado.getRevision(),
+                    () -> articuloRepository.findByCodigo(codigo));
+            agregadoInventario.actualizarStock(codigo, nuevoStock, estado.getRevision(),
+                    () -> articuloRepository.findByCodigo(codigo));
+        });
+        logger.info("Stock actualizado exitosamente: código {} -> {}", codigo, nuevoStock);
+        return nuevoStock;
+    }
+
+    /**
+     * Incrementa la revisión de los artículos modificados a través de la entidad y copia a cada uno el
+     * valor confirmado por la base de datos, que las estructuras en memoria usan para ordenar los cambios
+     */
+    private void avanzarRevision(Collection<Articulo> articulos) {
+        if (articulos.isEmpty()) {
+            return;
+        }
+        Map<Long, Articulo> porId = new HashMap<>();
+        for (Articulo articulo : articulos) {
+            porId.put(articulo.getId(), articulo);
+        }
+        articuloRepository.incrementarRevision(porId.keySet());
+        for (EstadoStock estado : articuloRepository.findEstadoStockByIdIn(porId.keySet())) {
+            porId.get(estado.getId()).setRevision(estado.getRevision());
+        }
+    }
+
+    /**
+     * Carga los artículos activos de los IDs dados en una sola consulta, conservando el orden por ID.
+     * Se filtra por activo porque el índice puede aplicar una baja algo después de confirmarse.
+     */
+    private List<Articulo> cargarPorIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Articulo> articulos = new ArrayList<>(articuloRepository.findByIdInAndActivoTrue(ids));
+        articulos.sort(Comparator.comparing(Articulo::getId));
+        return articulos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Recorrido keyset por (fechaActualizacion, id); pide un elemento extra para saber si hay más.
+     */
+    @Override
+    public PaginaCambios obtenerCambiosDesde(LocalDateTime marcaTiempo, String token, int limite) {
+        int limiteEfectivo = Math.max(1, Math.min(limite, TAMANIO_MAXIMO_PAGINA));
+        PosicionCambio desde = (token != null && !token.isBlank()) ? decodificarToken(token)
+                : new PosicionCambio(marcaTiempo != null ? marcaTiempo : INICIO_CAMBIOS, Long.MAX_VALUE);
+        LocalDateTime hasta = LocalDateTime.now().minusSeconds(margenCambiosSegundos);
+        logger.debug("Obteniendo cambios desde {} (id > {}) hasta {}, límite {}",
+                desde.fecha(), desde.id(), hasta, limiteEfectivo);
+
+        List<Articulo> cambios = articuloRepository.findCambiosDesde(desde.fecha(), desde.id(), hasta,
+                PageRequest.of(0, limiteEfectivo + 1));
+        boolean hayMas = cambios.size() > limiteEfectivo;
+        if (hayMas) {
+            cambios = cambios.subList(0, limiteEfectivo);
+        }
+
+        PosicionCambio siguiente = desde;
+        if (!cambios.isEmpty()) {
+            Articulo ultimo = cambios.get(cambios.size() - 1);
+            siguiente = new PosicionCambio(ultimo.getFechaActualizacion(), ultimo.getId());
+        }
+        return new PaginaCambios(cambios, codificarToken(siguiente), hayMas);
+    }
+
+    /**
+     * Codifica la posición del feed de cambios como token opaco (Base64 URL de "fecha|id")
+     */
+    private String codificarToken(PosicionCambio posicion) {
+        String valor = posicion.fecha() + "|" + posicion.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token del feed de cambios
+     */
+    private PosicionCambio decodificarToken(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            return new PosicionCambio(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.valueOf(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Token de continuación inválido: " + token);
+        }
+    }
+
+    /**
+     * Posición en el feed de cambios: último (fechaActualizacion, id) entregado
+     */
+    private record PosicionCambio(LocalDateTime fecha, Long id) {
+    }
+
+    /**
+     * Convierte el cursor de paginación por ID a Long
+     */
+    private Long parsearCursorId(String cursor) {
+        try {
+            return Long.valueOf(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Cursor de paginación inválido: " + cursor);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura en memoria de artículos por código (RNF2).
+ * Acotada por tamaño (LRU) y por tiempo de vida; expone contadores de aciertos y fallos.
+ * Entrega copias para que los llamadores no modifiquen la instancia compartida.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class CacheArticulos {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheArticulos.class);
+
+    private final int tamanioMaximo;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<String, Entrada> entradas;
+
+    /**
+     * ID -> código cacheado, para invalidar aunque el código haya cambiado
+     */
+    private final Map<Long, String> codigosPorId = new HashMap<>();
+
+    /**
+     * Se incrementa en cada invalidación; una lectura iniciada antes no puede guardar su resultado
+     */
+    private long generacion = 0;
+
+    private final AtomicLong aciertos = new AtomicLong();
+    private final AtomicLong fallos = new AtomicLong();
+    private final AtomicLong expulsiones = new AtomicLong();
+
+    @Autowired
+    public CacheArticulos(@Value("${inventario.cache.articulos.tamanio-maximo:10000}") int tamanioMaximo,
+                          @Value("${inventario.cache.articulos.ttl-segundos:60}") long ttlSegundos) {
+        this.tamanioMaximo = tamanioMaximo;
+        this.ttlNanos = Duration.ofSeconds(ttlSegundos).toNanos();
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> eldest) {
+                if (size() > CacheArticulos.this.tamanioMaximo) {
+                    codigosPorId.remove(eldest.getValue().articulo().getId());
+                    expulsiones.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el artículo desde la caché o, si no está o expiró, desde el cargador.
+     * Los resultados vacíos no se guardan.
+     *
+     * @param codigo código del artículo
+     * @param cargador consulta a la base de datos
+     * @return Optional con una copia del artículo
+     */
+    public Optional<Articulo> obtener(String codigo, Supplier<Optional<Articulo>> cargador) {
+        long generacionLectura;
+        synchronized (this) {
+            Entrada entrada = entradas.get(codigo);
+            if (entrada != null && !entrada.expirada(System.nanoTime())) {
+                aciertos.incrementAndGet();
+                return Optional.of(copiar(entrada.articulo()));
+            }
+            if (entrada != null) {
+                quitar(codigo);
+                expulsiones.incrementAndGet();
+            }
+            generacionLectura = generacion;
+        }
+
+        fallos.incrementAndGet();
+        Optional<Articulo> cargado = cargador.get();
+        cargado.ifPresent(articulo -> guardar(codigo, articulo, generacionLectura));
+        return cargado.map(CacheArticulos::copiar);
+    }
+
+    private synchronized void guardar(String codigo, Articulo articulo, long generacionLectura) {
+        if (generacionLectura != generacion) {
+            // Hubo una escritura confirmada durante la lectura: el valor puede estar desactualizado
+            return;
+        }
+        entradas.put(codigo, new Entrada(copiar(articulo), System.nanoTime() + ttlNanos));
+        if (articulo.getId() != null) {
+            codigosPorId.put(articulo.getId(), codigo);
+        }
+    }
+
+    /**
+     * Invalida el artículo por código y por ID (cubre cambios de código)
+     *
+     * @param id identificador del artículo (puede ser null)
+     * @param codigo código del artículo (puede ser null)
+     */
+    public synchronized void invalidar(Long id, String codigo) {
+        generacion++;
+        if (codigo != null) {
+            quitar(codigo);
+        }
+        if (id != null) {
+            String codigoAnterior = codigosPorId.remove(id);
+            if (codigoAnterior != null) {
+                entradas.remove(codigoAnterior);
+            }
+        }
+    }
+
+    public synchronized void limpiar() {
+        generacion++;
+        entradas.clear();
+        codigosPorId.clear();
+        logger.info("Caché de artículos vaciada");
+    }
+
+    private void quitar(String codigo) {
+        Entrada anterior = entradas.remove(codigo);
+        if (anterior != null) {
+            codigosPorId.remove(anterior.articulo().getId());
+        }
+    }
+
+    public synchronized int tamanio() {
+        return entradas.size();
+    }
+
+    public long getAciertos() {
+        return aciertos.get();
+    }
+
+    public long getFallos() {
+        return fallos.get();
+    }
+
+    public long getExpulsiones() {
+        return expulsiones.get();
+    }
+
+    /**
+     * Porcentaje de lecturas resueltas desde la caché
+     */
+    public double getTasaAciertos() {
+        long total = aciertos.get() + fallos.get();
+        return total == 0 ? 0.0 : (aciertos.get() * 100.0) / total;
+    }
+
+    static Articulo copiar(Articulo articulo) {
+        return Articulo.builder()
+                .id(articulo.getId())
+                .codigo(articulo.getCodigo())
+                .nombre(articulo.getNombre())
+                .descripcion(articulo.getDescripcion())
+                .categoria(articulo.getCategoria())
+                .precioCompra(articulo.getPrecioCompra())
+                .precioVenta(articulo.getPrecioVenta())
+                .stockActual(articulo.getStockActual())
+                .stockMinimo(articulo.getStockMinimo())
+                .proveedor(articulo.getProveedor())
+                .fechaRegistro(articulo.getFechaRegistro())
+                .fechaActualizacion(articulo.getFechaActualizacion())
+                .activo(articulo.getActivo())
+                .revision(articulo.getRevision())
+                .build();
+    }
+
+    private record Entrada(Articulo articulo, long expiraEn) {
+
+        boolean expirada(long ahora) {
+            return ahora - expiraEn > 0;
+        }
+    }
+}
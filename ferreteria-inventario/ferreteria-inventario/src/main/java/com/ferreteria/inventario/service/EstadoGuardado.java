@@ -0,0 +1,25 @@
+package com.ferreteria.inventario.service;
+
+/**
+ * Efecto de guardar un artículo por código (upsert)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public enum EstadoGuardado {
+
+    /**
+     * El código no existía y se insertó el artículo
+     */
+    CREADO,
+
+    /**
+     * El código existía y al menos un campo cambió
+     */
+    ACTUALIZADO,
+
+    /**
+     * El código existía con los mismos datos: no se escribió la fila
+     */
+    SIN_CAMBIOS
+}
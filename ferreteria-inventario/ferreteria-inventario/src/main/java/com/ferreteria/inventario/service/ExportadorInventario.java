@@ -0,0 +1,114 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.repository.ArticuloRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exporta el catálogo activo completo como XML en streaming (RNF2).
+ * Recorre un cursor de solo avance y escribe cada fila con StAX en cuanto se lee,
+ * desligándola del contexto de persistencia: la memoria usada no depende del tamaño del catálogo.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class ExportadorInventario {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportadorInventario.class);
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final ArticuloRepository articuloRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ExportadorInventario(ArticuloRepository articuloRepository) {
+        this.articuloRepository = articuloRepository;
+    }
+
+    /**
+     * Escribe el documento {@code <inventario>} con un elemento {@code <articulo>} por artículo activo
+     *
+     * @param salida flujo de destino (no se cierra)
+     * @return número de artículos exportados
+     * @throws IOException si falla la escritura
+     */
+    @Transactional(readOnly = true)
+    public long exportar(OutputStream salida) throws IOException {
+        logger.info("Iniciando exportación de inventario");
+        long exportados = 0;
+        try (Stream<Articulo> articulos = articuloRepository.streamArticulosActivos()) {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(salida, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("inventario");
+            xml.writeAttribute("fechaGeneracion", LocalDateTime.now().format(DATE_FORMATTER));
+
+            Iterator<Articulo> iterador = articulos.iterator();
+            while (iterador.hasNext()) {
+                Articulo articulo = iterador.next();
+                escribirArticulo(xml, articulo);
+                entityManager.detach(articulo);
+                exportados++;
+            }
+
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Error al escribir la exportación de inventario", e);
+        }
+        logger.info("Exportación de inventario completada: {} artículos", exportados);
+        return exportados;
+    }
+
+    private void escribirArticulo(XMLStreamWriter xml, Articulo articulo) throws XMLStreamException {
+        xml.writeStartElement("articulo");
+        escribirCampo(xml, "id", articulo.getId());
+        escribirCampo(xml, "codigo", articulo.getCodigo());
+        escribirCampo(xml, "nombre", articulo.getNombre());
+        escribirCampo(xml, "descripcion", articulo.getDescripcion());
+        escribirCampo(xml, "categoria", articulo.getCategoria());
+        escribirCampo(xml, "precioCompra", articulo.getPrecioCompra());
+        escribirCampo(xml, "precioVenta", articulo.getPrecioVenta());
+        escribirCampo(xml, "stockActual", articulo.getStockActual());
+        escribirCampo(xml, "stockMinimo", articulo.getStockMinimo());
+        escribirCampo(xml, "proveedor", articulo.getProveedor());
+        escribirCampo(xml, "fechaActualizacion", articulo.getFechaActualizacion() != null
+                ? articulo.getFechaActualizacion().format(DATE_FORMATTER) : null);
+        xml.writeEndElement();
+    }
+
+    /**
+     * Escribe un elemento simple; los valores nulos se omiten
+     */
+    private void escribirCampo(XMLStreamWriter xml, String nombre, Object valor) throws XMLStreamException {
+        if (valor == null) {
+            return;
+        }
+        xml.writeStartElement(nombre);
+        xml.writeCharacters(valor.toString());
+        xml.writeEndElement();
+    }
+}
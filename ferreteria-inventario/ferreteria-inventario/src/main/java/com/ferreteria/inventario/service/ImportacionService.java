@@ -0,0 +1,52 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import com.ferreteria.inventario.entity.LineaImportacion;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz del servicio de importaciones masivas de artículos en segundo plano (RF5, RNF2)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public interface ImportacionService {
+
+    /**
+     * Registra una importación con sus líneas y la encola para procesarla en segundo plano.
+     * Los códigos nuevos se insertan y los existentes se actualizan.
+     *
+     * @param articulos artículos a importar, en el orden recibido
+     * @param origen canal por el que se envió (SOAP, WEB)
+     * @return importación registrada en estado PENDIENTE, con su ID para consultar el avance
+     * @throws com.ferreteria.inventario.exception.ValidationException si la lista está vacía
+     */
+    ImportacionArticulos iniciarImportacion(List<Articulo> articulos, String origen);
+
+    /**
+     * Consulta el estado y el avance de una importación
+     *
+     * @param id identificador de la importación
+     * @return Optional con la importación si existe
+     */
+    Optional<ImportacionArticulos> consultarImportacion(Long id);
+
+    /**
+     * Obtiene las líneas rechazadas de una importación (RF10)
+     *
+     * @param id identificador de la importación
+     * @param limite número máximo de líneas
+     * @return líneas con su código de error, en el orden del archivo
+     */
+    List<LineaImportacion> obtenerLineasRechazadas(Long id, int limite);
+
+    /**
+     * Obtiene las importaciones más recientes
+     *
+     * @return últimas importaciones, la más reciente primero
+     */
+    List<ImportacionArticulos> obtenerUltimasImportaciones();
+}
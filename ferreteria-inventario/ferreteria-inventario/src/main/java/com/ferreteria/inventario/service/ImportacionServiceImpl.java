@@ -0,0 +1,201 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.config.ImportacionConfig;
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.EstadoImportacion;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import com.ferreteria.inventario.entity.LineaImportacion;
+import com.ferreteria.inventario.exception.ValidationException;
+import com.ferreteria.inventario.repository.ImportacionRepository;
+import com.ferreteria.inventario.repository.LineaImportacionRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación del servicio de importaciones masivas (RF5, RNF2).
+ * Registra las líneas en la base de datos y responde de inmediato con el ID de la importación;
+ * el ejecutor de importaciones la procesa por bloques con {@link ProcesadorImportacion}.
+ * Al arrancar se reanudan las importaciones que quedaron pendientes o a medias.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Service
+public class ImportacionServiceImpl implements ImportacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionServiceImpl.class);
+
+    /**
+     * Líneas registradas entre dos vaciados del contexto de persistencia (múltiplo de hibernate.jdbc.batch_size)
+     */
+    private static final int TAMANIO_BLOQUE_REGISTRO = 500;
+
+    private static final int LIMITE_MAXIMO_RECHAZADAS = 1000;
+
+    private final ImportacionRepository importacionRepository;
+    private final LineaImportacionRepository lineaImportacionRepository;
+    private final ProcesadorImportacion procesadorImportacion;
+    private final TaskExecutor importacionExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Importaciones encoladas o en proceso en esta instancia (evita encolar dos veces la misma)
+     */
+    private final Set<Long> enCurso = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean deteniendo = false;
+
+    /**
+     * Líneas por transacción al procesar una importación
+     */
+    @Value("${inventario.importacion.tamanio-bloque:500}")
+    private int tamanioBloque = 500;
+
+    @Autowired
+    public ImportacionServiceImpl(ImportacionRepository importacionRepository,
+                                  LineaImportacionRepository lineaImportacionRepository,
+                                  ProcesadorImportacion procesadorImportacion,
+                                  @Qualifier(ImportacionConfig.EJECUTOR_IMPORTACION) TaskExecutor importacionExecutor) {
+        this.importacionRepository = importacionRepository;
+        this.lineaImportacionRepository = lineaImportacionRepository;
+        this.procesadorImportacion = procesadorImportacion;
+        this.importacionExecutor = importacionExecutor;
+    }
+
+    /**
+     * Reanuda las importaciones pendientes o interrumpidas por una detención de la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reanudarImportaciones() {
+        for (ImportacionArticulos importacion : importacionRepository.findByEstadoInOrderByIdAsc(
+                List.of(EstadoImportacion.PENDIENTE, EstadoImportacion.EN_PROCESO))) {
+            logger.info("Reanudando importación {} desde la línea {} de {}", importacion.getId(),
+                    importacion.getLineasProcesadas(), importacion.getTotalLineas());
+            encolar(importacion.getId());
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        deteniendo = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Las líneas se insertan por lotes y se desligan del contexto cada bloque, así la memoria
+     * no crece con el tamaño de la importación. Se encola al confirmar la transacción.
+     */
+    @Override
+    @Transactional
+    public ImportacionArticulos iniciarImportacion(List<Articulo> articulos, String origen) {
+        if (articulos == null || articulos.isEmpty()) {
+            throw new ValidationException(List.of("La importación no contiene artículos"));
+        }
+        logger.info("Registrando importación de {} artículos ({})", articulos.size(), origen);
+
+        ImportacionArticulos importacion = importacionRepository.save(ImportacionArticulos.builder()
+                .estado(EstadoImportacion.PENDIENTE)
+                .origen(origen)
+                .totalLineas(articulos.size())
+                .build());
+        Long id = importacion.getId();
+
+        List<LineaImportacion> bloque = new ArrayList<>(TAMANIO_BLOQUE_REGISTRO);
+        for (int i = 0; i < articulos.size(); i++) {
+            bloque.add(LineaImportacion.desde(id, i, articulos.get(i)));
+            if (bloque.size() == TAMANIO_BLOQUE_REGISTRO || i == articulos.size() - 1) {
+                lineaImportacionRepository.saveAll(bloque);
+                lineaImportacionRepository.flush();
+                entityManager.clear();
+                bloque.clear();
+            }
+        }
+
+        AccionesTransaccion.alConfirmar(() -> encolar(id));
+        logger.info("Importación {} registrada con {} líneas", id, articulos.size());
+        return importacion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ImportacionArticulos> consultarImportacion(Long id) {
+        return importacionRepository.findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LineaImportacion> obtenerLineasRechazadas(Long id, int limite) {
+        int limiteEfectivo = Math.max(1, Math.min(limite, LIMITE_MAXIMO_RECHAZADAS));
+        return lineaImportacionRepository.findByImportacionIdAndCodigoErrorIsNotNullOrderByNumeroAsc(
+                id, PageRequest.of(0, limiteEfectivo));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ImportacionArticulos> obtenerUltimasImportaciones() {
+        return importacionRepository.findTop10ByOrderByIdDesc();
+    }
+
+    /**
+     * Envía la importación al ejecutor, salvo que ya esté encolada en esta instancia
+     */
+    private void encolar(Long id) {
+        if (!enCurso.add(id)) {
+            return;
+        }
+        importacionExecutor.execute(() -> {
+            try {
+                procesar(id);
+            } finally {
+                enCurso.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Procesa bloque a bloque hasta terminar. Un error inesperado marca la importación como fallida;
+     * si la aplicación se está deteniendo se deja como está para reanudarla al arrancar.
+     */
+    private void procesar(Long id) {
+        logger.info("Procesando importación {}", id);
+        try {
+            boolean hayMas;
+            do {
+                hayMas = procesadorImportacion.procesarBloque(id, tamanioBloque);
+            } while (hayMas && !deteniendo);
+        } catch (Exception e) {
+            if (deteniendo) {
+                logger.info("Importación {} interrumpida por la detención; se reanudará al arrancar", id);
+                return;
+            }
+            logger.error("Error al procesar la importación {}", id, e);
+            procesadorImportacion.marcarFallida(id, e.getMessage());
+        }
+    }
+}
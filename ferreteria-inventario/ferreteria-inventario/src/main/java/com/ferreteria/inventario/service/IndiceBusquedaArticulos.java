@@ -0,0 +1,230 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido de trigramas en memoria sobre código y nombre de los artículos activos (RF4, RNF2).
+ * Evita los recorridos completos de tabla de {@code LOWER(x) LIKE '%term%'}: cada búsqueda
+ * intersecta las listas de los trigramas del término y verifica los candidatos por subcadena.
+ * Los textos se normalizan a minúsculas y sin tildes para imitar la collation utf8mb4_unicode_ci.
+ *
+ * Como en {@link AgregadoInventario}, los cambios pueden llegar en otro orden que el de confirmación (o
+ * cruzarse con la carga inicial); cada uno trae la revisión de la fila y se descarta si es anterior a la
+ * ya aplicada, para no reindexar una versión vieja ni devolver al índice un artículo desactivado.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class IndiceBusquedaArticulos {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceBusquedaArticulos.class);
+
+    private static final int N = 3;
+
+    /**
+     * Trigrama -> IDs de artículos que lo contienen
+     */
+    private final Map<String, Set<Long>> trigramas = new ConcurrentHashMap<>();
+
+    /**
+     * ID -> textos normalizados indexados (necesarios para verificar y para desindexar)
+     */
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+
+    /**
+     * ID -> última revisión aplicada; se conserva al retirar el artículo para descartar cambios anteriores
+     * (solo se usa con el bloqueo tomado)
+     */
+    private final Map<Long, Long> revisiones = new HashMap<>();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Indexa (o reindexa) un artículo. Los artículos inactivos se retiran del índice.
+     * Se ignora si su revisión es anterior a la ya aplicada.
+     *
+     * @param articulo artículo con sus valores confirmados
+     */
+    public synchronized void indexar(Articulo articulo) {
+        if (articulo == null || articulo.getId() == null || !avanzarRevision(articulo.getId(), articulo.getRevision())) {
+            return;
+        }
+        retirar(articulo.getId());
+        if (Boolean.FALSE.equals(articulo.getActivo())) {
+            return;
+        }
+
+        Entrada entrada = new Entrada(normalizar(articulo.getCodigo()), normalizar(articulo.getNombre()));
+        entradas.put(articulo.getId(), entrada);
+        for (String trigrama : entrada.trigramas()) {
+            trigramas.computeIfAbsent(trigrama, k -> ConcurrentHashMap.newKeySet()).add(articulo.getId());
+        }
+    }
+
+    /**
+     * Retira un artículo del índice (se llama con el bloqueo tomado)
+     */
+    private void retirar(Long id) {
+        Entrada anterior = entradas.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String trigrama : anterior.trigramas()) {
+            Set<Long> ids = trigramas.get(trigrama);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    trigramas.remove(trigrama);
+                }
+            }
+        }
+    }
+
+    /**
+     * Anota la revisión si no es anterior a la ya aplicada (se llama con el bloqueo tomado)
+     *
+     * @return false si el cambio es anterior y debe descartarse
+     */
+    private boolean avanzarRevision(Long id, long revision) {
+        Long aplicada = revisiones.get(id);
+        if (aplicada != null && revision < aplicada) {
+            return false;
+        }
+        revisiones.put(id, revision);
+        return true;
+    }
+
+    /**
+     * Busca los IDs de artículos cuyo código o nombre contienen el término
+     *
+     * @param termino texto a buscar
+     * @return IDs ordenados de forma ascendente
+     */
+    public List<Long> buscar(String termino) {
+        return buscar(termino, true, true);
+    }
+
+    /**
+     * Busca los IDs de artículos cuyo nombre contiene el término
+     *
+     * @param termino texto a buscar
+     * @return IDs ordenados de forma ascendente
+     */
+    public List<Long> buscarPorNombre(String termino) {
+        return buscar(termino, false, true);
+    }
+
+    private List<Long> buscar(String termino, boolean enCodigo, boolean enNombre) {
+        String normalizado = normalizar(termino);
+        if (normalizado.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> resultado = new ArrayList<>();
+        if (normalizado.length() < N) {
+            // Términos cortos: no hay trigramas, se verifica directamente en memoria
+            entradas.forEach((id, entrada) -> {
+                if (entrada.coincide(normalizado, enCodigo, enNombre)) {
+                    resultado.add(id);
+                }
+            });
+        } else {
+            for (Long id : candidatos(normalizado)) {
+                Entrada entrada = entradas.get(id);
+                if (entrada != null && entrada.coincide(normalizado, enCodigo, enNombre)) {
+                    resultado.add(id);
+                }
+            }
+        }
+
+        Collections.sort(resultado);
+        return resultado;
+    }
+
+    /**
+     * Intersecta las listas de los trigramas del término, empezando por la más pequeña
+     */
+    private Set<Long> candidatos(String normalizado) {
+        List<Set<Long>> listas = new ArrayList<>();
+        for (String trigrama : extraerTrigramas(normalizado)) {
+            Set<Long> ids = trigramas.get(trigrama);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            listas.add(ids);
+        }
+        listas.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Set<Long> interseccion = new HashSet<>(listas.get(0));
+        for (int i = 1; i < listas.size() && !interseccion.isEmpty(); i++) {
+            interseccion.retainAll(listas.get(i));
+        }
+        return interseccion;
+    }
+
+    public void marcarCargado() {
+        this.cargado = true;
+        logger.info("Índice de búsqueda cargado: {} artículos, {} trigramas", entradas.size(), trigramas.size());
+    }
+
+    /**
+     * Indica si el índice ya fue construido y puede responder búsquedas
+     */
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    public int tamanio() {
+        return entradas.size();
+    }
+
+    /**
+     * Normaliza un texto: minúsculas, sin tildes y sin espacios en los extremos
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinTildes = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return sinTildes.toLowerCase().trim();
+    }
+
+    private static Set<String> extraerTrigramas(String texto) {
+        Set<String> resultado = new HashSet<>();
+        for (int i = 0; i + N <= texto.length(); i++) {
+            resultado.add(texto.substring(i, i + N));
+        }
+        return resultado;
+    }
+
+    /**
+     * Textos normalizados de un artículo indexado
+     */
+    private record Entrada(String codigo, String nombre) {
+
+        Set<String> trigramas() {
+            Set<String> resultado = extraerTrigramas(codigo);
+            resultado.addAll(extraerTrigramas(nombre));
+            return resultado;
+        }
+
+        boolean coincide(String termino, boolean enCodigo, boolean enNombre) {
+            return (enCodigo && codigo.contains(termino)) || (enNombre && nombre.contains(termino));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ferreteria.inventario.service;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Órdenes soportados para el listado paginado de artículos (RNF2).
+ * Cada orden corresponde a una columna indexada sobre la que se hace "seek".
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public enum OrdenArticulos {
+
+    ID_ASC("id", Sort.Direction.ASC),
+    ID_DESC("id", Sort.Direction.DESC),
+    CODIGO_ASC("codigo", Sort.Direction.ASC),
+    CODIGO_DESC("codigo", Sort.Direction.DESC);
+
+    private final String campo;
+    private final Sort.Direction direccion;
+
+    OrdenArticulos(String campo, Sort.Direction direccion) {
+        this.campo = campo;
+        this.direccion = direccion;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public Sort.Direction getDireccion() {
+        return direccion;
+    }
+
+    public boolean porId() {
+        return "id".equals(campo);
+    }
+
+    /**
+     * Obtiene el orden a partir de un parámetro de la petición
+     *
+     * @param valor nombre del orden (ej: "codigo_asc"); puede ser null
+     * @return orden correspondiente, ID_ASC por defecto
+     */
+    public static OrdenArticulos desde(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return ID_ASC;
+        }
+        try {
+            return OrdenArticulos.valueOf(valor.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ID_ASC;
+        }
+    }
+}
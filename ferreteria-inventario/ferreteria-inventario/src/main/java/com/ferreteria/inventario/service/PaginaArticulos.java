@@ -0,0 +1,32 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.repository.ArticuloResumen;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página de artículos obtenida mediante paginación keyset (RNF2).
+ * El cursor es el valor de la columna de orden del último artículo de la página.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaArticulos {
+
+    private final List<ArticuloResumen> articulos;
+
+    private final OrdenArticulos orden;
+
+    /**
+     * Cursor para solicitar la siguiente página (null si no hay más)
+     */
+    private final String siguienteCursor;
+
+    public boolean hayMas() {
+        return siguienteCursor != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página del feed de cambios de artículos para sincronización incremental (RNF2).
+ * Incluye los artículos desactivados, para que los sistemas externos también reciban las bajas.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class PaginaCambios {
+
+    /**
+     * Artículos modificados, en orden de modificación
+     */
+    private final List<Articulo> articulos;
+
+    /**
+     * Token opaco de continuación: posición del último cambio entregado. Siempre presente; al
+     * terminar la sincronización se guarda para pedir solo los cambios posteriores.
+     */
+    private final String token;
+
+    @Getter(AccessLevel.NONE)
+    private final boolean hayMas;
+
+    public boolean hayMas() {
+        return hayMas;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.EstadoImportacion;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import com.ferreteria.inventario.entity.LineaImportacion;
+import com.ferreteria.inventario.repository.ImportacionRepository;
+import com.ferreteria.inventario.repository.LineaImportacionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Procesa las importaciones masivas bloque a bloque (RF5, RNF2).
+ * Cada bloque se confirma en su propia transacción junto con el avance de la importación:
+ * tras un reinicio se continúa desde el primer bloque sin confirmar, sin repetir ni saltar líneas.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class ProcesadorImportacion {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcesadorImportacion.class);
+
+    private static final int LONGITUD_MAXIMA_MENSAJE = 1000;
+
+    private final ImportacionRepository importacionRepository;
+    private final LineaImportacionRepository lineaImportacionRepository;
+    private final ArticuloService articuloService;
+
+    @Autowired
+    public ProcesadorImportacion(ImportacionRepository importacionRepository,
+                                 LineaImportacionRepository lineaImportacionRepository,
+                                 ArticuloService articuloService) {
+        this.importacionRepository = importacionRepository;
+        this.lineaImportacionRepository = lineaImportacionRepository;
+        this.articuloService = articuloService;
+    }
+
+    /**
+     * Importa el siguiente bloque de líneas y registra el avance en la misma transacción
+     *
+     * @param importacionId importación a procesar
+     * @param tamanioBloque líneas por bloque
+     * @return true si quedan líneas por procesar
+     */
+    @Transactional
+    public boolean procesarBloque(Long importacionId, int tamanioBloque) {
+        ImportacionArticulos importacion = importacionRepository.findParaProcesarById(importacionId)
+                .orElseThrow(() -> new IllegalStateException("La importación " + importacionId + " no existe"));
+        if (importacion.getEstado().isTerminal()) {
+            return false;
+        }
+        importacion.setEstado(EstadoImportacion.EN_PROCESO);
+
+        List<LineaImportacion> lineas = lineaImportacionRepository
+                .findByImportacionIdAndNumeroGreaterThanEqualOrderByNumeroAsc(
+                        importacionId, importacion.getLineasProcesadas(), PageRequest.of(0, tamanioBloque));
+        List<Articulo> articulos = lineas.stream()
+                .map(LineaImportacion::aArticulo)
+                .collect(Collectors.toList());
+
+        List<ResultadoInsercion> resultados = articulos.isEmpty() ? List.of()
+                : articuloService.importarArticulos(articulos);
+        for (int i = 0; i < resultados.size(); i++) {
+            ResultadoInsercion resultado = resultados.get(i);
+            if (!resultado.isExitoso()) {
+                LineaImportacion linea = lineas.get(i);
+                linea.setCodigoError(resultado.getCodigoError());
+                linea.setMensaje(recortar(resultado.getMensaje()));
+                importacion.setRechazados(importacion.getRechazados() + 1);
+            } else if (resultado.isActualizado()) {
+                importacion.setActualizados(importacion.getActualizados() + 1);
+            } else {
+                importacion.setInsertados(importacion.getInsertados() + 1);
+            }
+        }
+        importacion.setLineasProcesadas(importacion.getLineasProcesadas() + lineas.size());
+
+        if (lineas.isEmpty() || importacion.getLineasProcesadas() >= importacion.getTotalLineas()) {
+            importacion.setEstado(EstadoImportacion.COMPLETADA);
+            importacion.setFechaFin(LocalDateTime.now());
+            // Solo se conservan las líneas rechazadas, que son las que se consultan
+            lineaImportacionRepository.eliminarImportadas(importacionId);
+            logger.info("Importación {} completada: {} insertados, {} actualizados, {} rechazados",
+                    importacionId, importacion.getInsertados(), importacion.getActualizados(),
+                    importacion.getRechazados());
+            return false;
+        }
+        logger.debug("Importación {}: {}/{} líneas", importacionId,
+                importacion.getLineasProcesadas(), importacion.getTotalLineas());
+        return true;
+    }
+
+    /**
+     * Marca la importación como fallida; los bloques ya confirmados se conservan
+     *
+     * @param importacionId importación
+     * @param mensaje motivo del fallo
+     */
+    @Transactional
+    public void marcarFallida(Long importacionId, String mensaje) {
+        importacionRepository.findById(importacionId).ifPresent(importacion -> {
+            importacion.setEstado(EstadoImportacion.FALLIDA);
+            importacion.setMensajeError(recortar(mensaje));
+            importacion.setFechaFin(LocalDateTime.now());
+        });
+    }
+
+    private static String recortar(String mensaje) {
+        return (mensaje != null && mensaje.length() > LONGITUD_MAXIMA_MENSAJE)
+                ? mensaje.substring(0, LONGITUD_MAXIMA_MENSAJE) : mensaje;
+    }
+}
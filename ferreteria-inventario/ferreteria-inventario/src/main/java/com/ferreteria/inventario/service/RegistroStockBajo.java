@@ -0,0 +1,189 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registro en memoria de los artículos activos con stock bajo (RF7, RNF2).
+ * {@code stock_actual < stock_minimo} compara dos columnas y ningún índice lo resuelve, así que en lugar
+ * de recorrer la tabla en cada carga del panel se mantiene el conjunto de forma incremental:
+ * se construye al arrancar y se actualiza con cada cambio de stock o de mínimo confirmado.
+ * Como en {@link AgregadoInventario}, cada cambio trae la revisión de la fila y se descarta si es
+ * anterior a la ya aplicada.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Component
+public class RegistroStockBajo {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroStockBajo.class);
+
+    private static final Comparator<Articulo> POR_DEFICIT = Comparator
+            .comparingInt((Articulo a) -> a.getStockMinimo() - a.getStockActual()).reversed()
+            .thenComparing(Articulo::getId);
+
+    /**
+     * Código -> stock mínimo de cada artículo activo (permite decidir sin leer la fila completa)
+     */
+    private final Map<String, Integer> minimos = new ConcurrentHashMap<>();
+
+    /**
+     * ID -> código registrado, para retirar la entrada anterior si el código cambia
+     */
+    private final Map<Long, String> codigosPorId = new ConcurrentHashMap<>();
+
+    /**
+     * Código -> ID de cada artículo activo, para aplicar cambios de stock conocidos solo por código
+     */
+    private final Map<String, Long> idsPorCodigo = new ConcurrentHashMap<>();
+
+    /**
+     * ID -> última revisión aplicada; se conserva al retirar el artículo para descartar cambios anteriores
+     */
+    private final Map<Long, Long> revisiones = new ConcurrentHashMap<>();
+
+    /**
+     * Código -> copia de los artículos que hoy tienen stock bajo. Las copias no se modifican una vez
+     * publicadas: cada cambio de stock reemplaza la entrada, así obtener() las lee sin tomar el bloqueo
+     */
+    private final Map<String, Articulo> bajos = new ConcurrentHashMap<>();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Registra (o vuelve a registrar) un artículo. Los inactivos se retiran del registro.
+     * Se ignora si su revisión es anterior a la ya aplicada.
+     *
+     * @param articulo artículo con su stock y mínimo confirmados
+     */
+    public synchronized void registrar(Articulo articulo) {
+        if (articulo == null || articulo.getId() == null || !avanzarRevision(articulo.getId(), articulo.getRevision())) {
+            return;
+        }
+        retirar(articulo.getId());
+        if (Boolean.FALSE.equals(articulo.getActivo()) || articulo.getStockMinimo() == null) {
+            return;
+        }
+
+        minimos.put(articulo.getCodigo(), articulo.getStockMinimo());
+        codigosPorId.put(articulo.getId(), articulo.getCodigo());
+        idsPorCodigo.put(articulo.getCodigo(), articulo.getId());
+        if (articulo.tieneStockBajo()) {
+            bajos.put(articulo.getCodigo(), CacheArticulos.copiar(articulo));
+        }
+    }
+
+    /**
+     * Retira un artículo del registro (se llama con el bloqueo tomado)
+     */
+    private void retirar(Long id) {
+        String codigo = codigosPorId.remove(id);
+        if (codigo != null) {
+            idsPorCodigo.remove(codigo);
+            minimos.remove(codigo);
+            bajos.remove(codigo);
+        }
+    }
+
+    /**
+     * Aplica un nuevo stock conocido solo por código. Si el artículo entra en stock bajo y no hay
+     * copia registrada, o si el código aún no está registrado (alta o carga inicial todavía sin
+     * aplicar), se carga con el cargador.
+     *
+     * @param codigo código del artículo
+     * @param nuevoStock stock confirmado
+     * @param revision revisión de la fila con ese stock
+     * @param cargador consulta del artículo completo
+     */
+    public void actualizarStock(String codigo, int nuevoStock, long revision, Supplier<Optional<Articulo>> cargador) {
+        synchronized (this) {
+            Long id = idsPorCodigo.get(codigo);
+            if (id != null) {
+                if (!avanzarRevision(id, revision)) {
+                    return;
+                }
+                if (aplicarStock(codigo, nuevoStock)) {
+                    return;
+                }
+            }
+        }
+        // La consulta se hace fuera del bloqueo; registrar() descarta la fila si ya hay una revisión posterior
+        cargador.get().ifPresent(this::registrar);
+    }
+
+    /**
+     * Aplica el stock a un artículo registrado (se llama con el bloqueo tomado)
+     *
+     * @return false si entra en stock bajo y falta la copia completa del artículo
+     */
+    private boolean aplicarStock(String codigo, int nuevoStock) {
+        int minimo = minimos.get(codigo);
+        if (nuevoStock >= minimo) {
+            bajos.remove(codigo);
+            return true;
+        }
+        Articulo registrado = bajos.get(codigo);
+        if (registrado == null) {
+            return false;
+        }
+        Articulo actualizado = CacheArticulos.copiar(registrado);
+        actualizado.setStockActual(nuevoStock);
+        bajos.put(codigo, actualizado);
+        return true;
+    }
+
+    /**
+     * Anota la revisión si no es anterior a la ya aplicada (se llama con el bloqueo tomado)
+     *
+     * @return false si el cambio es anterior y debe descartarse
+     */
+    private boolean avanzarRevision(Long id, long revision) {
+        Long aplicada = revisiones.get(id);
+        if (aplicada != null && revision < aplicada) {
+            return false;
+        }
+        revisiones.put(id, revision);
+        return true;
+    }
+
+    /**
+     * Obtiene los artículos con stock bajo, de mayor a menor déficit
+     *
+     * @return copias de los artículos registrados
+     */
+    public List<Articulo> obtener() {
+        List<Articulo> resultado = new ArrayList<>(bajos.size());
+        for (Articulo articulo : bajos.values()) {
+            resultado.add(CacheArticulos.copiar(articulo));
+        }
+        resultado.sort(POR_DEFICIT);
+        return resultado;
+    }
+
+    public int contar() {
+        return bajos.size();
+    }
+
+    public void marcarCargado() {
+        this.cargado = true;
+        logger.info("Registro de stock bajo cargado: {} de {} artículos", bajos.size(), minimos.size());
+    }
+
+    /**
+     * Indica si el registro ya fue construido y puede responder consultas
+     */
+    public boolean isCargado() {
+        return cargado;
+    }
+}
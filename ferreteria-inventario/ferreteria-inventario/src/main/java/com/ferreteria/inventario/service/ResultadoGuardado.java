@@ -0,0 +1,23 @@
+package com.ferreteria.inventario.service;
+
+import com.ferreteria.inventario.entity.Articulo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de guardar un artículo por código (RF5)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoGuardado {
+
+    private final EstadoGuardado estado;
+
+    /**
+     * Artículo tal como quedó en la base de datos
+     */
+    private final Articulo articulo;
+}
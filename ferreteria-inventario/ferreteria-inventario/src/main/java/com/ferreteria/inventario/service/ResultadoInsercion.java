@@ -0,0 +1,55 @@
+package com.ferreteria.inventario.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de un elemento dentro de una inserción por lotes (RF5, RF10)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ResultadoInsercion {
+
+    /**
+     * Posición del artículo en la lista enviada
+     */
+    private final int indice;
+
+    private final String codigo;
+
+    /**
+     * ID asignado (null si no se insertó)
+     */
+    private final Long id;
+
+    /**
+     * Código de error (DUPLICADO, VALIDACION, INTERNO) o null si se insertó
+     */
+    private final String codigoError;
+
+    private final String mensaje;
+
+    /**
+     * true si el código ya existía y se actualizó en lugar de insertarse (importaciones)
+     */
+    private final boolean actualizado;
+
+    public boolean isExitoso() {
+        return codigoError == null;
+    }
+
+    public static ResultadoInsercion exito(int indice, String codigo, Long id) {
+        return new ResultadoInsercion(indice, codigo, id, null, "Artículo insertado", false);
+    }
+
+    public static ResultadoInsercion actualizacion(int indice, String codigo, Long id) {
+        return new ResultadoInsercion(indice, codigo, id, null, "Artículo actualizado", true);
+    }
+
+    public static ResultadoInsercion error(int indice, String codigo, String codigoError, String mensaje) {
+        return new ResultadoInsercion(indice, codigo, null, codigoError, mensaje, false);
+    }
+}
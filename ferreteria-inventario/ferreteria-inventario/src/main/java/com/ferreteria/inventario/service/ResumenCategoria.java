@@ -0,0 +1,38 @@
+package com.ferreteria.inventario.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Valoración del inventario activo de una categoría (equivalente a la vista resumen_inventario)
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ResumenCategoria {
+
+    private final String categoria;
+
+    private final long totalArticulos;
+
+    private final long stockTotal;
+
+    /**
+     * Suma de stock_actual * precio_compra
+     */
+    private final BigDecimal valorCompra;
+
+    /**
+     * Suma de stock_actual * precio_venta
+     */
+    private final BigDecimal valorVenta;
+
+    /**
+     * Suma de stock_actual * (precio_venta - precio_compra)
+     */
+    private final BigDecimal utilidadPotencial;
+}
@@ -35,6 +35,21 @@ public class ArticuloSoapFault extends Exception {
         this.faultInfo = faultInfo;
     }
 
+    /**
+     * Constructor sin traza de la pila: la traza de un fault creado en el servidor no viaja al cliente.
+     */
+    private ArticuloSoapFault(String message, SoapFaultInfo faultInfo, boolean conTraza) {
+        super(message, null, false, conTraza);
+        this.faultInfo = faultInfo;
+    }
+
+    /**
+     * Crea un fault sin capturar la traza de la pila, para los errores de negocio esperados (RF10).
+     */
+    static ArticuloSoapFault sinTraza(String message, SoapFaultInfo faultInfo) {
+        return new ArticuloSoapFault(message, faultInfo, false);
+    }
+
     /**
      * Retorna el fault bean para serialización en XML (estándar JAX-WS).
      */
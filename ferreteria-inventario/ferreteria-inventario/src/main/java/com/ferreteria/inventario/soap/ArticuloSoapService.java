@@ -2,11 +2,23 @@ package com.ferreteria.inventario.soap;
 
 import com.ferreteria.inventario.soap.dto.ArticuloRequest;
 import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import com.ferreteria.inventario.soap.dto.CambiosArticulosResponse;
+import com.ferreteria.inventario.soap.dto.ConsultaArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ExportacionInventarioResponse;
+import com.ferreteria.inventario.soap.dto.GuardarArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ImportacionResponse;
+import com.ferreteria.inventario.soap.dto.ResultadoInsercionResponse;
+import com.ferreteria.inventario.soap.dto.ResumenCategoriaResponse;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
 import jakarta.jws.WebMethod;
 import jakarta.jws.WebParam;
 import jakarta.jws.WebResult;
 import jakarta.jws.WebService;
 import jakarta.jws.soap.SOAPBinding;
+import jakarta.xml.ws.ResponseWrapper;
+
+import java.util.List;
 
 /**
  * Interfaz del servicio web SOAP para gestión de artículos (RF5, RF6, RNF5)
@@ -34,10 +46,68 @@ public interface ArticuloSoapService {
      */
     @WebMethod(operationName = "insertarArticulo")
     @WebResult(name = "insertarArticuloResponse")
+    @ResponseWrapper(localName = "insertarArticuloResponse", targetNamespace = "http://soap.inventario.ferreteria.com/",
+            className = "com.ferreteria.inventario.soap.jaxws.InsertarArticuloResponse")
     ArticuloResponse insertarArticulo(
             @WebParam(name = "articuloRequest") ArticuloRequest request
     ) throws ArticuloSoapFault;
 
+    /**
+     * Operación SOAP para insertar artículos por lotes (RF5)
+     * Cada elemento se reporta por separado; los errores no abortan el resto del lote.
+     *
+     * @param requests artículos a insertar
+     * @return resultado por cada artículo, en el mismo orden
+     * @throws ArticuloSoapFault si la lista está vacía
+     */
+    @WebMethod(operationName = "insertarArticulos")
+    @WebResult(name = "resultado")
+    List<ResultadoInsercionResponse> insertarArticulos(
+            @WebParam(name = "articuloRequest") List<ArticuloRequest> requests
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para importar listas grandes de artículos en segundo plano (RF5)
+     * Responde de inmediato con el ID de la importación; los códigos nuevos se insertan y los
+     * existentes se actualizan. El avance se consulta con consultarEstadoImportacion.
+     *
+     * @param requests artículos a importar
+     * @return importación registrada (estado PENDIENTE)
+     * @throws ArticuloSoapFault VALIDACION si la lista está vacía
+     */
+    @WebMethod(operationName = "iniciarImportacion")
+    @WebResult(name = "importacion")
+    ImportacionResponse iniciarImportacion(
+            @WebParam(name = "articuloRequest") List<ArticuloRequest> requests
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para consultar el estado, el avance y las líneas rechazadas de una importación (RF5)
+     *
+     * @param idImportacion identificador devuelto por iniciarImportacion
+     * @return estado de la importación con las primeras líneas rechazadas
+     * @throws ArticuloSoapFault NO_ENCONTRADO si la importación no existe
+     */
+    @WebMethod(operationName = "consultarEstadoImportacion")
+    @WebResult(name = "importacion")
+    ImportacionResponse consultarEstadoImportacion(
+            @WebParam(name = "idImportacion") Long idImportacion
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para guardar un artículo por código (RF5): lo inserta si no existe y lo
+     * actualiza si existe, en una sola llamada. Reenviar los mismos datos no modifica el artículo.
+     *
+     * @param request datos del artículo
+     * @return CREADO, ACTUALIZADO o SIN_CAMBIOS con el artículo guardado
+     * @throws ArticuloSoapFault VALIDACION si los datos no son válidos
+     */
+    @WebMethod(operationName = "guardarArticulo")
+    @WebResult(name = "resultado")
+    GuardarArticuloResponse guardarArticulo(
+            @WebParam(name = "articuloRequest") ArticuloRequest request
+    ) throws ArticuloSoapFault;
+
     /**
      * Operación SOAP para consultar un artículo por código (RF6)
      *
@@ -47,10 +117,26 @@ public interface ArticuloSoapService {
      */
     @WebMethod(operationName = "consultarArticulo")
     @WebResult(name = "consultarArticuloResponse")
+    @ResponseWrapper(localName = "consultarArticuloResponse", targetNamespace = "http://soap.inventario.ferreteria.com/",
+            className = "com.ferreteria.inventario.soap.jaxws.ConsultarArticuloResponse")
     ArticuloResponse consultarArticulo(
             @WebParam(name = "codigo") String codigo
     ) throws ArticuloSoapFault;
 
+    /**
+     * Operación SOAP para consultar varios artículos por código en una sola llamada (RF6).
+     * Los códigos inexistentes se reportan por elemento, sin generar un fault.
+     *
+     * @param codigos códigos a consultar
+     * @return un resultado por código, en el mismo orden
+     * @throws ArticuloSoapFault si la lista está vacía o excede el máximo
+     */
+    @WebMethod(operationName = "consultarArticulos")
+    @WebResult(name = "resultado")
+    List<ConsultaArticuloResponse> consultarArticulos(
+            @WebParam(name = "codigo") List<String> codigos
+    ) throws ArticuloSoapFault;
+
     /**
      * Operación SOAP para actualizar un artículo existente
      *
@@ -61,6 +147,8 @@ public interface ArticuloSoapService {
      */
     @WebMethod(operationName = "actualizarArticulo")
     @WebResult(name = "actualizarArticuloResponse")
+    @ResponseWrapper(localName = "actualizarArticuloResponse", targetNamespace = "http://soap.inventario.ferreteria.com/",
+            className = "com.ferreteria.inventario.soap.jaxws.ActualizarArticuloResponse")
     ArticuloResponse actualizarArticulo(
             @WebParam(name = "codigo") String codigo,
             @WebParam(name = "articuloRequest") ArticuloRequest request
@@ -75,7 +163,108 @@ public interface ArticuloSoapService {
      */
     @WebMethod(operationName = "verificarStock")
     @WebResult(name = "verificarStockResponse")
+    @ResponseWrapper(localName = "verificarStockResponse", targetNamespace = "http://soap.inventario.ferreteria.com/",
+            className = "com.ferreteria.inventario.soap.jaxws.VerificarStockResponse")
     boolean verificarStock(
             @WebParam(name = "codigo") String codigo
     ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para verificar el stock de varios artículos en una sola llamada (RF7).
+     * Los códigos inexistentes se reportan por elemento, sin generar un fault.
+     *
+     * @param solicitudes códigos y cantidades requeridas
+     * @return un resultado por solicitud, en el mismo orden
+     * @throws ArticuloSoapFault si la lista está vacía o excede el máximo
+     */
+    @WebMethod(operationName = "verificarStockLote")
+    @WebResult(name = "verificacion")
+    List<VerificacionStockResponse> verificarStockLote(
+            @WebParam(name = "solicitud") List<SolicitudStockRequest> solicitudes
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para sumar unidades al stock de forma atómica (RF7)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a sumar
+     * @return nuevo stock del artículo
+     * @throws ArticuloSoapFault NO_ENCONTRADO si el artículo no existe o está desactivado, o si la cantidad es inválida
+     */
+    @WebMethod(operationName = "incrementarStock")
+    @WebResult(name = "nuevoStock")
+    int incrementarStock(
+            @WebParam(name = "codigo") String codigo,
+            @WebParam(name = "cantidad") int cantidad
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para descontar unidades del stock de forma atómica (RF7)
+     *
+     * @param codigo código del artículo
+     * @param cantidad unidades a descontar
+     * @return nuevo stock del artículo
+     * @throws ArticuloSoapFault STOCK_INSUFICIENTE si no alcanza, NO_ENCONTRADO si no existe o está desactivado
+     */
+    @WebMethod(operationName = "decrementarStock")
+    @WebResult(name = "nuevoStock")
+    int decrementarStock(
+            @WebParam(name = "codigo") String codigo,
+            @WebParam(name = "cantidad") int cantidad
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para buscar artículos por texto libre, ordenados por relevancia (RF4)
+     *
+     * @param texto texto libre a buscar en nombre y descripción
+     * @param limite número máximo de resultados (opcional)
+     * @return artículos más relevantes primero
+     * @throws ArticuloSoapFault si hay errores
+     */
+    @WebMethod(operationName = "buscarArticulos")
+    @WebResult(name = "articulo")
+    List<ArticuloResponse> buscarArticulos(
+            @WebParam(name = "texto") String texto,
+            @WebParam(name = "limite") Integer limite
+    ) throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para obtener la valoración del inventario por categoría
+     *
+     * @return una fila por categoría con artículos, stock y valores de compra, venta y utilidad
+     * @throws ArticuloSoapFault si hay errores
+     */
+    @WebMethod(operationName = "obtenerResumenInventario")
+    @WebResult(name = "resumenCategoria")
+    List<ResumenCategoriaResponse> obtenerResumenInventario() throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para exportar el catálogo activo completo.
+     * El documento se envía como adjunto MTOM generado en streaming desde la base de datos.
+     *
+     * @return respuesta con el adjunto XML del inventario
+     * @throws ArticuloSoapFault si hay errores
+     */
+    @WebMethod(operationName = "exportarInventario")
+    @WebResult(name = "exportacionInventario")
+    ExportacionInventarioResponse exportarInventario() throws ArticuloSoapFault;
+
+    /**
+     * Operación SOAP para sincronización incremental: artículos modificados después de una marca de
+     * tiempo o de un token de continuación, incluidos los desactivados, en orden de modificación.
+     * El cliente pide páginas mientras hayMas sea true y guarda el último token para la próxima vez.
+     *
+     * @param marcaTiempo fecha ISO (yyyy-MM-ddTHH:mm:ss) desde la que se buscan cambios (opcional)
+     * @param limite número máximo de artículos por página (opcional)
+     * @param token token de continuación de la respuesta anterior (opcional, prioridad sobre marcaTiempo)
+     * @return página de cambios con el token de continuación
+     * @throws ArticuloSoapFault VALIDACION si la marca de tiempo o el token no son válidos
+     */
+    @WebMethod(operationName = "obtenerCambiosDesde")
+    @WebResult(name = "cambios")
+    CambiosArticulosResponse obtenerCambiosDesde(
+            @WebParam(name = "marcaTiempo") String marcaTiempo,
+            @WebParam(name = "limite") Integer limite,
+            @WebParam(name = "token") String token
+    ) throws ArticuloSoapFault;
 }
\ No newline at end of file
@@ -1,22 +1,60 @@
 package com.ferreteria.inventario.soap;
 
+import com.ferreteria.inventario.config.CxfConfig;
 import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import com.ferreteria.inventario.entity.LineaImportacion;
 import com.ferreteria.inventario.exception.ArticuloDuplicadoException;
 import com.ferreteria.inventario.exception.ArticuloNoEncontradoException;
+import com.ferreteria.inventario.exception.StockInsuficienteException;
 import com.ferreteria.inventario.exception.ValidationException;
 import com.ferreteria.inventario.service.ArticuloService;
+import com.ferreteria.inventario.service.ExportadorInventario;
+import com.ferreteria.inventario.service.ImportacionService;
+import com.ferreteria.inventario.service.PaginaCambios;
+import com.ferreteria.inventario.service.ResultadoGuardado;
+import com.ferreteria.inventario.service.ResultadoInsercion;
+import com.ferreteria.inventario.service.ResumenCategoria;
 import com.ferreteria.inventario.soap.dto.ArticuloRequest;
 import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import com.ferreteria.inventario.soap.dto.CambiosArticulosResponse;
+import com.ferreteria.inventario.soap.dto.ConsultaArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ExportacionInventarioResponse;
+import com.ferreteria.inventario.soap.dto.GuardarArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ImportacionResponse;
+import com.ferreteria.inventario.soap.dto.ResultadoInsercionResponse;
+import com.ferreteria.inventario.soap.dto.ResumenCategoriaResponse;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
 import com.ferreteria.inventario.soap.dto.SoapFaultInfo;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
+import com.ferreteria.inventario.soap.jaxws.ActualizarArticuloResponse;
+import com.ferreteria.inventario.soap.jaxws.ConsultarArticuloResponse;
+import com.ferreteria.inventario.soap.jaxws.InsertarArticuloResponse;
+import com.ferreteria.inventario.soap.jaxws.VerificarStockResponse;
+import org.apache.cxf.annotations.UseAsyncMethod;
+import org.apache.cxf.jaxws.ServerAsyncResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
 import jakarta.jws.WebService;
+import jakarta.xml.ws.AsyncHandler;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio web SOAP para artículos (RF5, RF6, RNF5).
@@ -38,34 +76,61 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticuloSoapServiceImpl.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int LIMITE_BUSQUEDA_DEFECTO = 20;
+    private static final int LIMITE_CAMBIOS_DEFECTO = 100;
+    private static final String ORIGEN_IMPORTACION = "SOAP";
+
+    /**
+     * Líneas rechazadas incluidas en la respuesta de consultarEstadoImportacion
+     */
+    private static final int MAXIMO_RECHAZOS_IMPORTACION = 100;
+
+    /**
+     * Artículos por transacción en insertarArticulos (múltiplo de hibernate.jdbc.batch_size)
+     */
+    private static final int TAMANIO_BLOQUE_INSERCION = 500;
+
+    /**
+     * Máximo de códigos por llamada en consultarArticulos y verificarStockLote (acota la lista IN)
+     */
+    private static final int MAXIMO_CODIGOS_LOTE = 500;
+
+    /**
+     * Intervalo mínimo entre dos mensajes de log de faults de negocio con el mismo código de error
+     */
+    private static final Duration INTERVALO_LOG_FAULTS = Duration.ofSeconds(10);
+
+    private static volatile MarcaTiempo ultimaMarcaTiempo;
+
+    private final LimitadorLogFaults limitadorLogFaults = new LimitadorLogFaults(INTERVALO_LOG_FAULTS);
 
     private final ArticuloService articuloService;
+    private final ExportadorInventario exportadorInventario;
+    private final ImportacionService importacionService;
+    private final AsyncTaskExecutor soapExecutor;
 
     @Autowired
-    public ArticuloSoapServiceImpl(ArticuloService articuloService) {
+    public ArticuloSoapServiceImpl(ArticuloService articuloService,
+                                   ExportadorInventario exportadorInventario,
+                                   ImportacionService importacionService,
+                                   @Qualifier(CxfConfig.EJECUTOR_SOAP) AsyncTaskExecutor soapExecutor) {
         this.articuloService = articuloService;
+        this.exportadorInventario = exportadorInventario;
+        this.importacionService = importacionService;
+        this.soapExecutor = soapExecutor;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @UseAsyncMethod
     public ArticuloResponse insertarArticulo(ArticuloRequest request) throws ArticuloSoapFault {
         logger.info("SOAP: Insertando artículo con código {}", request.getCodigo());
 
         try {
             // Mapeo Request -> Entity
-            Articulo articulo = Articulo.builder()
-                    .codigo(request.getCodigo())
-                    .nombre(request.getNombre())
-                    .descripcion(request.getDescripcion())
-                    .categoria(request.getCategoria())
-                    .precioCompra(request.getPrecioCompra())
-                    .precioVenta(request.getPrecioVenta())
-                    .stockActual(request.getStockActual())
-                    .stockMinimo(request.getStockMinimo())
-                    .proveedor(request.getProveedor())
-                    .build();
+            Articulo articulo = mapToEntity(request);
 
             // Delegar al servicio (RF5, RF2, RF3)
             Articulo saved = articuloService.insertarArticulo(articulo);
@@ -74,13 +139,11 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
             return mapToResponse(saved);
 
         } catch (ArticuloDuplicadoException e) {
-            logger.error("SOAP Fault: Código duplicado {}", request.getCodigo(), e);
-            throw createSoapFault("DUPLICADO", e.getMessage(), "Código ya existe");
+            throw createFaultNegocio("DUPLICADO", e.getMessage(), "Código ya existe");
 
         } catch (ValidationException e) {
-            logger.error("SOAP Fault: Validación fallida para {}", request.getCodigo(), e);
             String errores = (e.getErrores() != null) ? String.join(", ", e.getErrores()) : "Error desconocido";
-            throw createSoapFault("VALIDACION", e.getMessage(), "Errores: " + errores);
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + errores);
 
         } catch (Exception e) {
             logger.error("SOAP Fault: Error inesperado en insertar", e);
@@ -88,10 +151,121 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Divide la lista en bloques; cada bloque se confirma en su propia transacción.
+     */
+    @Override
+    public List<ResultadoInsercionResponse> insertarArticulos(List<ArticuloRequest> requests) throws ArticuloSoapFault {
+        if (requests == null || requests.isEmpty()) {
+            throw createFaultNegocio("VALIDACION", "La lista de artículos está vacía", "Envíe al menos un artículo");
+        }
+        logger.info("SOAP: Insertando lote de {} artículos", requests.size());
+
+        List<ResultadoInsercionResponse> resultados = new ArrayList<>(requests.size());
+        for (int inicio = 0; inicio < requests.size(); inicio += TAMANIO_BLOQUE_INSERCION) {
+            List<ArticuloRequest> bloque = requests.subList(inicio, Math.min(inicio + TAMANIO_BLOQUE_INSERCION, requests.size()));
+            List<Articulo> articulos = bloque.stream()
+                    .map(this::mapToEntity)
+                    .collect(Collectors.toList());
+
+            try {
+                for (ResultadoInsercion resultado : articuloService.insertarArticulos(articulos)) {
+                    resultados.add(mapToResultado(resultado, inicio));
+                }
+            } catch (Exception e) {
+                logger.error("SOAP: Error al insertar bloque desde el índice {}", inicio, e);
+                for (int i = 0; i < bloque.size(); i++) {
+                    resultados.add(mapToResultado(ResultadoInsercion.error(i, bloque.get(i).getCodigo(),
+                            "INTERNO", "Error al insertar el bloque: " + e.getMessage()), inicio));
+                }
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Solo registra las líneas; los bloques se procesan en el ejecutor de importaciones.
+     */
+    @Override
+    public ImportacionResponse iniciarImportacion(List<ArticuloRequest> requests) throws ArticuloSoapFault {
+        logger.info("SOAP: Iniciando importación de {} artículos", requests != null ? requests.size() : 0);
+
+        try {
+            List<Articulo> articulos = requests == null ? List.of() : requests.stream()
+                    .map(this::mapToEntity)
+                    .collect(Collectors.toList());
+            return mapToImportacion(importacionService.iniciarImportacion(articulos, ORIGEN_IMPORTACION), List.of());
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al iniciar importación", e);
+            throw createSoapFault("INTERNO", "Error al iniciar la importación", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportacionResponse consultarEstadoImportacion(Long idImportacion) throws ArticuloSoapFault {
+        logger.debug("SOAP: Consultando importación {}", idImportacion);
+
+        try {
+            if (idImportacion == null) {
+                throw new ValidationException(List.of("El ID de la importación es obligatorio"));
+            }
+            ImportacionArticulos importacion = importacionService.consultarImportacion(idImportacion)
+                    .orElseThrow(() -> new ArticuloNoEncontradoException("Importación: " + idImportacion));
+            List<LineaImportacion> rechazadas = importacion.getRechazados() > 0
+                    ? importacionService.obtenerLineasRechazadas(idImportacion, MAXIMO_RECHAZOS_IMPORTACION)
+                    : List.of();
+            return mapToImportacion(importacion, rechazadas);
+
+        } catch (ArticuloNoEncontradoException e) {
+            throw createFaultNegocio("NO_ENCONTRADO", e.getMessage(), "Importación no existe");
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al consultar importación", e);
+            throw createSoapFault("INTERNO", "Error al consultar la importación", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GuardarArticuloResponse guardarArticulo(ArticuloRequest request) throws ArticuloSoapFault {
+        logger.info("SOAP: Guardando artículo con código {}", request.getCodigo());
+
+        try {
+            ResultadoGuardado resultado = articuloService.guardarArticulo(mapToEntity(request));
+            return GuardarArticuloResponse.builder()
+                    .resultado(resultado.getEstado().name())
+                    .articulo(mapToResponse(resultado.getArticulo()))
+                    .build();
+
+        } catch (ValidationException e) {
+            String errores = (e.getErrores() != null) ? String.join(", ", e.getErrores()) : "Error desconocido";
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + errores);
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error inesperado en guardar", e);
+            throw createSoapFault("INTERNO", "Error al guardar artículo", e.getMessage());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
+    @UseAsyncMethod
     public ArticuloResponse consultarArticulo(String codigo) throws ArticuloSoapFault {
         logger.info("SOAP: Consultando artículo con código {}", codigo);
 
@@ -104,8 +278,7 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
             return mapToResponse(articulo);
 
         } catch (ArticuloNoEncontradoException e) {
-            logger.error("SOAP Fault: Artículo no encontrado {}", codigo, e);
-            throw createSoapFault("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
+            throw createFaultNegocio("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
 
         } catch (Exception e) {
             logger.error("SOAP Fault: Error en consulta", e);
@@ -115,8 +288,41 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
 
     /**
      * {@inheritDoc}
+     * Resuelve todos los códigos con una sola consulta IN.
      */
     @Override
+    public List<ConsultaArticuloResponse> consultarArticulos(List<String> codigos) throws ArticuloSoapFault {
+        logger.info("SOAP: Consultando {} artículos por lote", codigos != null ? codigos.size() : 0);
+
+        try {
+            validarLote(codigos);
+            Map<String, Articulo> encontrados = articuloService.consultarArticulos(codigos);
+
+            List<ConsultaArticuloResponse> resultados = new ArrayList<>(codigos.size());
+            for (String codigo : codigos) {
+                Articulo articulo = encontrados.get(codigo);
+                resultados.add(ConsultaArticuloResponse.builder()
+                        .codigo(codigo)
+                        .encontrado(articulo != null)
+                        .articulo(articulo != null ? mapToResponse(articulo) : null)
+                        .build());
+            }
+            return resultados;
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error en consulta por lote", e);
+            throw createSoapFault("INTERNO", "Error al consultar artículos", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @UseAsyncMethod
     public ArticuloResponse actualizarArticulo(String codigo, ArticuloRequest request) throws ArticuloSoapFault {
         logger.info("SOAP: Actualizando artículo con código {}", codigo);
 
@@ -141,6 +347,8 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
                     .stockActual(request.getStockActual())
                     .stockMinimo(request.getStockMinimo())
                     .proveedor(request.getProveedor())
+                    .fechaRegistro(articuloExistente.getFechaRegistro())
+                    .activo(articuloExistente.getActivo())
                     .build();
 
             // Delegar al servicio (RF1)
@@ -150,17 +358,14 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
             return mapToResponse(updated);
 
         } catch (ArticuloNoEncontradoException e) {
-            logger.error("SOAP Fault: Artículo no encontrado para update {}", codigo, e);
-            throw createSoapFault("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
+            throw createFaultNegocio("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
 
         } catch (ArticuloDuplicadoException e) {
-            logger.error("SOAP Fault: Código duplicado en update {}", codigo, e);
-            throw createSoapFault("DUPLICADO", e.getMessage(), "Código ya existe");
+            throw createFaultNegocio("DUPLICADO", e.getMessage(), "Código ya existe");
 
         } catch (ValidationException e) {
-            logger.error("SOAP Fault: Validación en update {}", codigo, e);
             String errores = (e.getErrores() != null) ? String.join(", ", e.getErrores()) : "Error desconocido";
-            throw createSoapFault("VALIDACION", e.getMessage(), "Errores: " + errores);
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + errores);
 
         } catch (Exception e) {
             logger.error("SOAP Fault: Error en actualización", e);
@@ -172,27 +377,375 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
      * {@inheritDoc}
      */
     @Override
+    @UseAsyncMethod
     public boolean verificarStock(String codigo) throws ArticuloSoapFault {
-        logger.info("SOAP: Verificando stock para código {}", codigo);
+        // Operación de alta frecuencia (lectores de estantería): sin log INFO por llamada
+        logger.debug("SOAP: Verificando stock para código {}", codigo);
 
+        Optional<Integer> stockActual;
         try {
-            Articulo articulo = articuloService.consultarArticuloPorCodigo(codigo)
-                    .orElseThrow(() -> new ArticuloNoEncontradoException("Código: " + codigo));
+            // Solo se necesita el stock: memoria o consulta escalar, sin materializar la entidad
+            stockActual = articuloService.consultarStockActual(codigo);
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error en verificación de stock", e);
+            throw createSoapFault("INTERNO", "Error al verificar stock", e.getMessage());
+        }
 
-            // RF7: Stock disponible si > 0
-            boolean disponible = articulo.getStockActual() > 0;
-            logger.debug("Stock disponible para {}: {}", codigo, disponible);
-            return disponible;
+        if (stockActual.isEmpty()) {
+            // Código desconocido es un caso esperado: fault directo, sin excepción intermedia
+            throw createFaultNegocio("NO_ENCONTRADO",
+                    "No se encontró el artículo con identificador: Código: " + codigo, "Artículo no existe");
+        }
+
+        // RF7: Stock disponible si > 0
+        return stockActual.get() > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Lee el stock de todos los códigos con una sola consulta IN.
+     */
+    @Override
+    public List<VerificacionStockResponse> verificarStockLote(List<SolicitudStockRequest> solicitudes)
+            throws ArticuloSoapFault {
+        // Alta frecuencia: los clientes agrupan aquí los verificarStock individuales, sin log INFO por lote
+        logger.debug("SOAP: Verificando stock de {} artículos por lote", solicitudes != null ? solicitudes.size() : 0);
+
+        try {
+            validarLote(solicitudes);
+            List<String> codigos = new ArrayList<>(solicitudes.size());
+            for (SolicitudStockRequest solicitud : solicitudes) {
+                if (solicitud == null || solicitud.getCodigo() == null) {
+                    throw new ValidationException(List.of("Cada solicitud debe incluir un código"));
+                }
+                if (solicitud.getCantidad() == null || solicitud.getCantidad() <= 0) {
+                    throw new ValidationException(List.of(
+                            "La cantidad solicitada para '" + solicitud.getCodigo() + "' debe ser mayor a 0"));
+                }
+                codigos.add(solicitud.getCodigo());
+            }
+            Map<String, Integer> stocks = articuloService.consultarStocks(codigos);
+
+            List<VerificacionStockResponse> resultados = new ArrayList<>(solicitudes.size());
+            for (SolicitudStockRequest solicitud : solicitudes) {
+                Integer stockActual = stocks.get(solicitud.getCodigo());
+                resultados.add(VerificacionStockResponse.builder()
+                        .codigo(solicitud.getCodigo())
+                        .encontrado(stockActual != null)
+                        .cantidadSolicitada(solicitud.getCantidad())
+                        .stockActual(stockActual)
+                        .disponible(stockActual != null && stockActual >= solicitud.getCantidad())
+                        .build());
+            }
+            return resultados;
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
 
-        } catch (ArticuloNoEncontradoException e) {
-            logger.error("SOAP Fault: Artículo no encontrado en verificarStock {}", codigo, e);
-            throw createSoapFault("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
         } catch (Exception e) {
-            logger.error("SOAP Fault: Error en verificación de stock", e);
+            logger.error("SOAP Fault: Error en verificación de stock por lote", e);
             throw createSoapFault("INTERNO", "Error al verificar stock", e.getMessage());
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int incrementarStock(String codigo, int cantidad) throws ArticuloSoapFault {
+        logger.info("SOAP: Incrementando stock de {} en {}", codigo, cantidad);
+
+        try {
+            return articuloService.incrementarStock(codigo, cantidad);
+
+        } catch (ArticuloNoEncontradoException e) {
+            throw createFaultNegocio("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al incrementar stock", e);
+            throw createSoapFault("INTERNO", "Error al incrementar stock", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decrementarStock(String codigo, int cantidad) throws ArticuloSoapFault {
+        logger.info("SOAP: Decrementando stock de {} en {}", codigo, cantidad);
+
+        try {
+            return articuloService.decrementarStock(codigo, cantidad);
+
+        } catch (StockInsuficienteException e) {
+            throw createFaultNegocio("STOCK_INSUFICIENTE", e.getMessage(),
+                    "Disponible: " + e.getStockDisponible() + ", solicitado: " + e.getCantidadSolicitada());
+
+        } catch (ArticuloNoEncontradoException e) {
+            throw createFaultNegocio("NO_ENCONTRADO", e.getMessage(), "Artículo no existe");
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al decrementar stock", e);
+            throw createSoapFault("INTERNO", "Error al decrementar stock", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ArticuloResponse> buscarArticulos(String texto, Integer limite) throws ArticuloSoapFault {
+        logger.info("SOAP: Buscando artículos por texto '{}'", texto);
+
+        try {
+            if (texto == null || texto.trim().isEmpty()) {
+                throw new ValidationException(List.of("El texto de búsqueda es obligatorio"));
+            }
+
+            int limiteEfectivo = (limite != null && limite > 0) ? limite : LIMITE_BUSQUEDA_DEFECTO;
+            return articuloService.buscarArticulosPorRelevancia(texto, limiteEfectivo).stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+
+        } catch (ValidationException e) {
+            String errores = (e.getErrores() != null) ? String.join(", ", e.getErrores()) : "Error desconocido";
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + errores);
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error en búsqueda", e);
+            throw createSoapFault("INTERNO", "Error al buscar artículos", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ResumenCategoriaResponse> obtenerResumenInventario() throws ArticuloSoapFault {
+        logger.info("SOAP: Obteniendo resumen de inventario por categoría");
+
+        try {
+            return articuloService.obtenerResumenInventario().stream()
+                    .map(this::mapToResumen)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al obtener resumen de inventario", e);
+            throw createSoapFault("INTERNO", "Error al obtener resumen de inventario", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * No consulta nada aquí: las filas se leen cuando CXF escribe el adjunto en la respuesta.
+     */
+    @Override
+    public ExportacionInventarioResponse exportarInventario() throws ArticuloSoapFault {
+        logger.info("SOAP: Exportando inventario completo");
+
+        return ExportacionInventarioResponse.builder()
+                .formato(ExportacionDataHandler.CONTENT_TYPE)
+                .contenido(new ExportacionDataHandler(exportadorInventario))
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CambiosArticulosResponse obtenerCambiosDesde(String marcaTiempo, Integer limite, String token)
+            throws ArticuloSoapFault {
+        logger.info("SOAP: Obteniendo cambios desde {}", token != null ? "token" : marcaTiempo);
+
+        try {
+            LocalDateTime desde = null;
+            if (marcaTiempo != null && !marcaTiempo.trim().isEmpty()) {
+                try {
+                    desde = LocalDateTime.parse(marcaTiempo.trim(), DATE_FORMATTER);
+                } catch (DateTimeParseException e) {
+                    throw new ValidationException(List.of("Marca de tiempo inválida (formato yyyy-MM-ddTHH:mm:ss): "
+                            + marcaTiempo));
+                }
+            }
+
+            int limiteEfectivo = (limite != null && limite > 0) ? limite : LIMITE_CAMBIOS_DEFECTO;
+            PaginaCambios pagina = articuloService.obtenerCambiosDesde(desde, token, limiteEfectivo);
+            return CambiosArticulosResponse.builder()
+                    .articulos(pagina.getArticulos().stream()
+                            .map(this::mapToResponse)
+                            .collect(Collectors.toList()))
+                    .token(pagina.getToken())
+                    .hayMas(pagina.hayMas())
+                    .build();
+
+        } catch (ValidationException e) {
+            throw createFaultNegocio("VALIDACION", e.getMessage(), "Errores: " + String.join(", ", e.getErrores()));
+
+        } catch (Exception e) {
+            logger.error("SOAP Fault: Error al obtener cambios", e);
+            throw createSoapFault("INTERNO", "Error al obtener cambios", e.getMessage());
+        }
+    }
+
+    // ==================== VARIANTES ASÍNCRONAS (@UseAsyncMethod) ====================
+    // CXF las invoca en lugar de la operación síncrona cuando la petición HTTP admite continuaciones:
+    // la petición queda suspendida, el hilo de Tomcat se libera y la operación corre en soapExecutor.
+    // Al reanudar, CXF escribe el resultado como la parte envuelta, por eso se entrega el envoltorio.
+
+    /**
+     * Variante asíncrona de {@link #insertarArticulo(ArticuloRequest)}
+     */
+    public Future<?> insertarArticuloAsync(ArticuloRequest request,
+                                           AsyncHandler<InsertarArticuloResponse> asyncHandler) {
+        return ejecutarAsync(() -> new InsertarArticuloResponse(insertarArticulo(request)), asyncHandler);
+    }
+
+    /**
+     * Variante asíncrona de {@link #consultarArticulo(String)}
+     */
+    public Future<?> consultarArticuloAsync(String codigo, AsyncHandler<ConsultarArticuloResponse> asyncHandler) {
+        return ejecutarAsync(() -> new ConsultarArticuloResponse(consultarArticulo(codigo)), asyncHandler);
+    }
+
+    /**
+     * Variante asíncrona de {@link #actualizarArticulo(String, ArticuloRequest)}
+     */
+    public Future<?> actualizarArticuloAsync(String codigo, ArticuloRequest request,
+                                             AsyncHandler<ActualizarArticuloResponse> asyncHandler) {
+        return ejecutarAsync(() -> new ActualizarArticuloResponse(actualizarArticulo(codigo, request)), asyncHandler);
+    }
+
+    /**
+     * Variante asíncrona de {@link #verificarStock(String)}
+     */
+    public Future<?> verificarStockAsync(String codigo, AsyncHandler<VerificarStockResponse> asyncHandler) {
+        return ejecutarAsync(() -> new VerificarStockResponse(verificarStock(codigo)), asyncHandler);
+    }
+
+    /**
+     * Ejecuta la operación en soapExecutor y entrega el resultado (o el fault) a CXF por el handler,
+     * que reanuda la petición suspendida. Si el ejecutor está saturado responde SERVICIO_OCUPADO.
+     */
+    private <T> Future<?> ejecutarAsync(OperacionSoap<T> operacion, AsyncHandler<T> asyncHandler) {
+        ServerAsyncResponse<T> respuesta = new ServerAsyncResponse<>();
+        try {
+            return soapExecutor.submit(() -> {
+                try {
+                    respuesta.set(operacion.ejecutar());
+                } catch (Throwable e) {
+                    respuesta.exception(e);
+                }
+                asyncHandler.handleResponse(respuesta);
+            });
+        } catch (TaskRejectedException e) {
+            respuesta.exception(createFaultNegocio("SERVICIO_OCUPADO",
+                    "El servicio está saturado, intente nuevamente", e.getMessage()));
+            asyncHandler.handleResponse(respuesta);
+            return respuesta;
+        }
+    }
+
+    /**
+     * Operación SOAP síncrona que puede lanzar un fault
+     */
+    @FunctionalInterface
+    private interface OperacionSoap<T> {
+        T ejecutar() throws ArticuloSoapFault;
+    }
+
+    /**
+     * Valida que un lote no esté vacío ni exceda el máximo por llamada
+     */
+    private void validarLote(List<?> elementos) {
+        if (elementos == null || elementos.isEmpty()) {
+            throw new ValidationException(List.of("La lista no puede estar vacía"));
+        }
+        if (elementos.size() > MAXIMO_CODIGOS_LOTE) {
+            throw new ValidationException(List.of("Máximo " + MAXIMO_CODIGOS_LOTE + " elementos por llamada"));
+        }
+    }
+
+    /**
+     * Mapea Request DTO a Entity
+     */
+    private Articulo mapToEntity(ArticuloRequest request) {
+        return Articulo.builder()
+                .codigo(request.getCodigo())
+                .nombre(request.getNombre())
+                .descripcion(request.getDescripcion())
+                .categoria(request.getCategoria())
+                .precioCompra(request.getPrecioCompra())
+                .precioVenta(request.getPrecioVenta())
+                .stockActual(request.getStockActual())
+                .stockMinimo(request.getStockMinimo())
+                .proveedor(request.getProveedor())
+                .build();
+    }
+
+    /**
+     * Mapea el resultado de un elemento del lote, desplazando el índice al de la lista completa
+     */
+    private ResultadoInsercionResponse mapToResultado(ResultadoInsercion resultado, int desplazamiento) {
+        return ResultadoInsercionResponse.builder()
+                .indice(desplazamiento + resultado.getIndice())
+                .codigo(resultado.getCodigo())
+                .exitoso(resultado.isExitoso())
+                .id(resultado.getId())
+                .codigoError(resultado.getCodigoError())
+                .mensaje(resultado.getMensaje())
+                .build();
+    }
+
+    /**
+     * Mapea una importación y sus líneas rechazadas a su DTO
+     */
+    private ImportacionResponse mapToImportacion(ImportacionArticulos importacion, List<LineaImportacion> rechazadas) {
+        return ImportacionResponse.builder()
+                .idImportacion(importacion.getId())
+                .estado(importacion.getEstado().name())
+                .totalLineas(importacion.getTotalLineas())
+                .lineasProcesadas(importacion.getLineasProcesadas())
+                .porcentaje(importacion.getPorcentaje())
+                .insertados(importacion.getInsertados())
+                .actualizados(importacion.getActualizados())
+                .rechazados(importacion.getRechazados())
+                .mensajeError(importacion.getMensajeError())
+                .fechaCreacion(importacion.getFechaCreacion() != null ?
+                        importacion.getFechaCreacion().format(DATE_FORMATTER) : null)
+                .fechaFin(importacion.getFechaFin() != null ?
+                        importacion.getFechaFin().format(DATE_FORMATTER) : null)
+                .rechazos(rechazadas.stream()
+                        .map(linea -> ResultadoInsercionResponse.builder()
+                                .indice(linea.getNumero())
+                                .codigo(linea.getCodigo())
+                                .exitoso(false)
+                                .codigoError(linea.getCodigoError())
+                                .mensaje(linea.getMensaje())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Mapea la valoración de una categoría a su DTO
+     */
+    private ResumenCategoriaResponse mapToResumen(ResumenCategoria resumen) {
+        return ResumenCategoriaResponse.builder()
+                .categoria(resumen.getCategoria())
+                .totalArticulos(resumen.getTotalArticulos())
+                .stockTotal(resumen.getStockTotal())
+                .valorCompra(resumen.getValorCompra())
+                .valorVenta(resumen.getValorVenta())
+                .utilidadPotencial(resumen.getUtilidadPotencial())
+                .build();
+    }
+
     /**
      * Mapea Entity a Response DTO
      */
@@ -221,17 +774,46 @@ public class ArticuloSoapServiceImpl implements ArticuloSoapService {
 
     /**
      * Crea una excepción SOAP Fault con info detallada (RF10) - Ahora retorna para throw externo
+     * El fault no lleva traza: se crea aquí y no en el punto del error, y la traza no viaja al cliente.
      */
     private ArticuloSoapFault createSoapFault(String codigoError, String mensaje, String detalle) {
         SoapFaultInfo faultInfo = SoapFaultInfo.builder()
                 .codigoError(codigoError)
                 .mensaje(mensaje)
                 .detalle(detalle)
-                .timestamp(LocalDateTime.now().format(DATE_FORMATTER))
+                .timestamp(marcaTiempoFault())
                 .build();
+        logger.debug("Creando SOAP Fault: {} - {}", codigoError, mensaje);
+        return ArticuloSoapFault.sinTraza(mensaje, faultInfo);  // Retorna el fault para throw en el caller
+    }
+
+    /**
+     * Crea el fault de un error de negocio esperado (código inexistente, duplicado, validación...).
+     * Se registra como WARN sin traza y como máximo una vez por código de error e intervalo.
+     */
+    private ArticuloSoapFault createFaultNegocio(String codigoError, String mensaje, String detalle) {
+        long omitidos = limitadorLogFaults.registrar(codigoError);
+        if (omitidos >= 0) {
+            logger.warn("SOAP Fault {}: {} ({} similares omitidos en los últimos {} s)",
+                    codigoError, mensaje, omitidos, INTERVALO_LOG_FAULTS.toSeconds());
+        }
+        return createSoapFault(codigoError, mensaje, detalle);
+    }
+
+    /**
+     * Timestamp de los faults con precisión de segundos; se formatea una sola vez por segundo
+     */
+    private static String marcaTiempoFault() {
+        long segundo = System.currentTimeMillis() / 1000;
+        MarcaTiempo marca = ultimaMarcaTiempo;
+        if (marca == null || marca.segundo() != segundo) {
+            LocalDateTime fecha = LocalDateTime.ofInstant(Instant.ofEpochSecond(segundo), ZoneId.systemDefault());
+            marca = new MarcaTiempo(segundo, fecha.format(DATE_FORMATTER));
+            ultimaMarcaTiempo = marca;
+        }
+        return marca.texto();
+    }
 
-        ArticuloSoapFault fault = new ArticuloSoapFault(mensaje, faultInfo);
-        logger.warn("Creando SOAP Fault: {} - {}", codigoError, mensaje);
-        return fault;  // Retorna el fault para throw en el caller
+    private record MarcaTiempo(long segundo, String texto) {
     }
 }
\ No newline at end of file
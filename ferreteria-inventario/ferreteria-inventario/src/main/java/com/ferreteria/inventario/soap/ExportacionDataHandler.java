@@ -0,0 +1,60 @@
+package com.ferreteria.inventario.soap;
+
+import com.ferreteria.inventario.service.ExportadorInventario;
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * DataHandler que genera la exportación del inventario directamente sobre el flujo de la respuesta.
+ * CXF escribe los adjuntos MTOM con {@link #writeTo(OutputStream)}, de modo que la consulta se ejecuta
+ * mientras se envía la respuesta y nada se acumula en memoria.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class ExportacionDataHandler extends DataHandler {
+
+    static final String CONTENT_TYPE = "application/xml";
+
+    private final ExportadorInventario exportador;
+
+    ExportacionDataHandler(ExportadorInventario exportador) {
+        super(new SoloEscrituraDataSource());
+        this.exportador = exportador;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        exportador.exportar(os);
+    }
+
+    /**
+     * Fuente sin InputStream: el contenido solo existe mientras se escribe
+     */
+    private static final class SoloEscrituraDataSource implements DataSource {
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            throw new IOException("La exportación de inventario solo puede escribirse en streaming");
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new IOException("La exportación de inventario es de solo lectura");
+        }
+
+        @Override
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public String getName() {
+            return "inventario.xml";
+        }
+    }
+}
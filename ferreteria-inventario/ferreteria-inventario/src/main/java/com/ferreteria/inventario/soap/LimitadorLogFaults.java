@@ -0,0 +1,49 @@
+package com.ferreteria.inventario.soap;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita el log de los faults de negocio esperados (RF10, RNF2): como máximo un mensaje por código
+ * de error e intervalo, indicando cuántos se omitieron desde el anterior. Un conteo de inventario con
+ * muchos códigos desconocidos no satura el log ni paga un mensaje por cada lectura.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class LimitadorLogFaults {
+
+    private static final long SIN_REGISTRO = Long.MIN_VALUE;
+
+    private final long intervaloNanos;
+    private final ConcurrentHashMap<String, Ventana> ventanas = new ConcurrentHashMap<>();
+
+    LimitadorLogFaults(Duration intervalo) {
+        this.intervaloNanos = intervalo.toNanos();
+    }
+
+    /**
+     * Decide si el fault con este código de error debe registrarse en el log
+     *
+     * @param codigoError código de error del fault
+     * @return faults omitidos desde el último registrado si corresponde registrar este, o -1 si se omite
+     */
+    long registrar(String codigoError) {
+        Ventana ventana = ventanas.computeIfAbsent(codigoError, c -> new Ventana());
+        long ahora = System.nanoTime();
+        long ultimo = ventana.ultimoRegistro.get();
+        if ((ultimo == SIN_REGISTRO || ahora - ultimo >= intervaloNanos)
+                && ventana.ultimoRegistro.compareAndSet(ultimo, ahora)) {
+            return ventana.omitidos.sumThenReset();
+        }
+        ventana.omitidos.increment();
+        return -1;
+    }
+
+    private static final class Ventana {
+        private final AtomicLong ultimoRegistro = new AtomicLong(SIN_REGISTRO);
+        private final LongAdder omitidos = new LongAdder();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con una página del feed de cambios de artículos (sincronización incremental)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "CambiosArticulosResponse", propOrder = {
+        "articulos", "token", "hayMas"
+})
+public class CambiosArticulosResponse {
+
+    /**
+     * Artículos modificados en orden de modificación; los desactivados llegan con activo=false
+     */
+    @XmlElement(name = "articulo")
+    private List<ArticuloResponse> articulos;
+
+    /**
+     * Token opaco para pedir la siguiente página o, al terminar, los cambios posteriores
+     */
+    @XmlElement
+    private String token;
+
+    /**
+     * true si hay más cambios disponibles en este momento
+     */
+    @XmlElement
+    private Boolean hayMas;
+}
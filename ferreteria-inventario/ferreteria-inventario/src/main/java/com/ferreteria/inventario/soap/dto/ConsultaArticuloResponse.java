@@ -0,0 +1,33 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de cada código en una consulta por lotes (RF6)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ConsultaArticuloResponse", propOrder = {
+        "codigo", "encontrado", "articulo"
+})
+public class ConsultaArticuloResponse {
+
+    @XmlElement
+    private String codigo;
+
+    @XmlElement
+    private Boolean encontrado;
+
+    /**
+     * Datos del artículo (solo si fue encontrado)
+     */
+    @XmlElement
+    private ArticuloResponse articulo;
+}
@@ -0,0 +1,36 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.activation.DataHandler;
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de la exportación del inventario completo.
+ * El contenido viaja como adjunto MTOM (XOP) y se escribe en streaming al serializar la respuesta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ExportacionInventarioResponse", propOrder = {
+        "formato", "contenido"
+})
+public class ExportacionInventarioResponse {
+
+    /**
+     * Tipo de contenido del adjunto (application/xml)
+     */
+    @XmlElement
+    private String formato;
+
+    /**
+     * Documento {@code <inventario>} con un elemento {@code <articulo>} por artículo activo
+     */
+    @XmlElement
+    @XmlMimeType("application/xml")
+    private DataHandler contenido;
+}
@@ -0,0 +1,33 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de guardar (insertar o actualizar) un artículo por código (RF5)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "GuardarArticuloResponse", propOrder = {
+        "resultado", "articulo"
+})
+public class GuardarArticuloResponse {
+
+    /**
+     * CREADO, ACTUALIZADO o SIN_CAMBIOS
+     */
+    @XmlElement
+    private String resultado;
+
+    /**
+     * Datos del artículo tal como quedaron guardados
+     */
+    @XmlElement
+    private ArticuloResponse articulo;
+}
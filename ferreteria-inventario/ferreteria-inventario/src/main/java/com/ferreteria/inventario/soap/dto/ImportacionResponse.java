@@ -0,0 +1,73 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el estado y el avance de una importación masiva en segundo plano
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ImportacionResponse", propOrder = {
+        "idImportacion", "estado", "totalLineas", "lineasProcesadas", "porcentaje",
+        "insertados", "actualizados", "rechazados", "mensajeError",
+        "fechaCreacion", "fechaFin", "rechazos"
+})
+public class ImportacionResponse {
+
+    /**
+     * Identificador para consultar el avance con consultarEstadoImportacion
+     */
+    @XmlElement(required = true)
+    private Long idImportacion;
+
+    /**
+     * PENDIENTE, EN_PROCESO, COMPLETADA o FALLIDA
+     */
+    @XmlElement(required = true)
+    private String estado;
+
+    @XmlElement
+    private Integer totalLineas;
+
+    @XmlElement
+    private Integer lineasProcesadas;
+
+    @XmlElement
+    private Integer porcentaje;
+
+    @XmlElement
+    private Integer insertados;
+
+    @XmlElement
+    private Integer actualizados;
+
+    @XmlElement
+    private Integer rechazados;
+
+    /**
+     * Motivo del fallo cuando el estado es FALLIDA
+     */
+    @XmlElement
+    private String mensajeError;
+
+    @XmlElement
+    private String fechaCreacion;
+
+    @XmlElement
+    private String fechaFin;
+
+    /**
+     * Primeras líneas rechazadas (índice = posición en la lista enviada)
+     */
+    @XmlElement(name = "rechazo")
+    private List<ResultadoInsercionResponse> rechazos;
+}
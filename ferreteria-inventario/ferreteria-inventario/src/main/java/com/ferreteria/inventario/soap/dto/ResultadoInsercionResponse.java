@@ -0,0 +1,39 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de cada artículo en una inserción por lotes (RF5)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ResultadoInsercionResponse", propOrder = {
+        "indice", "codigo", "exitoso", "id", "codigoError", "mensaje"
+})
+public class ResultadoInsercionResponse {
+
+    @XmlElement
+    private Integer indice;
+
+    @XmlElement
+    private String codigo;
+
+    @XmlElement
+    private Boolean exitoso;
+
+    @XmlElement
+    private Long id;
+
+    @XmlElement
+    private String codigoError;
+
+    @XmlElement
+    private String mensaje;
+}
@@ -0,0 +1,41 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con la valoración del inventario de una categoría
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "ResumenCategoriaResponse", propOrder = {
+        "categoria", "totalArticulos", "stockTotal", "valorCompra", "valorVenta", "utilidadPotencial"
+})
+public class ResumenCategoriaResponse {
+
+    @XmlElement
+    private String categoria;
+
+    @XmlElement
+    private Long totalArticulos;
+
+    @XmlElement
+    private Long stockTotal;
+
+    @XmlElement
+    private BigDecimal valorCompra;
+
+    @XmlElement
+    private BigDecimal valorVenta;
+
+    @XmlElement
+    private BigDecimal utilidadPotencial;
+}
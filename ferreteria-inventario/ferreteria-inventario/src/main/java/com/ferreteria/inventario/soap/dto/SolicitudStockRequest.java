@@ -0,0 +1,27 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con un código y la cantidad requerida para la verificación de stock por lotes (RF7)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "SolicitudStockRequest", propOrder = {
+        "codigo", "cantidad"
+})
+public class SolicitudStockRequest {
+
+    @XmlElement(required = true)
+    private String codigo;
+
+    @XmlElement(required = true)
+    private Integer cantidad;
+}
@@ -0,0 +1,42 @@
+package com.ferreteria.inventario.soap.dto;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de cada elemento en una verificación de stock por lotes (RF7)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "VerificacionStockResponse", propOrder = {
+        "codigo", "encontrado", "cantidadSolicitada", "stockActual", "disponible"
+})
+public class VerificacionStockResponse {
+
+    @XmlElement
+    private String codigo;
+
+    @XmlElement
+    private Boolean encontrado;
+
+    @XmlElement
+    private Integer cantidadSolicitada;
+
+    /**
+     * Stock actual (solo si el artículo fue encontrado)
+     */
+    @XmlElement
+    private Integer stockActual;
+
+    /**
+     * true si el stock actual cubre la cantidad solicitada
+     */
+    @XmlElement
+    private Boolean disponible;
+}
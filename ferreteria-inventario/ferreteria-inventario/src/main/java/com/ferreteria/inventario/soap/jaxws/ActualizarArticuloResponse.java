@@ -0,0 +1,23 @@
+package com.ferreteria.inventario.soap.jaxws;
+
+import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elemento envoltorio de la respuesta de actualizarArticulo (document/literal wrapped).
+ * Se declara en lugar del generado por CXF porque la variante asíncrona debe entregarlo ya armado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@XmlRootElement(name = "actualizarArticuloResponse", namespace = "http://soap.inventario.ferreteria.com/")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "actualizarArticuloResponse", namespace = "http://soap.inventario.ferreteria.com/")
+public class ActualizarArticuloResponse {
+
+    @XmlElement(name = "actualizarArticuloResponse", namespace = "")
+    private ArticuloResponse resultado;
+}
@@ -0,0 +1,22 @@
+package com.ferreteria.inventario.soap.jaxws;
+
+import jakarta.xml.bind.annotation.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elemento envoltorio de la respuesta de verificarStock (document/literal wrapped).
+ * Se declara en lugar del generado por CXF porque la variante asíncrona debe entregarlo ya armado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@XmlRootElement(name = "verificarStockResponse", namespace = "http://soap.inventario.ferreteria.com/")
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "verificarStockResponse", namespace = "http://soap.inventario.ferreteria.com/")
+public class VerificarStockResponse {
+
+    @XmlElement(name = "verificarStockResponse", namespace = "")
+    private boolean resultado;
+}
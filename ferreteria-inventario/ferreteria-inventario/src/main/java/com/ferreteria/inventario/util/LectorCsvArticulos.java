@@ -0,0 +1,137 @@
+package com.ferreteria.inventario.util;
+
+import com.ferreteria.inventario.entity.Articulo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee listas de artículos en CSV para las importaciones masivas (RF5).
+ * Columnas: codigo, nombre, descripcion, categoria, precioCompra, precioVenta, stockActual,
+ * stockMinimo, proveedor. Separador ',' o ';' (con ';' se admite la coma decimal) y campos
+ * entre comillas dobles. La cabecera es opcional.
+ * No valida: los valores que no se pueden interpretar quedan en null y ValidationUtil
+ * los rechaza al procesar la línea.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class LectorCsvArticulos {
+
+    private static final Logger logger = LoggerFactory.getLogger(LectorCsvArticulos.class);
+
+    private static final String COLUMNA_CABECERA = "codigo";
+
+    private LectorCsvArticulos() {
+        // Constructor privado para clase utilitaria
+    }
+
+    /**
+     * Lee todas las líneas no vacías del CSV
+     *
+     * @param entrada contenido del CSV (no se cierra)
+     * @return un artículo por línea, en el orden del archivo
+     * @throws IOException si falla la lectura
+     */
+    public static List<Articulo> leer(Reader entrada) throws IOException {
+        BufferedReader lector = new BufferedReader(entrada);
+        List<Articulo> articulos = new ArrayList<>();
+        Character separador = null;
+        String linea;
+        while ((linea = lector.readLine()) != null) {
+            if (linea.isBlank()) {
+                continue;
+            }
+            if (separador == null) {
+                separador = linea.indexOf(';') >= 0 ? ';' : ',';
+                if (linea.trim().toLowerCase().startsWith(COLUMNA_CABECERA)) {
+                    continue;
+                }
+            }
+            articulos.add(aArticulo(separar(linea, separador), separador == ';'));
+        }
+        logger.debug("CSV leído: {} líneas", articulos.size());
+        return articulos;
+    }
+
+    private static Articulo aArticulo(List<String> campos, boolean comaDecimal) {
+        return Articulo.builder()
+                .codigo(ValidationUtil.normalizarCodigo(campo(campos, 0)))
+                .nombre(ValidationUtil.normalizarNombre(campo(campos, 1)))
+                .descripcion(campo(campos, 2))
+                .categoria(campo(campos, 3))
+                .precioCompra(decimal(campo(campos, 4), comaDecimal))
+                .precioVenta(decimal(campo(campos, 5), comaDecimal))
+                .stockActual(entero(campo(campos, 6)))
+                .stockMinimo(entero(campo(campos, 7)))
+                .proveedor(campo(campos, 8))
+                .build();
+    }
+
+    /**
+     * Separa una línea respetando las comillas dobles ("" dentro de un campo entre comillas es una comilla)
+     */
+    private static List<String> separar(String linea, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == separador) {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+
+    private static String campo(List<String> campos, int posicion) {
+        if (posicion >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(posicion).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static BigDecimal decimal(String valor, boolean comaDecimal) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(comaDecimal ? valor.replace(',', '.') : valor);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer entero(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -51,6 +51,8 @@ public class ValidationUtil {
         // Validar categoría
         if (articulo.getCategoria() == null || articulo.getCategoria().trim().isEmpty()) {
             errores.add("La categoría es obligatoria");
+        } else if (articulo.getCategoria().length() > 100) {
+            errores.add("La categoría no puede superar los 100 caracteres");
         }
 
         // Validar precios (RF3: precios positivos)
@@ -58,12 +60,16 @@ public class ValidationUtil {
             errores.add("El precio de compra es obligatorio");
         } else if (articulo.getPrecioCompra().compareTo(BigDecimal.ZERO) <= 0) {
             errores.add("El precio de compra debe ser mayor a 0");
+        } else if (excedeDigitosPrecio(articulo.getPrecioCompra())) {
+            errores.add("El precio de compra debe tener máximo 8 dígitos enteros y 2 decimales");
         }
 
         if (articulo.getPrecioVenta() == null) {
             errores.add("El precio de venta es obligatorio");
         } else if (articulo.getPrecioVenta().compareTo(BigDecimal.ZERO) <= 0) {
             errores.add("El precio de venta debe ser mayor a 0");
+        } else if (excedeDigitosPrecio(articulo.getPrecioVenta())) {
+            errores.add("El precio de venta debe tener máximo 8 dígitos enteros y 2 decimales");
         }
 
         // Validar coherencia entre precios (RF3)
@@ -86,6 +92,11 @@ public class ValidationUtil {
             errores.add("El stock mínimo no puede ser negativo");
         }
 
+        // Validar proveedor (opcional)
+        if (articulo.getProveedor() != null && articulo.getProveedor().length() > 200) {
+            errores.add("El proveedor no puede superar los 200 caracteres");
+        }
+
         // Si hay errores, lanzar excepción
         if (!errores.isEmpty()) {
             logger.error("Errores de validación para artículo {}: {}", articulo.getCodigo(), errores);
@@ -95,6 +106,13 @@ public class ValidationUtil {
         logger.debug("Artículo {} validado correctamente", articulo.getCodigo());
     }
 
+    /**
+     * Verifica si un precio no cabe en la columna DECIMAL(10, 2), igual que @Digits en Articulo
+     */
+    private static boolean excedeDigitosPrecio(BigDecimal precio) {
+        return precio.precision() - precio.scale() > 8 || precio.scale() > 2;
+    }
+
     /**
      * Valida que los precios sean positivos (RF3)
      *
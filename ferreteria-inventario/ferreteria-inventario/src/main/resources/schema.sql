@@ -27,6 +27,8 @@ CREATE TABLE articulos (
                            fecha_registro TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                            fecha_actualizacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                            activo BOOLEAN DEFAULT TRUE,
+                           revision BIGINT NOT NULL DEFAULT 0,
+                           deficit INT GENERATED ALWAYS AS (stock_minimo - stock_actual) STORED,
 
     -- Constraints
                            CONSTRAINT chk_precio_compra CHECK (precio_compra > 0),
@@ -39,7 +41,14 @@ CREATE TABLE articulos (
                            INDEX idx_codigo (codigo),
                            INDEX idx_nombre (nombre),
                            INDEX idx_categoria (categoria),
-                           INDEX idx_stock (stock_actual, stock_minimo)
+                           INDEX idx_stock (stock_actual, stock_minimo),
+    -- Stock bajo por rango (deficit > 0) ya ordenado por urgencia, sin filesort
+                           INDEX idx_activo_deficit (activo, deficit),
+    -- Feed de cambios (obtenerCambiosDesde): recorrido keyset por (fecha_actualizacion, id)
+                           INDEX idx_fecha_actualizacion (fecha_actualizacion, id),
+
+    -- Índice de texto completo para búsqueda por relevancia (MATCH ... AGAINST)
+                           FULLTEXT INDEX ft_nombre_descripcion (nombre, descripcion)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- Insertar datos de ejemplo
@@ -55,7 +64,60 @@ INSERT INTO articulos (codigo, nombre, descripcion, categoria, precio_compra, pr
                                                                                                                                        ('BROCHA-001', 'Brocha 3 pulgadas', 'Brocha para pintura cerda sintética', 'Pinturas', 3.50, 7.00, 45, 10, 'Pinturas del Ecuador'),
                                                                                                                                        ('PEGA-001', 'Pegamento PVC 100ml', 'Adhesivo para tuberías PVC', 'Plomería', 2.75, 5.50, 80, 15, 'Suministros Industriales S.A.');
 
--- Crear vista para artículos con stock bajo
+-- Secuencia de IDs de artículos (Hibernate la emula con una tabla en MySQL).
+-- Se asignan bloques de 50 IDs para permitir inserts por lotes (hibernate.jdbc.batch_size);
+-- el valor inicial deja libre el rango ya usado por AUTO_INCREMENT.
+DROP TABLE IF EXISTS articulos_seq;
+CREATE TABLE articulos_seq (
+                               next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO articulos_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM articulos;
+
+-- Importaciones masivas en segundo plano: el avance se confirma junto con cada bloque
+DROP TABLE IF EXISTS importacion_lineas;
+DROP TABLE IF EXISTS importaciones;
+CREATE TABLE importaciones (
+                               id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                               estado VARCHAR(20) NOT NULL,
+                               origen VARCHAR(20) NOT NULL,
+                               total_lineas INT NOT NULL,
+                               lineas_procesadas INT NOT NULL DEFAULT 0,
+                               insertados INT NOT NULL DEFAULT 0,
+                               actualizados INT NOT NULL DEFAULT 0,
+                               rechazados INT NOT NULL DEFAULT 0,
+                               mensaje_error VARCHAR(1000),
+                               fecha_creacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                               fecha_actualizacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                               fecha_fin TIMESTAMP NULL,
+                               INDEX idx_importacion_estado (estado)
+) ENGINE=InnoDB;
+
+-- Líneas tal como se recibieron; al completar la importación solo se conservan las rechazadas
+CREATE TABLE importacion_lineas (
+                                    id BIGINT PRIMARY KEY,
+                                    importacion_id BIGINT NOT NULL,
+                                    numero INT NOT NULL,
+                                    codigo VARCHAR(255),
+                                    nombre VARCHAR(255),
+                                    descripcion TEXT,
+                                    categoria VARCHAR(255),
+                                    precio_compra DECIMAL(19, 2),
+                                    precio_venta DECIMAL(19, 2),
+                                    stock_actual INT,
+                                    stock_minimo INT,
+                                    proveedor VARCHAR(255),
+                                    codigo_error VARCHAR(20),
+                                    mensaje VARCHAR(1000),
+                                    UNIQUE INDEX idx_importacion_numero (importacion_id, numero)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+DROP TABLE IF EXISTS importacion_lineas_seq;
+CREATE TABLE importacion_lineas_seq (
+                                        next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO importacion_lineas_seq (next_val) VALUES (1);
+
+-- Crear vista para artículos con stock bajo (sin ORDER BY: cada consulta ordena, p. ej. por faltante)
 CREATE OR REPLACE VIEW articulos_stock_bajo AS
 SELECT
     codigo,
@@ -63,10 +125,10 @@ SELECT
     categoria,
     stock_actual,
     stock_minimo,
-    (stock_minimo - stock_actual) as faltante,
+    deficit as faltante,
     proveedor
 FROM articulos
-WHERE stock_actual < stock_minimo AND activo = TRUE;
+WHERE activo = TRUE AND deficit > 0;
 
 -- Crear vista para resumen de inventario por categoría
 CREATE OR REPLACE VIEW resumen_inventario AS
@@ -84,5 +146,5 @@ GROUP BY categoria;
 -- Mostrar información de las tablas creadas
 SHOW TABLES;
 SELECT COUNT(*) as total_articulos FROM articulos;
-SELECT * FROM articulos_stock_bajo;
+SELECT * FROM articulos_stock_bajo ORDER BY faltante DESC;
 SELECT * FROM resumen_inventario;
\ No newline at end of file
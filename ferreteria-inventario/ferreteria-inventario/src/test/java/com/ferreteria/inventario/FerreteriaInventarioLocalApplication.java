@@ -0,0 +1,21 @@
+package com.ferreteria.inventario;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Arranque local de la aplicación con la configuración de pruebas (H2 en memoria, sin MySQL),
+ * para ejecutar el generador de carga contra el servicio SOAP antes de desplegar:
+ * mvn spring-boot:test-run@local
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+public class FerreteriaInventarioLocalApplication {
+
+    public static void main(String[] args) {
+        // La configuración de pruebas no fija el puerto; se usa el mismo que en producción
+        new SpringApplicationBuilder(FerreteriaInventarioApplication.class)
+                .properties("server.port=8086")
+                .run(args);
+    }
+}
@@ -0,0 +1,237 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.soap.ArticuloSoapFault;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del agrupador de verificaciones de stock contra un puerto simulado (RF7, RNF2):
+ * cada lote enviado queda en una cola y la prueba decide cuándo y cómo responde el servidor
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class AgrupadorVerificacionStockTest {
+
+    private static final Duration VENTANA_LARGA = Duration.ofSeconds(30);
+
+    private final BlockingQueue<LoteEnviado> lotes = new LinkedBlockingQueue<>();
+    private AgrupadorVerificacionStock agrupador;
+
+    @AfterEach
+    void tearDown() {
+        if (agrupador != null) {
+            agrupador.close();
+        }
+    }
+
+    @Test
+    @DisplayName("RF7: al vencer la ventana se envían juntas las consultas acumuladas")
+    void testEnvioAlVencerVentana() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(Duration.ofMillis(200), 64);
+
+        // Act
+        CompletableFuture<Boolean> martillo = agrupador.verificarStock("MART-001");
+        CompletableFuture<Boolean> clavos = agrupador.verificarStock("CLAV-001");
+
+        // Assert
+        assertNull(lotes.poll(50, TimeUnit.MILLISECONDS), "El lote no debe salir antes de la ventana");
+        LoteEnviado lote = siguienteLote();
+        assertEquals(List.of("MART-001", "CLAV-001"), lote.codigos());
+        lote.solicitudes.forEach(solicitud -> assertEquals(1, solicitud.getCantidad()));
+
+        lote.responder(encontrado("MART-001", true), encontrado("CLAV-001", false));
+        assertTrue(martillo.get(1, TimeUnit.SECONDS));
+        assertFalse(clavos.get(1, TimeUnit.SECONDS));
+        assertTrue(lotes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("RF7: al reunir maxCodigos el lote se envía sin esperar la ventana")
+    void testEnvioAlLlenarLote() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 3);
+
+        // Act
+        agrupador.verificarStock("A-001");
+        agrupador.verificarStock("A-002");
+        assertNull(lotes.poll(50, TimeUnit.MILLISECONDS), "Con dos códigos el lote aún no está lleno");
+        agrupador.verificarStock("A-003");
+        CompletableFuture<Boolean> siguiente = agrupador.verificarStock("A-004");
+
+        // Assert
+        assertEquals(List.of("A-001", "A-002", "A-003"), siguienteLote().codigos());
+        assertFalse(siguiente.isDone());
+
+        agrupador.close();
+        LoteEnviado resto = siguienteLote();
+        assertEquals(List.of("A-004"), resto.codigos());
+        resto.responder(encontrado("A-004", true));
+        assertTrue(siguiente.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("RF7: un código repetido en la ventana viaja una sola vez y responde a todos sus llamadores")
+    void testCodigosDuplicadosEnVentana() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 2);
+
+        // Act
+        CompletableFuture<Boolean> primero = agrupador.verificarStock("MART-001");
+        CompletableFuture<Boolean> segundo = agrupador.verificarStock("MART-001");
+        CompletableFuture<Boolean> inexistente = agrupador.verificarStock("NO-EXISTE");
+
+        // Assert: el duplicado no cuenta para maxCodigos, el lote sale con el segundo código distinto
+        LoteEnviado lote = siguienteLote();
+        assertEquals(List.of("MART-001", "NO-EXISTE"), lote.codigos());
+        assertNotSame(primero, segundo);
+
+        lote.responder(encontrado("MART-001", true),
+                VerificacionStockResponse.builder().codigo("NO-EXISTE").encontrado(false).cantidadSolicitada(1).build());
+        assertTrue(primero.get(1, TimeUnit.SECONDS));
+        assertTrue(segundo.get(1, TimeUnit.SECONDS));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> inexistente.get(1, TimeUnit.SECONDS));
+        ArticuloSoapFault fault = assertInstanceOf(ArticuloSoapFault.class, error.getCause());
+        assertEquals("NO_ENCONTRADO", fault.getFaultInfo().getCodigoError());
+    }
+
+    @Test
+    @DisplayName("Cancelar o completar el futuro de un llamador no afecta a los demás del mismo código")
+    void testCopiaPorLlamador() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 64);
+        CompletableFuture<Boolean> cancelado = agrupador.verificarStock("MART-001");
+        CompletableFuture<Boolean> forzado = agrupador.verificarStock("MART-001");
+        CompletableFuture<Boolean> intacto = agrupador.verificarStock("MART-001");
+
+        // Act
+        cancelado.cancel(true);
+        forzado.complete(false);
+        agrupador.close();
+        LoteEnviado lote = siguienteLote();
+        lote.responder(encontrado("MART-001", true));
+
+        // Assert
+        assertEquals(List.of("MART-001"), lote.codigos());
+        assertThrows(CancellationException.class, cancelado::join);
+        assertFalse(forzado.join());
+        assertTrue(intacto.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("RNF2: un error del lote completo llega a todas las consultas que esperaban en él")
+    void testErrorDelLotePropagado() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 64);
+        List<CompletableFuture<Boolean>> consultas = List.of(
+                agrupador.verificarStock("A-001"),
+                agrupador.verificarStock("A-002"),
+                agrupador.verificarStock("A-001"));
+        TimeoutException plazoVencido = new TimeoutException("Venció el plazo del lote");
+
+        // Act
+        agrupador.close();
+        siguienteLote().respuesta.completeExceptionally(plazoVencido);
+
+        // Assert
+        for (CompletableFuture<Boolean> consulta : consultas) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> consulta.get(1, TimeUnit.SECONDS));
+            assertSame(plazoVencido, error.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Una respuesta incompleta del servidor falla solo los códigos sin resultado")
+    void testRespuestaIncompleta() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 64);
+        CompletableFuture<Boolean> conResultado = agrupador.verificarStock("A-001");
+        CompletableFuture<Boolean> sinResultado = agrupador.verificarStock("A-002");
+
+        // Act
+        agrupador.close();
+        siguienteLote().responder(encontrado("A-001", true));
+
+        // Assert
+        assertTrue(conResultado.get(1, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> sinResultado.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("Tras cerrar el agrupador las consultas nuevas fallan sin llegar al servidor")
+    void testConsultaTrasCerrar() throws Exception {
+        // Arrange
+        agrupador = crearAgrupador(VENTANA_LARGA, 64);
+        agrupador.close();
+
+        // Act
+        CompletableFuture<Boolean> consulta = agrupador.verificarStock("MART-001");
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, () -> consulta.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(lotes.isEmpty());
+    }
+
+    private AgrupadorVerificacionStock crearAgrupador(Duration ventana, int maxCodigos) {
+        return new AgrupadorVerificacionStock(solicitudes -> {
+            LoteEnviado lote = new LoteEnviado(solicitudes);
+            lotes.add(lote);
+            return lote.respuesta;
+        }, ventana, maxCodigos);
+    }
+
+    private LoteEnviado siguienteLote() throws InterruptedException {
+        LoteEnviado lote = lotes.poll(5, TimeUnit.SECONDS);
+        assertNotNull(lote, "No se envió ningún lote");
+        return lote;
+    }
+
+    private static VerificacionStockResponse encontrado(String codigo, boolean disponible) {
+        return VerificacionStockResponse.builder()
+                .codigo(codigo)
+                .encontrado(true)
+                .cantidadSolicitada(1)
+                .stockActual(disponible ? 10 : 0)
+                .disponible(disponible)
+                .build();
+    }
+
+    /**
+     * Lote recibido por el puerto simulado, con la respuesta que completa la prueba
+     */
+    private static final class LoteEnviado {
+        private final List<SolicitudStockRequest> solicitudes;
+        private final CompletableFuture<List<VerificacionStockResponse>> respuesta = new CompletableFuture<>();
+
+        private LoteEnviado(List<SolicitudStockRequest> solicitudes) {
+            this.solicitudes = solicitudes;
+        }
+
+        private List<String> codigos() {
+            return solicitudes.stream().map(SolicitudStockRequest::getCodigo).toList();
+        }
+
+        private void responder(VerificacionStockResponse... resultados) {
+            respuesta.complete(List.of(resultados));
+        }
+    }
+}
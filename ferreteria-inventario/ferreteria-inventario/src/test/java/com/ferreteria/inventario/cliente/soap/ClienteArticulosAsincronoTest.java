@@ -0,0 +1,249 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.soap.ArticuloSoapFault;
+import com.ferreteria.inventario.soap.ArticuloSoapService;
+import com.ferreteria.inventario.soap.dto.SoapFaultInfo;
+import jakarta.xml.ws.BindingProvider;
+import org.apache.cxf.message.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del cliente SOAP asíncrono con proxies simulados (RNF2): cupo de llamadas en curso,
+ * plazos de los futuros y devolución de los proxies al pool tras un error o un plazo vencido
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+class ClienteArticulosAsincronoTest {
+
+    /**
+     * Respuesta de verificarStock del servicio simulado; puede bloquearse o lanzar un fault
+     */
+    @FunctionalInterface
+    private interface Comportamiento {
+        boolean verificarStock(String codigo) throws Exception;
+    }
+
+    private final List<ArticuloSoapService> creados = new CopyOnWriteArrayList<>();
+    private final List<ArticuloSoapService> destruidos = new CopyOnWriteArrayList<>();
+    private final List<ArticuloSoapService> usados = new CopyOnWriteArrayList<>();
+    private final List<Map<String, Object>> contextosUsados = new CopyOnWriteArrayList<>();
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private volatile Comportamiento comportamiento = codigo -> true;
+    private ClienteArticulosAsincrono cliente;
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        if (cliente != null) {
+            cliente.close();
+        }
+    }
+
+    @Test
+    @DisplayName("RNF2: al agotar maxLlamadasEnCurso la llamada se rechaza de inmediato")
+    void testCupoAgotado() throws Exception {
+        // Arrange
+        cliente = crearCliente(1, 2, Duration.ofSeconds(5));
+        comportamiento = this::bloquear;
+        CompletableFuture<Boolean> enRed = cliente.verificarStock("A-001");
+        CompletableFuture<Boolean> esperandoProxy = cliente.verificarStock("A-002");
+
+        // Act
+        CompletableFuture<Boolean> rechazada = cliente.verificarStock("A-003");
+
+        // Assert
+        assertTrue(rechazada.isCompletedExceptionally(), "El rechazo no debe esperar a que se libere cupo");
+        ExecutionException error = assertThrows(ExecutionException.class, rechazada::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        liberar.countDown();
+        assertTrue(enRed.get(5, TimeUnit.SECONDS));
+        assertTrue(esperandoProxy.get(5, TimeUnit.SECONDS));
+        assertTrue(cliente.verificarStock("A-003").get(5, TimeUnit.SECONDS), "El cupo se libera al terminar");
+    }
+
+    @Test
+    @DisplayName("RNF2: al vencer el plazo el futuro falla con TimeoutException")
+    void testPlazoVencido() {
+        // Arrange
+        cliente = crearCliente(1, 1, Duration.ofMillis(200));
+        comportamiento = this::bloquear;
+        long inicio = System.nanoTime();
+
+        // Act
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> cliente.verificarStock("A-001").get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertTrue(System.nanoTime() - inicio < TimeUnit.SECONDS.toNanos(3), "El futuro debe vencer con el plazo");
+        // La llamada abandonada sigue ocupando el cupo hasta que termina en la red
+        CompletableFuture<Boolean> mientrasTanto = cliente.verificarStock("A-002");
+        assertTrue(mientrasTanto.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("RNF2: el plazo restante se fija como timeout de recepción del proxy")
+    void testPlazoEnContextoDelProxy() throws Exception {
+        // Arrange
+        cliente = crearCliente(1, 1, Duration.ofSeconds(5));
+
+        // Act
+        assertTrue(cliente.verificarStock("A-001", Duration.ofMillis(800)).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        Map<String, Object> contexto = contextosUsados.get(0);
+        long recepcion = (Long) contexto.get(Message.RECEIVE_TIMEOUT);
+        long conexion = (Long) contexto.get(Message.CONNECTION_TIMEOUT);
+        assertTrue(recepcion > 0 && recepcion <= 800, "Timeout de recepción: " + recepcion);
+        assertTrue(conexion > 0 && conexion <= recepcion, "Timeout de conexión: " + conexion);
+    }
+
+    @Test
+    @DisplayName("RNF2: el proxy vuelve al pool tras un fault del servicio")
+    void testProxyDevueltoTrasFault() throws Exception {
+        // Arrange
+        cliente = crearCliente(1, 1, Duration.ofSeconds(5));
+        comportamiento = codigo -> {
+            throw new ArticuloSoapFault("No se encontró el artículo",
+                    SoapFaultInfo.builder().codigoError("NO_ENCONTRADO").build());
+        };
+
+        // Act
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> cliente.verificarStock("NO-EXISTE").get(5, TimeUnit.SECONDS));
+        comportamiento = codigo -> true;
+        boolean siguiente = cliente.verificarStock("A-001").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertInstanceOf(ArticuloSoapFault.class, error.getCause());
+        assertTrue(siguiente);
+        assertEquals(2, usados.size());
+        assertSame(usados.get(0), usados.get(1));
+    }
+
+    @Test
+    @DisplayName("RNF2: el proxy vuelve al pool cuando termina una llamada cuyo plazo ya venció")
+    void testProxyDevueltoTrasPlazoVencido() throws Exception {
+        // Arrange
+        cliente = crearCliente(1, 1, Duration.ofMillis(200));
+        comportamiento = this::bloquear;
+        CompletableFuture<Boolean> abandonada = cliente.verificarStock("A-001");
+        assertThrows(ExecutionException.class, () -> abandonada.get(5, TimeUnit.SECONDS));
+
+        // Act
+        comportamiento = codigo -> true;
+        liberar.countDown();
+        boolean siguiente = esperarCupo("A-002").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(siguiente);
+        assertEquals(1, creados.size());
+        assertSame(usados.get(0), usados.get(usados.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Cerrar el cliente destruye todos los proxies y rechaza llamadas nuevas")
+    void testCerrar() {
+        // Arrange
+        cliente = crearCliente(3, 3, Duration.ofSeconds(5));
+
+        // Act
+        cliente.close();
+        CompletableFuture<Boolean> trasCerrar = cliente.verificarStock("A-001");
+
+        // Assert
+        assertEquals(3, creados.size());
+        assertEquals(creados, destruidos);
+        ExecutionException error = assertThrows(ExecutionException.class, trasCerrar::get);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        cliente = null;
+    }
+
+    private ClienteArticulosAsincrono crearCliente(int proxies, int maxLlamadasEnCurso, Duration plazo) {
+        return ClienteArticulosAsincrono.builder()
+                .proxies(proxies)
+                .maxLlamadasEnCurso(maxLlamadasEnCurso)
+                .plazo(plazo)
+                .timeoutConexion(Duration.ofMillis(500))
+                .fabricaProxies(new ClienteArticulosAsincrono.FabricaProxies() {
+                    @Override
+                    public ArticuloSoapService crear() {
+                        ArticuloSoapService proxy = crearProxySimulado();
+                        creados.add(proxy);
+                        return proxy;
+                    }
+
+                    @Override
+                    public void destruir(ArticuloSoapService proxy) {
+                        destruidos.add(proxy);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Proxy que implementa el servicio y BindingProvider como los de CXF; solo responde verificarStock
+     */
+    private ArticuloSoapService crearProxySimulado() {
+        Map<String, Object> contexto = new HashMap<>();
+        Object[] proxy = new Object[1];
+        proxy[0] = Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ArticuloSoapService.class, BindingProvider.class},
+                (instancia, metodo, argumentos) -> {
+                    switch (metodo.getName()) {
+                        case "getRequestContext":
+                            return contexto;
+                        case "verificarStock":
+                            usados.add((ArticuloSoapService) proxy[0]);
+                            contextosUsados.add(new HashMap<>(contexto));
+                            return comportamiento.verificarStock((String) argumentos[0]);
+                        case "hashCode":
+                            return System.identityHashCode(instancia);
+                        case "equals":
+                            return instancia == argumentos[0];
+                        case "toString":
+                            return "ArticuloSoapService simulado";
+                        default:
+                            throw new UnsupportedOperationException(metodo.getName());
+                    }
+                });
+        return (ArticuloSoapService) proxy[0];
+    }
+
+    private boolean bloquear(String codigo) throws InterruptedException {
+        return liberar.await(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Reintenta hasta que la llamada abandonada termina de verdad y devuelve su cupo
+     */
+    private CompletableFuture<Boolean> esperarCupo(String codigo) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            CompletableFuture<Boolean> llamada = cliente.verificarStock(codigo);
+            if (!llamada.isCompletedExceptionally() || System.nanoTime() > limite) {
+                return llamada;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
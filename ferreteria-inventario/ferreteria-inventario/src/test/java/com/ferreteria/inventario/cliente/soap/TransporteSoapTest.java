@@ -0,0 +1,280 @@
+package com.ferreteria.inventario.cliente.soap;
+
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.service.ArticuloService;
+import com.ferreteria.inventario.soap.ArticuloSoapService;
+import com.ferreteria.inventario.soap.dto.ArticuloRequest;
+import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.xml.ws.Endpoint;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.jaxws.EndpointImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del transporte SOAP contra el servidor embebido sobre H2 (RNF2): negociación de GZIP
+ * y de Fast Infoset entre el endpoint de CxfConfig y los proxies que crea el cliente
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+class TransporteSoapTest {
+
+    /**
+     * Descripción que lleva solicitudes y respuestas por encima del umbral de GZIP (1024 bytes)
+     */
+    private static final String DESCRIPCION_LARGA = "Martillo de carpintero con mango de fibra. ".repeat(50).trim();
+
+    private static int contador = 0;
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private Endpoint articuloSoapEndpoint;
+
+    @Autowired
+    private ArticuloService articuloService;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final List<String> codificacionesRecibidas = new CopyOnWriteArrayList<>();
+    private final List<String> aceptacionesRecibidas = new CopyOnWriteArrayList<>();
+    private final List<String> tiposRecibidos = new CopyOnWriteArrayList<>();
+    private Interceptor<Message> capturaCabeceras;
+    private String codigo;
+
+    @BeforeEach
+    void setUp() {
+        contador++;
+        codigo = "TRANSP-TEST-" + String.format("%03d", contador);
+
+        // Cabeceras tal como llegan por HTTP, antes de que GZIPInInterceptor descomprima
+        capturaCabeceras = new AbstractPhaseInterceptor<>(Phase.RECEIVE) {
+            @Override
+            public void handleMessage(Message message) {
+                HttpServletRequest solicitud = (HttpServletRequest) message.get(AbstractHTTPDestination.HTTP_REQUEST);
+                codificacionesRecibidas.add(String.valueOf(solicitud.getHeader("Content-Encoding")));
+                aceptacionesRecibidas.add(String.valueOf(solicitud.getHeader("Accept-Encoding")));
+                tiposRecibidos.add(String.valueOf(solicitud.getContentType()));
+            }
+        };
+        endpointServidor().getInInterceptors().add(capturaCabeceras);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpointServidor().getInInterceptors().remove(capturaCabeceras);
+    }
+
+    @Test
+    @DisplayName("RNF2: el servidor comprime la respuesta solo si la solicitud trae Accept-Encoding: gzip")
+    void testRespuestaComprimidaSegunAcceptEncoding() throws Exception {
+        // Arrange
+        articuloService.insertarArticulo(articuloConDescripcionLarga());
+        String sobre = sobreConsultar();
+
+        // Act
+        HttpResponse<byte[]> sinNegociar = enviar(sobre, null);
+        HttpResponse<byte[]> negociada = enviar(sobre, "gzip");
+
+        // Assert
+        assertEquals(200, sinNegociar.statusCode());
+        assertTrue(sinNegociar.headers().firstValue("Content-Encoding").isEmpty(),
+                "Sin Accept-Encoding la respuesta no debe comprimirse");
+        assertTrue(new String(sinNegociar.body(), StandardCharsets.UTF_8).contains(DESCRIPCION_LARGA));
+
+        assertEquals(200, negociada.statusCode());
+        assertEquals("gzip", negociada.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(descomprimir(negociada.body()).contains(DESCRIPCION_LARGA));
+    }
+
+    @Test
+    @DisplayName("RNF2: el cliente pide respuestas comprimidas pero no comprime las solicitudes por defecto")
+    void testClienteSinCompresionDeSolicitudes() {
+        // Arrange
+        ArticuloSoapService proxy = ClienteSOAP.ArticuloSoapServiceProxy.crearServicio(url(), false, false);
+        try {
+            // Act
+            ArticuloResponse insertado = proxy.insertarArticulo(requestConDescripcionLarga());
+            ArticuloResponse consultado = proxy.consultarArticulo(codigo);
+
+            // Assert
+            assertEquals(DESCRIPCION_LARGA, insertado.getDescripcion());
+            assertEquals(DESCRIPCION_LARGA, consultado.getDescripcion());
+            assertEquals(List.of("null", "null"), codificacionesRecibidas);
+            aceptacionesRecibidas.forEach(aceptacion -> assertTrue(aceptacion.contains("gzip"), aceptacion));
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            ClientProxy.getClient(proxy).destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("RNF2: con inventario.soap.gzip.habilitado el cliente comprime las solicitudes grandes")
+    void testClienteConCompresionDeSolicitudes() {
+        // Arrange
+        ArticuloSoapService proxy = ClienteSOAP.ArticuloSoapServiceProxy.crearServicio(url(), false, true);
+        try {
+            // Act
+            ArticuloResponse insertado = proxy.insertarArticulo(requestConDescripcionLarga());
+            ArticuloResponse consultado = proxy.consultarArticulo(codigo);
+
+            // Assert
+            assertEquals(DESCRIPCION_LARGA, insertado.getDescripcion());
+            assertEquals(DESCRIPCION_LARGA, consultado.getDescripcion());
+            // La consulta es pequeña y queda por debajo del umbral
+            assertEquals(List.of("gzip", "null"), codificacionesRecibidas);
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            ClientProxy.getClient(proxy).destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("RNF2: un cliente XML recibe text/xml y un cliente Fast Infoset recibe application/fastinfoset")
+    void testFastInfosetNegociado() {
+        // Arrange
+        articuloService.insertarArticulo(articuloConDescripcionLarga());
+        ArticuloSoapService xml = ClienteSOAP.ArticuloSoapServiceProxy.crearServicio(url(), false, false);
+        ArticuloSoapService fastInfoset = ClienteSOAP.ArticuloSoapServiceProxy.crearServicio(url(), true, false);
+        List<String> tiposRespuestaXml = capturarTiposRespuesta(xml);
+        List<String> tiposRespuestaFi = capturarTiposRespuesta(fastInfoset);
+        try {
+            // Act
+            ArticuloResponse porXml = xml.consultarArticulo(codigo);
+            ArticuloResponse porFi = fastInfoset.consultarArticulo(codigo);
+
+            // Assert: el mismo artículo por ambos caminos
+            assertEquals(DESCRIPCION_LARGA, porXml.getDescripcion());
+            assertEquals(DESCRIPCION_LARGA, porFi.getDescripcion());
+            assertEquals(porXml.getPrecioVenta(), porFi.getPrecioVenta());
+
+            assertTrue(tiposRecibidos.get(0).startsWith("text/xml"), tiposRecibidos.get(0));
+            assertTrue(tiposRespuestaXml.get(0).startsWith("text/xml"), tiposRespuestaXml.get(0));
+            assertTrue(tiposRecibidos.get(1).startsWith("application/fastinfoset"), tiposRecibidos.get(1));
+            assertTrue(tiposRespuestaFi.get(0).startsWith("application/fastinfoset"), tiposRespuestaFi.get(0));
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            ClientProxy.getClient(xml).destroy();
+            ClientProxy.getClient(fastInfoset).destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("RNF2: sin Accept de Fast Infoset el servidor responde SOAP de texto")
+    void testRespuestaXmlSinAcceptFastInfoset() throws Exception {
+        // Arrange
+        articuloService.insertarArticulo(articuloConDescripcionLarga());
+
+        // Act
+        HttpResponse<byte[]> respuesta = enviar(sobreConsultar(), null);
+
+        // Assert
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.headers().firstValue("Content-Type").orElse("").startsWith("text/xml"));
+    }
+
+    /**
+     * Content-Type de cada respuesta que recibe el proxy, antes de decodificarla
+     */
+    private static List<String> capturarTiposRespuesta(ArticuloSoapService proxy) {
+        List<String> tipos = new CopyOnWriteArrayList<>();
+        ClientProxy.getClient(proxy).getInInterceptors().add(new AbstractPhaseInterceptor<Message>(Phase.RECEIVE) {
+            @Override
+            public void handleMessage(Message message) {
+                tipos.add(String.valueOf(message.get(Message.CONTENT_TYPE)));
+            }
+        });
+        return tipos;
+    }
+
+    private org.apache.cxf.endpoint.Endpoint endpointServidor() {
+        return ((EndpointImpl) articuloSoapEndpoint).getServer().getEndpoint();
+    }
+
+    private String url() {
+        return "http://localhost:" + puerto + "/soap/ArticuloService";
+    }
+
+    private String sobreConsultar() {
+        return "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+                + "xmlns:art=\"http://soap.inventario.ferreteria.com/\"><soap:Body>"
+                + "<art:consultarArticulo><codigo>" + codigo + "</codigo></art:consultarArticulo>"
+                + "</soap:Body></soap:Envelope>";
+    }
+
+    private HttpResponse<byte[]> enviar(String sobre, String aceptaCodificacion) throws Exception {
+        HttpRequest.Builder solicitud = HttpRequest.newBuilder(URI.create(url()))
+                .header("Content-Type", "text/xml; charset=utf-8")
+                .header("SOAPAction", "\"\"")
+                .POST(HttpRequest.BodyPublishers.ofString(sobre, StandardCharsets.UTF_8));
+        if (aceptaCodificacion != null) {
+            solicitud.header("Accept-Encoding", aceptaCodificacion);
+        }
+        return http.send(solicitud.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String descomprimir(byte[] cuerpo) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(cuerpo))) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Articulo articuloConDescripcionLarga() {
+        return Articulo.builder()
+                .codigo(codigo)
+                .nombre("Martillo de carpintero")
+                .descripcion(DESCRIPCION_LARGA)
+                .categoria("Herramientas")
+                .precioCompra(new BigDecimal("800.00"))
+                .precioVenta(new BigDecimal("1200.00"))
+                .stockActual(10)
+                .stockMinimo(2)
+                .activo(true)
+                .build();
+    }
+
+    private ArticuloRequest requestConDescripcionLarga() {
+        return ArticuloRequest.builder()
+                .codigo(codigo)
+                .nombre("Martillo de carpintero")
+                .descripcion(DESCRIPCION_LARGA)
+                .categoria("Herramientas")
+                .precioCompra(new BigDecimal("800.00"))
+                .precioVenta(new BigDecimal("1200.00"))
+                .stockActual(10)
+                .stockMinimo(2)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ferreteria.inventario.config;
+
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.service.ArticuloService;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.sequence.NoSequenceSupport;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del ajuste de articulos_seq al arrancar sobre una base con IDs heredados (RNF10).
+ *
+ * H2 tiene secuencias nativas; con un dialecto que las desactiva Hibernate emula articulos_seq con
+ * una tabla, igual que en MySQL, y se puede reproducir una base donde next_val quedó por debajo de
+ * los IDs existentes.
+ *
+ * @author Sistema Ferretería
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ajuste_secuencia;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform=com.ferreteria.inventario.config.AjusteSecuenciaArticulosTest$H2DialectSinSecuencias"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AjusteSecuenciaArticulosTest {
+
+    @Autowired
+    private AjusteSecuenciaArticulos ajusteSecuencia;
+
+    @Autowired
+    private ArticuloService articuloService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("RNF10: tras el ajuste los INSERT no repiten IDs existentes por encima de next_val")
+    void testInsertarTrasAjusteNoColisiona() {
+        // Arrange: base heredada con next_val = 1 e IDs asignados por AUTO_INCREMENT
+        jdbcTemplate.update("UPDATE " + AjusteSecuenciaArticulos.TABLA_SECUENCIA + " SET next_val = 1");
+        insertarHeredado(1L, "HEREDADO-001");
+        insertarHeredado(2L, "HEREDADO-002");
+        insertarHeredado(120L, "HEREDADO-120");
+
+        // Act
+        boolean ajustada = ajusteSecuencia.ajustar();
+        Articulo primero = articuloService.insertarArticulo(articuloNuevo("NUEVO-001"));
+        Articulo segundo = articuloService.insertarArticulo(articuloNuevo("NUEVO-002"));
+
+        // Assert
+        assertTrue(ajustada);
+        assertTrue(primero.getId() > 120, "ID repetido o por debajo del mayor existente: " + primero.getId());
+        assertTrue(segundo.getId() > 120, "ID repetido o por debajo del mayor existente: " + segundo.getId());
+        assertNotEquals(primero.getId(), segundo.getId());
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articulos", Integer.class));
+    }
+
+    @Test
+    @DisplayName("RNF10: el ajuste solo sube next_val, nunca lo baja")
+    void testAjusteSoloSube() {
+        // Arrange
+        insertarHeredado(10L, "HEREDADO-010");
+        long alto = 10L + Articulo.TAMANIO_BLOQUE_IDS + 1000;
+        jdbcTemplate.update("UPDATE " + AjusteSecuenciaArticulos.TABLA_SECUENCIA + " SET next_val = ?", alto);
+
+        // Act
+        boolean ajustada = ajusteSecuencia.ajustar();
+
+        // Assert
+        assertFalse(ajustada);
+        assertEquals(alto, jdbcTemplate.queryForObject(
+                "SELECT next_val FROM " + AjusteSecuenciaArticulos.TABLA_SECUENCIA, Long.class));
+    }
+
+    private void insertarHeredado(Long id, String codigo) {
+        LocalDateTime ahora = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO articulos (id, codigo, nombre, categoria, precio_compra, precio_venta, "
+                        + "stock_actual, stock_minimo, fecha_registro, fecha_actualizacion, activo) "
+                        + "VALUES (?, ?, 'Artículo heredado', 'Herramientas', 10.00, 15.00, 5, 1, ?, ?, TRUE)",
+                id, codigo, ahora, ahora);
+    }
+
+    private static Articulo articuloNuevo(String codigo) {
+        return Articulo.builder()
+                .codigo(codigo)
+                .nombre("Artículo nuevo")
+                .categoria("Herramientas")
+                .precioCompra(new BigDecimal("10.00"))
+                .precioVenta(new BigDecimal("15.00"))
+                .stockActual(5)
+                .stockMinimo(1)
+                .activo(true)
+                .build();
+    }
+
+    /**
+     * H2 sin secuencias nativas: Hibernate emula articulos_seq con una tabla, como en MySQL
+     */
+    public static class H2DialectSinSecuencias extends H2Dialect {
+
+        public H2DialectSinSecuencias() {
+            super();
+        }
+
+        public H2DialectSinSecuencias(DialectResolutionInfo info) {
+            super(info);
+        }
+
+        @Override
+        public SequenceSupport getSequenceSupport() {
+            return NoSequenceSupport.INSTANCE;
+        }
+    }
+}
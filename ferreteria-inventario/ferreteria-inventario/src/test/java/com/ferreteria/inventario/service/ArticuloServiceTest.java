@@ -3,23 +3,31 @@ package com.ferreteria.inventario.service;
 import com.ferreteria.inventario.entity.Articulo;
 import com.ferreteria.inventario.exception.ArticuloDuplicadoException;
 import com.ferreteria.inventario.exception.ArticuloNoEncontradoException;
+import com.ferreteria.inventario.exception.StockInsuficienteException;
 import com.ferreteria.inventario.exception.ValidationException;
 import com.ferreteria.inventario.repository.ArticuloRepository;
+import com.ferreteria.inventario.repository.EstadoStock;
+import com.ferreteria.inventario.repository.ArticuloResumen;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +42,18 @@ class ArticuloServiceTest {
     @Mock
     private ArticuloRepository articuloRepository;
 
+    @Spy
+    private IndiceBusquedaArticulos indiceBusqueda = new IndiceBusquedaArticulos();
+
+    @Spy
+    private CacheArticulos cacheArticulos = new CacheArticulos(100, 60);
+
+    @Spy
+    private RegistroStockBajo registroStockBajo = new RegistroStockBajo();
+
+    @Spy
+    private AgregadoInventario agregadoInventario = new AgregadoInventario();
+
     @InjectMocks
     private ArticuloServiceImpl articuloService;
 
@@ -152,6 +172,83 @@ class ArticuloServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("RF5: La importación debe actualizar los códigos existentes e insertar los nuevos")
+    void testImportarArticulosInsertaYActualiza() {
+        // Arrange - TEST-001 ya existe; TEST-002 es nuevo; el tercero no pasa la validación
+        Articulo actualizado = Articulo.builder().codigo("TEST-001").nombre("Artículo de Prueba")
+                .categoria("Pruebas").precioCompra(new BigDecimal("12.00")).precioVenta(new BigDecimal("18.00"))
+                .stockActual(40).stockMinimo(10).build();
+        Articulo nuevo = Articulo.builder().codigo("TEST-002").nombre("Artículo Nuevo")
+                .categoria("Pruebas").precioCompra(new BigDecimal("5.00")).precioVenta(new BigDecimal("8.00"))
+                .stockActual(10).stockMinimo(2).build();
+        Articulo invalido = Articulo.builder().codigo("TEST-003").nombre("Sin precios")
+                .categoria("Pruebas").stockActual(1).stockMinimo(1).build();
+        when(articuloRepository.findByCodigoIn(any())).thenReturn(List.of(articuloValido));
+
+        // Act
+        List<ResultadoInsercion> resultados = articuloService.importarArticulos(
+                Arrays.asList(actualizado, nuevo, invalido));
+
+        // Assert - El existente se modifica sobre la entidad cargada; solo el nuevo pasa por saveAll
+        assertTrue(resultados.get(0).isActualizado());
+        assertEquals(1L, resultados.get(0).getId());
+        assertEquals(new BigDecimal("18.00"), articuloValido.getPrecioVenta());
+        assertTrue(resultados.get(1).isExitoso());
+        assertFalse(resultados.get(1).isActualizado());
+        assertEquals("VALIDACION", resultados.get(2).getCodigoError());
+        verify(articuloRepository).saveAll(List.of(nuevo));
+    }
+
+    @Test
+    @DisplayName("RF5: Guardar un artículo existente sin cambios no debe tocar las estructuras en memoria")
+    void testGuardarArticuloDistingueCreadoYSinCambios() {
+        // Arrange - La sentencia reporta 1 fila: creado si el ID releído es el reservado, si no sin cambios
+        when(articuloRepository.generarIdArticulo()).thenReturn(100L, 101L);
+        when(articuloRepository.guardarOnDuplicateKey(any(), any(), any())).thenReturn(1);
+        Articulo creado = Articulo.builder().id(100L).codigo("TEST-002").activo(true).build();
+        when(articuloRepository.findByCodigo("TEST-002")).thenReturn(Optional.of(creado));
+        when(articuloRepository.findByCodigo("TEST-001")).thenReturn(Optional.of(articuloValido));
+        Articulo nuevo = Articulo.builder().codigo("TEST-002").nombre("Artículo Nuevo")
+                .categoria("Pruebas").precioCompra(new BigDecimal("5.00")).precioVenta(new BigDecimal("8.00"))
+                .stockActual(10).stockMinimo(2).build();
+        Articulo reenviado = Articulo.builder().codigo("TEST-001").nombre("Artículo de Prueba")
+                .categoria("Pruebas").precioCompra(new BigDecimal("10.00")).precioVenta(new BigDecimal("15.00"))
+                .stockActual(50).stockMinimo(10).build();
+
+        // Act
+        ResultadoGuardado resultadoNuevo = articuloService.guardarArticulo(nuevo);
+        ResultadoGuardado resultadoReenviado = articuloService.guardarArticulo(reenviado);
+
+        // Assert
+        assertEquals(EstadoGuardado.CREADO, resultadoNuevo.getEstado());
+        assertEquals(EstadoGuardado.SIN_CAMBIOS, resultadoReenviado.getEstado());
+        assertSame(articuloValido, resultadoReenviado.getArticulo());
+        verify(cacheArticulos).invalidar(100L, "TEST-002");
+        verify(cacheArticulos, never()).invalidar(1L, "TEST-001");
+    }
+
+    @Test
+    @DisplayName("RF5: Guardar debe reconocer la actualización por las 2 filas que cuenta ON DUPLICATE KEY UPDATE")
+    void testGuardarArticuloActualizadoPorFilasAfectadas() {
+        // Arrange - 2 filas: actualizado; 0 filas (useAffectedRows=true): sin cambios
+        when(articuloRepository.generarIdArticulo()).thenReturn(100L, 101L);
+        when(articuloRepository.guardarOnDuplicateKey(any(), any(), any())).thenReturn(2, 0);
+        when(articuloRepository.findByCodigo("TEST-001")).thenReturn(Optional.of(articuloValido));
+        Articulo modificado = Articulo.builder().codigo("TEST-001").nombre("Artículo de Prueba")
+                .categoria("Pruebas").precioCompra(new BigDecimal("10.00")).precioVenta(new BigDecimal("18.00"))
+                .stockActual(50).stockMinimo(10).build();
+
+        // Act
+        ResultadoGuardado actualizado = articuloService.guardarArticulo(modificado);
+        ResultadoGuardado sinCambios = articuloService.guardarArticulo(modificado);
+
+        // Assert
+        assertEquals(EstadoGuardado.ACTUALIZADO, actualizado.getEstado());
+        assertEquals(EstadoGuardado.SIN_CAMBIOS, sinCambios.getEstado());
+        verify(cacheArticulos, times(1)).invalidar(1L, "TEST-001");
+    }
+
     // ==================== PRUEBAS DE CONSULTA ====================
 
     @Test
@@ -169,6 +266,23 @@ class ArticuloServiceTest {
         verify(articuloRepository, times(1)).findByCodigo("TEST-001");
     }
 
+    @Test
+    @DisplayName("RF6: Debe consultar varios códigos con una sola consulta IN")
+    void testConsultarArticulosPorLote() {
+        // Arrange
+        when(articuloRepository.findByCodigoIn(any())).thenReturn(List.of(articuloValido));
+
+        // Act
+        Map<String, Articulo> resultado = articuloService.consultarArticulos(
+                Arrays.asList("TEST-001", "NOEXISTE-001", "TEST-001"));
+
+        // Assert
+        assertEquals(1, resultado.size());
+        assertSame(articuloValido, resultado.get("TEST-001"));
+        verify(articuloRepository, times(1)).findByCodigoIn(any());
+        verify(articuloRepository, never()).findByCodigo(anyString());
+    }
+
     @Test
     @DisplayName("RF6: Debe retornar Optional vacío si el artículo no existe")
     void testConsultarArticuloPorCodigoNoExistente() {
@@ -182,6 +296,44 @@ class ArticuloServiceTest {
         assertFalse(resultado.isPresent());
     }
 
+    @Test
+    @DisplayName("RNF2: La segunda consulta por código debe resolverse desde la caché")
+    void testConsultarArticuloPorCodigoUsaCache() {
+        // Arrange
+        when(articuloRepository.findByCodigo("TEST-001")).thenReturn(Optional.of(articuloValido));
+
+        // Act
+        articuloService.consultarArticuloPorCodigo("TEST-001");
+        Optional<Articulo> resultado = articuloService.consultarArticuloPorCodigo("TEST-001");
+
+        // Assert
+        assertTrue(resultado.isPresent());
+        verify(articuloRepository, times(1)).findByCodigo("TEST-001");
+        assertEquals(1, cacheArticulos.getAciertos());
+        assertEquals(1, cacheArticulos.getFallos());
+    }
+
+    @Test
+    @DisplayName("RNF2: Actualizar el stock debe invalidar la caché del artículo")
+    void testActualizarStockInvalidaCache() {
+        // Arrange
+        Articulo actualizado = Articulo.builder().id(1L).codigo("TEST-001").stockActual(100).build();
+        when(articuloRepository.findByCodigo("TEST-001"))
+                .thenReturn(Optional.of(articuloValido))
+                .thenReturn(Optional.of(articuloValido))
+                .thenReturn(Optional.of(actualizado));
+        when(articuloRepository.save(any(Articulo.class))).thenReturn(actualizado);
+        articuloService.consultarArticuloPorCodigo("TEST-001");
+
+        // Act
+        articuloService.actualizarStock("TEST-001", 100);
+        Optional<Articulo> resultado = articuloService.consultarArticuloPorCodigo("TEST-001");
+
+        // Assert
+        assertEquals(100, resultado.get().getStockActual());
+        assertEquals(0, cacheArticulos.getAciertos());
+    }
+
     @Test
     @DisplayName("RF4: Debe buscar artículos por nombre correctamente")
     void testBuscarArticulosPorNombre() {
@@ -198,6 +350,77 @@ class ArticuloServiceTest {
         assertTrue(resultados.get(0).getNombre().contains("Prueba"));
     }
 
+    @Test
+    @DisplayName("RF4: La búsqueda debe resolverse con el índice de trigramas en una sola consulta")
+    void testBuscarArticulosConIndice() {
+        // Arrange
+        Articulo taladro = Articulo.builder().id(2L).codigo("TALA-001").nombre("Taladro Eléctrico").activo(true).build();
+        indiceBusqueda.indexar(articuloValido);
+        indiceBusqueda.indexar(taladro);
+        indiceBusqueda.marcarCargado();
+        when(articuloRepository.findByIdInAndActivoTrue(List.of(2L))).thenReturn(List.of(taladro));
+
+        // Act
+        List<Articulo> porNombre = articuloService.buscarArticulos("electrico");
+
+        // Assert
+        assertEquals(1, porNombre.size());
+        assertEquals("TALA-001", porNombre.get(0).getCodigo());
+        assertEquals(List.of(1L), indiceBusqueda.buscar("test-0"));
+        verify(articuloRepository, never()).findByCodigoOrNombre(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("RF4: Los artículos eliminados deben salir del índice de búsqueda")
+    void testEliminarArticuloRetiraDelIndice() {
+        // Arrange
+        indiceBusqueda.indexar(articuloValido);
+        indiceBusqueda.marcarCargado();
+        when(articuloRepository.findById(1L)).thenReturn(Optional.of(articuloValido));
+
+        // Act
+        articuloService.eliminarArticulo(1L);
+
+        // Assert
+        assertTrue(indiceBusqueda.buscar("prueba").isEmpty());
+        assertTrue(articuloService.buscarArticulos("prueba").isEmpty());
+    }
+
+    @Test
+    @DisplayName("RF4: Un cambio confirmado antes no debe reindexar una versión vieja ni reponer un artículo dado de baja")
+    void testIndiceDescartaRevisionAnterior() {
+        // Arrange - La carga inicial leyó la fila en la revisión 1
+        articuloValido.setRevision(1L);
+        indiceBusqueda.indexar(articuloValido);
+        Articulo renombrado = Articulo.builder().id(1L).codigo("TEST-001").nombre("Martillo")
+                .activo(true).revision(2L).build();
+        Articulo desactivado = Articulo.builder().id(1L).codigo("TEST-001").nombre("Martillo")
+                .activo(false).revision(3L).build();
+
+        // Act - La baja (revisión 3) se aplica antes que el renombre (2) y que una relectura vieja (1)
+        indiceBusqueda.indexar(desactivado);
+        indiceBusqueda.indexar(renombrado);
+        indiceBusqueda.indexar(articuloValido);
+
+        // Assert
+        assertTrue(indiceBusqueda.buscar("martillo").isEmpty());
+        assertTrue(indiceBusqueda.buscar("prueba").isEmpty());
+        assertEquals(0, indiceBusqueda.tamanio());
+    }
+
+    @Test
+    @DisplayName("RF4: La búsqueda no debe devolver artículos desactivados aunque sigan en el índice")
+    void testBuscarArticulosFiltraInactivos() {
+        // Arrange - El índice aún no aplicó la baja y la consulta por IDs ya no devuelve la fila
+        indiceBusqueda.indexar(articuloValido);
+        indiceBusqueda.marcarCargado();
+        when(articuloRepository.findByIdInAndActivoTrue(List.of(1L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertTrue(articuloService.buscarArticulos("prueba").isEmpty());
+        verify(articuloRepository, never()).findAllById(any());
+    }
+
     // ==================== PRUEBAS DE ACTUALIZACIÓN ====================
 
     @Test
@@ -259,6 +482,156 @@ class ArticuloServiceTest {
         assertTrue(resultados.get(0).tieneStockBajo());
     }
 
+    @Test
+    @DisplayName("RF7: El registro de stock bajo debe seguir los cambios de stock sin consultar la tabla")
+    void testRegistroStockBajoIncremental() {
+        // Arrange - Registro cargado con un artículo que aún no tiene stock bajo (50 >= 10)
+        registroStockBajo.registrar(articuloValido);
+        registroStockBajo.marcarCargado();
+        Articulo tras = Articulo.builder()
+                .id(1L).codigo("TEST-001").nombre("Artículo de Prueba")
+                .stockActual(4).stockMinimo(10).activo(true).revision(1L)
+                .build();
+        when(articuloRepository.decrementarStock(eq("TEST-001"), eq(46), any(LocalDateTime.class))).thenReturn(1);
+        when(articuloRepository.incrementarStock(eq("TEST-001"), eq(20), any(LocalDateTime.class))).thenReturn(1);
+        when(articuloRepository.findEstadoStockByCodigo("TEST-001"))
+                .thenReturn(Optional.of(new EstadoStock(1L, 4, 1L)), Optional.of(new EstadoStock(1L, 24, 2L)));
+        when(articuloRepository.findByCodigo("TEST-001")).thenReturn(Optional.of(tras));
+
+        // Act & Assert - Entra en stock bajo
+        articuloService.decrementarStock("TEST-001", 46);
+        List<Articulo> bajos = articuloService.obtenerArticulosConStockBajo();
+        assertEquals(1, bajos.size());
+        assertEquals(4, bajos.get(0).getStockActual());
+        assertEquals(1, articuloService.contarArticulosConStockBajo());
+
+        // Act & Assert - Sale del stock bajo
+        articuloService.incrementarStock("TEST-001", 20);
+        assertTrue(articuloService.obtenerArticulosConStockBajo().isEmpty());
+        verify(articuloRepository, never()).findArticulosConStockBajo();
+    }
+
+    @Test
+    @DisplayName("RF7: El registro de stock bajo no debe volver a un stock confirmado antes")
+    void testRegistroStockBajoDescartaRevisionAnterior() {
+        // Arrange - Artículo con stock bajo (4 < 10) en la revisión 1
+        Articulo bajo = Articulo.builder()
+                .id(1L).codigo("TEST-001").nombre("Artículo de Prueba")
+                .stockActual(4).stockMinimo(10).activo(true).revision(1L)
+                .build();
+        registroStockBajo.registrar(bajo);
+        registroStockBajo.marcarCargado();
+
+        // Act - La reposición (revisión 3) se aplica antes que la venta anterior (revisión 2)
+        registroStockBajo.actualizarStock("TEST-001", 24, 3L, Optional::empty);
+        registroStockBajo.actualizarStock("TEST-001", 3, 2L, Optional::empty);
+        registroStockBajo.registrar(bajo);
+
+        // Assert - Sigue fuera del stock bajo
+        assertEquals(0, articuloService.contarArticulosConStockBajo());
+        verify(articuloRepository, never()).findByCodigo(anyString());
+    }
+
+    @Test
+    @DisplayName("RF7: Un cambio de stock dentro del stock bajo reemplaza la copia sin alterar las ya leídas")
+    void testRegistroStockBajoReemplazaCopia() {
+        // Arrange - Artículo con stock bajo (4 < 10) en la revisión 1
+        Articulo bajo = Articulo.builder()
+                .id(1L).codigo("TEST-001").nombre("Artículo de Prueba")
+                .stockActual(4).stockMinimo(10).activo(true).revision(1L)
+                .build();
+        registroStockBajo.registrar(bajo);
+        registroStockBajo.marcarCargado();
+        Articulo leidoAntes = registroStockBajo.obtener().get(0);
+
+        // Act - Nueva venta que lo deja aún en stock bajo
+        registroStockBajo.actualizarStock("TEST-001", 2, 2L, Optional::empty);
+
+        // Assert
+        assertEquals(2, registroStockBajo.obtener().get(0).getStockActual());
+        assertEquals(4, leidoAntes.getStockActual());
+        assertEquals(4, bajo.getStockActual());
+    }
+
+    @Test
+    @DisplayName("RNF2: La valoración por categoría debe aplicar los cambios de stock como deltas")
+    void testResumenInventarioPorDeltas() {
+        // Arrange - 50 unidades a 10.00 / 15.00
+        agregadoInventario.registrar(articuloValido);
+        agregadoInventario.marcarCargado();
+        when(articuloRepository.decrementarStock(eq("TEST-001"), eq(20), any(LocalDateTime.class))).thenReturn(1);
+        when(articuloRepository.findEstadoStockByCodigo("TEST-001")).thenReturn(Optional.of(new EstadoStock(1L, 30, 1L)));
+
+        // Act
+        articuloService.decrementarStock("TEST-001", 20);
+        List<ResumenCategoria> resumen = articuloService.obtenerResumenInventario();
+
+        // Assert - 30 unidades restantes
+        assertEquals(1, resumen.size());
+        assertEquals("Pruebas", resumen.get(0).getCategoria());
+        assertEquals(30, resumen.get(0).getStockTotal());
+        assertEquals(0, new BigDecimal("300.00").compareTo(resumen.get(0).getValorCompra()));
+        assertEquals(0, new BigDecimal("150.00").compareTo(resumen.get(0).getUtilidadPotencial()));
+        verify(articuloRepository, never()).calcularResumenInventario();
+    }
+
+    @Test
+    @DisplayName("RNF2: Un cambio de stock confirmado antes no debe pisar uno más reciente")
+    void testAgregadoDescartaRevisionAnterior() {
+        // Arrange - La carga inicial leyó la fila en la revisión 1
+        articuloValido.setRevision(1L);
+        agregadoInventario.registrar(articuloValido);
+        agregadoInventario.marcarCargado();
+
+        // Act - Dos ventas confirmadas (revisiones 2 y 3) aplican sus cambios en orden inverso
+        agregadoInventario.actualizarStock("TEST-001", 40, 3L, Optional::empty);
+        agregadoInventario.actualizarStock("TEST-001", 45, 2L, Optional::empty);
+        agregadoInventario.registrar(articuloValido);
+
+        // Assert - Queda el valor de la revisión 3
+        assertEquals(Optional.of(40), articuloService.consultarStockActual("TEST-001"));
+        assertEquals(40, agregadoInventario.obtener().get(0).getStockTotal());
+    }
+
+    @Test
+    @DisplayName("RF7: La consulta de stock de artículos activos no debe ir a la base de datos")
+    void testConsultarStockActualDesdeMemoria() {
+        // Arrange
+        agregadoInventario.registrar(articuloValido);
+        agregadoInventario.marcarCargado();
+        when(articuloRepository.findStockActualByCodigo("NOEXISTE-001")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertEquals(Optional.of(50), articuloService.consultarStockActual("TEST-001"));
+        assertFalse(articuloService.consultarStockActual("NOEXISTE-001").isPresent());
+        verify(articuloRepository, never()).findStockActualByCodigo("TEST-001");
+        verify(articuloRepository, never()).findByCodigo(anyString());
+    }
+
+    @Test
+    @DisplayName("RNF2: El total de artículos activos de la página principal no debe ir a la base de datos")
+    void testContarArticulosActivosDesdeMemoria() {
+        // Arrange - Un artículo activo y otro dado de baja
+        Articulo inactivo = Articulo.builder()
+                .id(2L)
+                .codigo("TEST-002")
+                .nombre("Artículo Desactivado")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("10.00"))
+                .precioVenta(new BigDecimal("15.00"))
+                .stockActual(5)
+                .stockMinimo(1)
+                .activo(false)
+                .build();
+        agregadoInventario.registrar(articuloValido);
+        agregadoInventario.registrar(inactivo);
+        agregadoInventario.marcarCargado();
+
+        // Act & Assert
+        assertEquals(1, articuloService.contarArticulosActivos());
+        verify(articuloRepository, never()).countByActivoTrue();
+    }
+
     @Test
     @DisplayName("RF7: Debe actualizar el stock de un artículo")
     void testActualizarStock() {
@@ -286,6 +659,52 @@ class ArticuloServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("RF7: Decrementar stock debe distinguir stock insuficiente de artículo inexistente")
+    void testDecrementarStockInsuficiente() {
+        // Arrange - El UPDATE condicional no afecta filas pero el artículo existe
+        when(articuloRepository.decrementarStock(eq("TEST-001"), eq(80), any(LocalDateTime.class))).thenReturn(0);
+        when(articuloRepository.findStockActualActivoByCodigo("TEST-001")).thenReturn(Optional.of(50));
+
+        // Act & Assert
+        StockInsuficienteException exception = assertThrows(StockInsuficienteException.class, () -> {
+            articuloService.decrementarStock("TEST-001", 80);
+        });
+        assertEquals(50, exception.getStockDisponible());
+        verify(articuloRepository, never()).save(any(Articulo.class));
+    }
+
+    @Test
+    @DisplayName("RF7: Decrementar stock de un artículo desactivado debe informarlo como no encontrado")
+    void testDecrementarStockArticuloInactivo() {
+        // Arrange - El UPDATE filtra por activo y la fila existe, pero desactivada
+        when(articuloRepository.decrementarStock(eq("TEST-001"), eq(5), any(LocalDateTime.class))).thenReturn(0);
+        when(articuloRepository.findStockActualActivoByCodigo("TEST-001")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ArticuloNoEncontradoException.class, () -> {
+            articuloService.decrementarStock("TEST-001", 5);
+        });
+        verify(articuloRepository, never()).findStockActualByCodigo(anyString());
+    }
+
+    @Test
+    @DisplayName("RF7: Decrementar stock debe retornar el nuevo nivel")
+    void testDecrementarStock() {
+        // Arrange - Artículo ya registrado en memoria, como tras la carga inicial
+        registroStockBajo.registrar(articuloValido);
+        agregadoInventario.registrar(articuloValido);
+        when(articuloRepository.decrementarStock(eq("TEST-001"), eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(articuloRepository.findEstadoStockByCodigo("TEST-001")).thenReturn(Optional.of(new EstadoStock(1L, 45, 1L)));
+
+        // Act
+        int nuevoStock = articuloService.decrementarStock("TEST-001", 5);
+
+        // Assert
+        assertEquals(45, nuevoStock);
+        verify(articuloRepository, never()).findByCodigo(anyString());
+    }
+
     // ==================== PRUEBAS DE VALIDACIÓN ====================
 
     @Test
@@ -316,6 +735,69 @@ class ArticuloServiceTest {
         assertEquals(1, resultados.size());
     }
 
+    @Test
+    @DisplayName("RNF2: La paginación keyset debe retornar el cursor de la siguiente página")
+    void testObtenerPaginaArticulosConSiguiente() {
+        // Arrange - Se piden 2 artículos, el repositorio retorna 3 (uno extra)
+        ArticuloResumen segundo = ArticuloResumen.desde(Articulo.builder().id(2L).codigo("TEST-002").build());
+        ArticuloResumen tercero = ArticuloResumen.desde(Articulo.builder().id(3L).codigo("TEST-003").build());
+        when(articuloRepository.findResumenActivos(any(Pageable.class)))
+                .thenReturn(Arrays.asList(ArticuloResumen.desde(articuloValido), segundo, tercero));
+
+        // Act
+        PaginaArticulos pagina = articuloService.obtenerPaginaArticulos(null, 2, OrdenArticulos.ID_ASC);
+
+        // Assert
+        assertEquals(2, pagina.getArticulos().size());
+        assertTrue(pagina.hayMas());
+        assertEquals("2", pagina.getSiguienteCursor());
+    }
+
+    @Test
+    @DisplayName("RNF2: La paginación keyset por código debe buscar a partir del cursor")
+    void testObtenerPaginaArticulosPorCodigoDesdeCursor() {
+        // Arrange
+        when(articuloRepository.findResumenActivosConCodigoMayorA(eq("TEST-000"), any(Pageable.class)))
+                .thenReturn(Arrays.asList(ArticuloResumen.desde(articuloValido)));
+
+        // Act
+        PaginaArticulos pagina = articuloService.obtenerPaginaArticulos("TEST-000", 10, OrdenArticulos.CODIGO_ASC);
+
+        // Assert
+        assertEquals(1, pagina.getArticulos().size());
+        assertFalse(pagina.hayMas());
+        verify(articuloRepository, never()).findByActivoTrue();
+    }
+
+    @Test
+    @DisplayName("RNF2: El feed de cambios debe continuar desde la posición del token")
+    void testObtenerCambiosDesdeContinuaConToken() {
+        // Arrange - Se piden 2 cambios, el repositorio retorna 3 (uno extra); el segundo es una baja
+        LocalDateTime fecha = LocalDateTime.of(2026, 10, 1, 9, 30, 15);
+        articuloValido.setFechaActualizacion(fecha);
+        Articulo desactivado = Articulo.builder().id(7L).codigo("TEST-007").activo(false)
+                .fechaActualizacion(fecha.plusSeconds(1)).build();
+        Articulo tercero = Articulo.builder().id(3L).codigo("TEST-003")
+                .fechaActualizacion(fecha.plusSeconds(2)).build();
+        when(articuloRepository.findCambiosDesde(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(articuloValido, desactivado, tercero))
+                .thenReturn(List.of());
+
+        // Act
+        PaginaCambios primera = articuloService.obtenerCambiosDesde(fecha.minusDays(1), null, 2);
+        PaginaCambios segunda = articuloService.obtenerCambiosDesde(null, primera.getToken(), 2);
+
+        // Assert - La segunda página parte del último cambio entregado (fecha, id)
+        assertEquals(2, primera.getArticulos().size());
+        assertTrue(primera.hayMas());
+        assertFalse(primera.getArticulos().get(1).getActivo());
+        assertFalse(segunda.hayMas());
+        assertEquals(primera.getToken(), segunda.getToken());
+        verify(articuloRepository).findCambiosDesde(eq(fecha.minusDays(1)), eq(Long.MAX_VALUE), any(), any(Pageable.class));
+        verify(articuloRepository).findCambiosDesde(eq(fecha.plusSeconds(1)), eq(7L), any(), any(Pageable.class));
+        assertThrows(ValidationException.class, () -> articuloService.obtenerCambiosDesde(null, "no-es-un-token", 2));
+    }
+
     @Test
     @DisplayName("RF1: Debe eliminar (desactivar) un artículo")
     void testEliminarArticulo() {
@@ -1,18 +1,56 @@
 package com.ferreteria.inventario.soap;
 
+import com.ferreteria.inventario.entity.Articulo;
+import com.ferreteria.inventario.entity.EstadoImportacion;
+import com.ferreteria.inventario.entity.ImportacionArticulos;
+import com.ferreteria.inventario.entity.LineaImportacion;
+import com.ferreteria.inventario.repository.ArticuloRepository;
+import com.ferreteria.inventario.repository.ImportacionRepository;
+import com.ferreteria.inventario.repository.LineaImportacionRepository;
 import com.ferreteria.inventario.service.ArticuloService;
+import com.ferreteria.inventario.service.ImportacionServiceImpl;
+import com.ferreteria.inventario.service.ResumenCategoria;
 import com.ferreteria.inventario.soap.dto.ArticuloRequest;
 import com.ferreteria.inventario.soap.dto.ArticuloResponse;
+import com.ferreteria.inventario.soap.dto.CambiosArticulosResponse;
+import com.ferreteria.inventario.soap.dto.ConsultaArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ExportacionInventarioResponse;
+import com.ferreteria.inventario.soap.dto.GuardarArticuloResponse;
+import com.ferreteria.inventario.soap.dto.ImportacionResponse;
+import com.ferreteria.inventario.soap.dto.ResultadoInsercionResponse;
+import com.ferreteria.inventario.soap.dto.ResumenCategoriaResponse;
+import com.ferreteria.inventario.soap.dto.SolicitudStockRequest;
+import com.ferreteria.inventario.soap.dto.VerificacionStockResponse;
+import com.ferreteria.inventario.soap.jaxws.ConsultarArticuloResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.xml.ws.Response;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +71,21 @@ class ArticuloSoapServiceTest {
     @Autowired
     private ArticuloService articuloService;
 
+    @Autowired
+    private ArticuloRepository articuloRepository;
+
+    @Autowired
+    private ImportacionServiceImpl importacionService;
+
+    @Autowired
+    private ImportacionRepository importacionRepository;
+
+    @Autowired
+    private LineaImportacionRepository lineaImportacionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private ArticuloRequest articuloRequestValido;
     private static int testCounter = 0;
 
@@ -183,6 +236,42 @@ class ArticuloSoapServiceTest {
         assertEquals("VALIDACION", exception.getFaultInfo().getCodigoError());
     }
 
+    @Test
+    @DisplayName("RF5: La inserción por lotes debe reportar el resultado de cada artículo")
+    void testInsertarArticulosPorLotesSOAP() throws ArticuloSoapFault {
+        // Arrange - 1200 artículos (3 bloques), uno inválido y uno repetido dentro del lote
+        List<ArticuloRequest> lote = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            lote.add(ArticuloRequest.builder()
+                    .codigo(String.format("LOTE-%d-%04d", testCounter, i))
+                    .nombre("Artículo de lote " + i)
+                    .categoria("Pruebas")
+                    .precioCompra(new BigDecimal("10.00"))
+                    .precioVenta(new BigDecimal("15.00"))
+                    .stockActual(5)
+                    .stockMinimo(1)
+                    .build());
+        }
+        lote.get(10).setPrecioVenta(new BigDecimal("5.00"));
+        lote.get(700).setCodigo(lote.get(699).getCodigo());
+
+        // Act
+        List<ResultadoInsercionResponse> resultados = articuloSoapService.insertarArticulos(lote);
+
+        // Assert
+        assertEquals(1200, resultados.size());
+        assertEquals("VALIDACION", resultados.get(10).getCodigoError());
+        assertEquals("DUPLICADO", resultados.get(700).getCodigoError());
+        assertEquals(1198, resultados.stream().filter(ResultadoInsercionResponse::getExitoso).count());
+        assertNotNull(resultados.get(1199).getId());
+        assertTrue(articuloService.existeArticuloConCodigo(lote.get(1199).getCodigo()));
+
+        // Reenviar el mismo lote: todos deben marcarse como duplicados con una consulta IN por bloque
+        List<ResultadoInsercionResponse> reenvio = articuloSoapService.insertarArticulos(lote.subList(0, 5));
+        assertTrue(reenvio.stream().noneMatch(ResultadoInsercionResponse::getExitoso));
+        assertEquals("DUPLICADO", reenvio.get(0).getCodigoError());
+    }
+
     // ==================== PRUEBAS DE CONSULTA SOAP ====================
 
     @Test
@@ -323,6 +412,52 @@ class ArticuloSoapServiceTest {
         assertEquals("NO_ENCONTRADO", exception.getFaultInfo().getCodigoError());
     }
 
+    @Test
+    @DisplayName("RF5: Guardar por código debe crear, no modificar si los datos se repiten y actualizar si cambian")
+    @Transactional
+    void testGuardarArticuloSOAPIdempotente() throws ArticuloSoapFault {
+        // Arrange - Sin proveedor, para que la comparación de campos nulos también se ejerza
+        articuloRequestValido.setProveedor(null);
+
+        // Act & Assert - Primer envío: se crea
+        GuardarArticuloResponse creado = articuloSoapService.guardarArticulo(articuloRequestValido);
+        assertEquals("CREADO", creado.getResultado());
+        assertNotNull(creado.getArticulo().getId());
+        assertTrue(creado.getArticulo().getActivo());
+        LocalDateTime fechaCreacion = articuloRepository.findByCodigo(articuloRequestValido.getCodigo())
+                .orElseThrow().getFechaActualizacion();
+
+        // Reenvío idéntico: no se escribe la fila ni cambia la fecha de actualización
+        GuardarArticuloResponse repetido = articuloSoapService.guardarArticulo(articuloRequestValido);
+        assertEquals("SIN_CAMBIOS", repetido.getResultado());
+        assertEquals(creado.getArticulo().getId(), repetido.getArticulo().getId());
+        assertEquals(fechaCreacion, articuloRepository.findByCodigo(articuloRequestValido.getCodigo())
+                .orElseThrow().getFechaActualizacion());
+
+        // Cambio de precio: se actualiza sobre el mismo artículo
+        articuloRequestValido.setPrecioVenta(new BigDecimal("16.50"));
+        GuardarArticuloResponse actualizado = articuloSoapService.guardarArticulo(articuloRequestValido);
+        assertEquals("ACTUALIZADO", actualizado.getResultado());
+        assertEquals(creado.getArticulo().getId(), actualizado.getArticulo().getId());
+        assertEquals(0, new BigDecimal("16.50").compareTo(actualizado.getArticulo().getPrecioVenta()));
+        assertTrue(articuloRepository.findByCodigo(articuloRequestValido.getCodigo())
+                .orElseThrow().getFechaActualizacion().isAfter(fechaCreacion));
+    }
+
+    @Test
+    @DisplayName("RF10: Guardar un artículo con precios incoherentes debe lanzar SOAP Fault")
+    void testGuardarArticuloInvalidoSOAPFault() {
+        // Arrange
+        articuloRequestValido.setPrecioVenta(new BigDecimal("5.00"));
+
+        // Act & Assert
+        ArticuloSoapFault exception = assertThrows(ArticuloSoapFault.class, () ->
+                articuloSoapService.guardarArticulo(articuloRequestValido));
+
+        assertEquals("VALIDACION", exception.getFaultInfo().getCodigoError());
+        assertFalse(articuloService.existeArticuloConCodigo(articuloRequestValido.getCodigo()));
+    }
+
     // ==================== PRUEBAS DE VERIFICACIÓN DE STOCK ====================
 
     @Test
@@ -376,6 +511,450 @@ class ArticuloSoapServiceTest {
         assertEquals("NO_ENCONTRADO", exception.getFaultInfo().getCodigoError());
     }
 
+    @Test
+    @DisplayName("RF6: Consulta por lote reporta cada código sin fallar por los inexistentes")
+    void testConsultarArticulosPorLoteSOAP() throws ArticuloSoapFault {
+        // Arrange
+        articuloSoapService.insertarArticulo(articuloRequestValido);
+        String codigo = articuloRequestValido.getCodigo();
+
+        // Act
+        List<ConsultaArticuloResponse> resultados = articuloSoapService.consultarArticulos(
+                List.of(codigo, "CODIGO-INEXISTENTE-999", codigo));
+
+        // Assert
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.get(0).getEncontrado());
+        assertEquals(codigo, resultados.get(0).getArticulo().getCodigo());
+        assertFalse(resultados.get(1).getEncontrado());
+        assertNull(resultados.get(1).getArticulo());
+        assertEquals("CODIGO-INEXISTENTE-999", resultados.get(1).getCodigo());
+        assertTrue(resultados.get(2).getEncontrado());
+    }
+
+    @Test
+    @DisplayName("RF7: Verificación de stock por lote compara cada cantidad solicitada")
+    void testVerificarStockLoteSOAP() throws ArticuloSoapFault {
+        // Arrange
+        articuloSoapService.insertarArticulo(articuloRequestValido);
+        String codigo = articuloRequestValido.getCodigo();
+        int stock = articuloRequestValido.getStockActual();
+
+        // Act
+        List<VerificacionStockResponse> resultados = articuloSoapService.verificarStockLote(List.of(
+                new SolicitudStockRequest(codigo, stock),
+                new SolicitudStockRequest(codigo, stock + 1),
+                new SolicitudStockRequest("CODIGO-INEXISTENTE-999", 1)));
+
+        // Assert
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.get(0).getDisponible());
+        assertEquals(stock, resultados.get(0).getStockActual());
+        assertTrue(resultados.get(1).getEncontrado());
+        assertFalse(resultados.get(1).getDisponible());
+        assertFalse(resultados.get(2).getEncontrado());
+        assertFalse(resultados.get(2).getDisponible());
+    }
+
+    @Test
+    @DisplayName("RF7: Un lote vacío debe generar SOAP Fault de validación")
+    void testVerificarStockLoteVacioSOAPFault() {
+        ArticuloSoapFault exception = assertThrows(ArticuloSoapFault.class, () ->
+                articuloSoapService.verificarStockLote(List.of()));
+
+        assertEquals("VALIDACION", exception.getFaultInfo().getCodigoError());
+    }
+
+    // ==================== PRUEBAS DE BÚSQUEDA SOAP ====================
+
+    @Test
+    @DisplayName("RF4: La búsqueda por texto libre debe ordenar por relevancia")
+    @Transactional
+    void testBuscarArticulosPorRelevanciaSOAP() throws ArticuloSoapFault {
+        // Arrange - Un artículo coincide en nombre y descripción, otro solo en descripción
+        articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                .codigo("SOAP-REL-A" + testCounter)
+                .nombre("Arandela plana")
+                .descripcion("Arandela de acero galvanizado")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("1.00"))
+                .precioVenta(new BigDecimal("2.00"))
+                .stockActual(10)
+                .stockMinimo(1)
+                .build());
+        articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                .codigo("SOAP-REL-B" + testCounter)
+                .nombre("Tornillo galvanizado")
+                .descripcion("Tornillo galvanizado de 2 pulgadas")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("1.00"))
+                .precioVenta(new BigDecimal("2.00"))
+                .stockActual(10)
+                .stockMinimo(1)
+                .build());
+
+        // Act
+        List<ArticuloResponse> resultados = articuloSoapService.buscarArticulos("tornillo galvanizado", 10);
+
+        // Assert
+        assertEquals(2, resultados.size());
+        assertEquals("SOAP-REL-B" + testCounter, resultados.get(0).getCodigo());
+    }
+
+    @Test
+    @DisplayName("RF4: La búsqueda por relevancia debe incluir artículos que coinciden con cualquier término")
+    @Transactional
+    void testBuscarArticulosPorCualquierTerminoSOAP() throws ArticuloSoapFault {
+        // Arrange - Ninguno de los dos contiene el término más largo ("galvanizado")
+        articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                .codigo("SOAP-TER-A" + testCounter)
+                .nombre("Tornillo para madera")
+                .descripcion("Tornillo de cabeza plana")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("1.00"))
+                .precioVenta(new BigDecimal("2.00"))
+                .stockActual(10)
+                .stockMinimo(1)
+                .build());
+        articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                .codigo("SOAP-TER-B" + testCounter)
+                .nombre("Brocha")
+                .descripcion("Brocha para pintar tornillo y tuerca")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("1.00"))
+                .precioVenta(new BigDecimal("2.00"))
+                .stockActual(10)
+                .stockMinimo(1)
+                .build());
+
+        // Act
+        List<ArticuloResponse> resultados = articuloSoapService.buscarArticulos("tornillo galvanizado", 10);
+
+        // Assert - Aparecen ambos, primero el que coincide en el nombre
+        List<String> codigos = resultados.stream().map(ArticuloResponse::getCodigo).toList();
+        assertTrue(codigos.contains("SOAP-TER-A" + testCounter));
+        assertTrue(codigos.contains("SOAP-TER-B" + testCounter));
+        assertTrue(codigos.indexOf("SOAP-TER-A" + testCounter) < codigos.indexOf("SOAP-TER-B" + testCounter));
+    }
+
+    @Test
+    @DisplayName("RF10: La búsqueda sin texto debe lanzar SOAP Fault de validación")
+    void testBuscarArticulosSinTextoSOAPFault() {
+        ArticuloSoapFault exception = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.buscarArticulos("  ", 10);
+        });
+
+        assertEquals("VALIDACION", exception.getFaultInfo().getCodigoError());
+    }
+
+    // ==================== PRUEBAS DE STOCK ATÓMICO ====================
+
+    @Test
+    @DisplayName("RF7: 64 escritores concurrentes no deben perder actualizaciones de stock")
+    void testDecrementarStockConcurrenteSinPerdidas() throws Exception {
+        // Arrange - Sin @Transactional: cada operación confirma su propia transacción
+        int escritores = 64;
+        int ventasPorEscritor = 10;
+        ArticuloRequest request = ArticuloRequest.builder()
+                .codigo("SOAP-CONC-" + testCounter)
+                .nombre("Artículo Concurrencia")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("10.00"))
+                .precioVenta(new BigDecimal("15.00"))
+                .stockActual(1000)
+                .stockMinimo(10)
+                .build();
+        articuloSoapService.insertarArticulo(request);
+
+        // Act
+        ejecutarEnParalelo(escritores, () -> {
+            for (int i = 0; i < ventasPorEscritor; i++) {
+                articuloSoapService.decrementarStock(request.getCodigo(), 1);
+            }
+            return null;
+        });
+
+        // Assert
+        assertEquals(1000 - escritores * ventasPorEscritor,
+                articuloSoapService.consultarArticulo(request.getCodigo()).getStockActual());
+    }
+
+    @Test
+    @DisplayName("RF7: Con stock limitado solo deben confirmarse las ventas que alcanzan")
+    void testDecrementarStockConcurrenteInsuficiente() throws Exception {
+        // Arrange - 32 unidades para 64 compradores concurrentes
+        ArticuloRequest request = ArticuloRequest.builder()
+                .codigo("SOAP-INSUF-" + testCounter)
+                .nombre("Artículo Escaso")
+                .categoria("Pruebas")
+                .precioCompra(new BigDecimal("10.00"))
+                .precioVenta(new BigDecimal("15.00"))
+                .stockActual(32)
+                .stockMinimo(1)
+                .build();
+        articuloSoapService.insertarArticulo(request);
+        AtomicInteger rechazadas = new AtomicInteger();
+
+        // Act
+        ejecutarEnParalelo(64, () -> {
+            try {
+                articuloSoapService.decrementarStock(request.getCodigo(), 1);
+            } catch (ArticuloSoapFault e) {
+                assertEquals("STOCK_INSUFICIENTE", e.getFaultInfo().getCodigoError());
+                rechazadas.incrementAndGet();
+            }
+            return null;
+        });
+
+        // Assert
+        assertEquals(32, rechazadas.get());
+        assertEquals(0, articuloSoapService.consultarArticulo(request.getCodigo()).getStockActual());
+    }
+
+    @Test
+    @DisplayName("RF7: Incrementar stock debe retornar el nuevo nivel")
+    @Transactional
+    void testIncrementarStockSOAP() throws ArticuloSoapFault {
+        // Arrange
+        articuloSoapService.insertarArticulo(articuloRequestValido);
+
+        // Act
+        int nuevoStock = articuloSoapService.incrementarStock(articuloRequestValido.getCodigo(), 5);
+
+        // Assert
+        assertEquals(55, nuevoStock);
+    }
+
+    @Test
+    @DisplayName("RF10: Decrementar stock de un artículo inexistente debe lanzar NO_ENCONTRADO")
+    void testDecrementarStockArticuloInexistenteSOAPFault() {
+        ArticuloSoapFault exception = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.decrementarStock("CODIGO-INEXISTENTE-999", 1);
+        });
+
+        assertEquals("NO_ENCONTRADO", exception.getFaultInfo().getCodigoError());
+    }
+
+    @Test
+    @DisplayName("RF10: Mover el stock de un artículo desactivado debe lanzar NO_ENCONTRADO sin modificarlo")
+    void testMoverStockArticuloDesactivadoSOAPFault() throws ArticuloSoapFault {
+        // Arrange
+        ArticuloResponse insertado = articuloSoapService.insertarArticulo(articuloRequestValido);
+        articuloService.eliminarArticulo(insertado.getId());
+        articuloRepository.flush();
+
+        // Act & Assert
+        ArticuloSoapFault incremento = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.incrementarStock(insertado.getCodigo(), 5);
+        });
+        ArticuloSoapFault decremento = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.decrementarStock(insertado.getCodigo(), 1);
+        });
+        assertEquals("NO_ENCONTRADO", incremento.getFaultInfo().getCodigoError());
+        assertEquals("NO_ENCONTRADO", decremento.getFaultInfo().getCodigoError());
+        assertEquals(50, articuloRepository.findStockActualByCodigo(insertado.getCodigo()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("RNF2: Incrementar la revisión no debe reemplazar la fecha de actualización con el reloj de la base")
+    void testIncrementarRevisionConservaFechaActualizacion() throws ArticuloSoapFault {
+        // Arrange - Como schema.sql en MySQL, la columna tiene ON UPDATE; una fecha fija delata si se aplica
+        ArticuloResponse insertado = articuloSoapService.insertarArticulo(articuloRequestValido);
+        Articulo articulo = articuloRepository.findByCodigo(insertado.getCodigo()).orElseThrow();
+        articulo.setNombre("Artículo de Prueba SOAP modificado");
+        jdbcTemplate.execute("ALTER TABLE articulos ALTER COLUMN fecha_actualizacion "
+                + "SET ON UPDATE TIMESTAMP '2000-01-01 00:00:00'");
+        try {
+            // Act - La entidad escribe la fecha de la JVM y luego se incrementa la revisión
+            Articulo actualizado = articuloService.actualizarArticulo(articulo);
+
+            // Assert - La fila conserva la fecha escrita por la entidad
+            Articulo guardado = articuloRepository.findByCodigo(insertado.getCodigo()).orElseThrow();
+            assertEquals(actualizado.getRevision(), guardado.getRevision());
+            assertEquals(actualizado.getFechaActualizacion().truncatedTo(ChronoUnit.MILLIS),
+                    guardado.getFechaActualizacion().truncatedTo(ChronoUnit.MILLIS));
+            assertTrue(guardado.getFechaActualizacion().getYear() > 2000);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE articulos ALTER COLUMN fecha_actualizacion DROP ON UPDATE");
+        }
+    }
+
+    // ==================== PRUEBAS DE IMPORTACIÓN EN SEGUNDO PLANO ====================
+
+    @Test
+    @DisplayName("RF5: La importación debe procesarse en segundo plano e informar avance y rechazos")
+    void testImportacionEnSegundoPlanoSOAP() throws Exception {
+        // Arrange - Un artículo ya existente, tres nuevos y uno inválido
+        articuloSoapService.insertarArticulo(articuloRequestValido);
+        List<ArticuloRequest> lineas = new ArrayList<>();
+        ArticuloRequest existente = ArticuloRequest.builder()
+                .codigo(articuloRequestValido.getCodigo()).nombre("Artículo Importado")
+                .categoria("Pruebas").precioCompra(new BigDecimal("11.00")).precioVenta(new BigDecimal("16.00"))
+                .stockActual(70).stockMinimo(10).build();
+        lineas.add(existente);
+        for (int i = 1; i <= 3; i++) {
+            lineas.add(ArticuloRequest.builder()
+                    .codigo("IMP-" + testCounter + "-" + i).nombre("Artículo Importado " + i)
+                    .categoria("Pruebas").precioCompra(new BigDecimal("1.00")).precioVenta(new BigDecimal("2.00"))
+                    .stockActual(5).stockMinimo(1).build());
+        }
+        lineas.add(ArticuloRequest.builder().codigo("IMP-" + testCounter + "-X").nombre("Sin precios")
+                .categoria("Pruebas").stockActual(5).stockMinimo(1).build());
+
+        // Act
+        ImportacionResponse iniciada = articuloSoapService.iniciarImportacion(lineas);
+        ImportacionResponse terminada = esperarImportacion(iniciada.getIdImportacion());
+
+        // Assert
+        assertEquals(5, iniciada.getTotalLineas());
+        assertEquals("COMPLETADA", terminada.getEstado());
+        assertEquals(100, terminada.getPorcentaje());
+        assertEquals(3, terminada.getInsertados());
+        assertEquals(1, terminada.getActualizados());
+        assertEquals(1, terminada.getRechazados());
+        assertEquals(4, terminada.getRechazos().get(0).getIndice());
+        assertEquals("VALIDACION", terminada.getRechazos().get(0).getCodigoError());
+        assertEquals(new BigDecimal("16.00"),
+                articuloSoapService.consultarArticulo(existente.getCodigo()).getPrecioVenta());
+        assertEquals("Artículo Importado 3",
+                articuloSoapService.consultarArticulo("IMP-" + testCounter + "-3").getNombre());
+    }
+
+    @Test
+    @DisplayName("RF5: Una importación interrumpida debe reanudarse desde el primer bloque sin confirmar")
+    void testImportacionSeReanudaDesdeUltimoBloque() throws Exception {
+        // Arrange - Importación de 5 líneas cuyo primer bloque (2 líneas) quedó confirmado antes de un reinicio
+        ImportacionArticulos importacion = importacionRepository.save(ImportacionArticulos.builder()
+                .estado(EstadoImportacion.EN_PROCESO).origen("SOAP").totalLineas(5)
+                .lineasProcesadas(2).insertados(2).build());
+        List<LineaImportacion> lineas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lineas.add(LineaImportacion.builder()
+                    .importacionId(importacion.getId()).numero(i)
+                    .codigo("REANUDA-" + testCounter + "-" + i).nombre("Artículo Reanudado " + i)
+                    .categoria("Pruebas").precioCompra(new BigDecimal("1.00")).precioVenta(new BigDecimal("2.00"))
+                    .stockActual(5).stockMinimo(1).build());
+        }
+        lineaImportacionRepository.saveAll(lineas);
+
+        // Act
+        importacionService.reanudarImportaciones();
+        ImportacionResponse terminada = esperarImportacion(importacion.getId());
+
+        // Assert - Solo se importan las líneas pendientes y las importadas se eliminan
+        assertEquals("COMPLETADA", terminada.getEstado());
+        assertEquals(5, terminada.getInsertados());
+        assertFalse(articuloService.existeArticuloConCodigo("REANUDA-" + testCounter + "-1"));
+        assertTrue(articuloService.existeArticuloConCodigo("REANUDA-" + testCounter + "-2"));
+        assertTrue(articuloService.existeArticuloConCodigo("REANUDA-" + testCounter + "-4"));
+        assertEquals(0, lineaImportacionRepository.count());
+    }
+
+    @Test
+    @DisplayName("RF10: Importar una lista vacía o consultar una importación inexistente debe lanzar un fault")
+    void testImportacionInvalidaSOAPFault() {
+        ArticuloSoapFault vacia = assertThrows(ArticuloSoapFault.class,
+                () -> articuloSoapService.iniciarImportacion(List.of()));
+        ArticuloSoapFault inexistente = assertThrows(ArticuloSoapFault.class,
+                () -> articuloSoapService.consultarEstadoImportacion(999999L));
+
+        assertEquals("VALIDACION", vacia.getFaultInfo().getCodigoError());
+        assertEquals("NO_ENCONTRADO", inexistente.getFaultInfo().getCodigoError());
+    }
+
+    /**
+     * Consulta el estado de la importación hasta que termine (máximo 30 s)
+     */
+    private ImportacionResponse esperarImportacion(Long id) throws Exception {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        ImportacionResponse estado;
+        do {
+            Thread.sleep(50);
+            estado = articuloSoapService.consultarEstadoImportacion(id);
+        } while (!"COMPLETADA".equals(estado.getEstado()) && !"FALLIDA".equals(estado.getEstado())
+                && System.nanoTime() < limite);
+        return estado;
+    }
+
+    // ==================== PRUEBAS DEL FEED DE CAMBIOS SOAP ====================
+
+    @Test
+    @DisplayName("RNF2: El feed de cambios debe recorrerse por token e incluir los artículos desactivados")
+    @Transactional
+    void testObtenerCambiosDesdePorTokenSOAP() throws ArticuloSoapFault {
+        // Arrange - 3 artículos, uno de ellos desactivado
+        List<String> codigos = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            articuloRequestValido.setCodigo("CAMBIO-" + testCounter + "-" + i);
+            ArticuloResponse insertado = articuloSoapService.insertarArticulo(articuloRequestValido);
+            codigos.add(insertado.getCodigo());
+            ids.add(insertado.getId());
+        }
+        Long idDesactivado = ids.get(2);
+        articuloService.eliminarArticulo(idDesactivado);
+        articuloRepository.flush();
+
+        // Act - Recorrer el feed completo de 2 en 2
+        List<ArticuloResponse> cambios = new ArrayList<>();
+        String token = null;
+        CambiosArticulosResponse pagina;
+        do {
+            pagina = articuloSoapService.obtenerCambiosDesde(null, 2, token);
+            assertTrue(pagina.getArticulos().size() <= 2);
+            cambios.addAll(pagina.getArticulos());
+            token = pagina.getToken();
+        } while (pagina.getHayMas());
+
+        // Assert - Todos los artículos aparecen, la baja con activo=false, y el último token no trae más cambios
+        List<ArticuloResponse> nuestros = cambios.stream()
+                .filter(a -> codigos.contains(a.getCodigo()))
+                .toList();
+        assertEquals(3, nuestros.size());
+        assertFalse(nuestros.stream()
+                .filter(a -> a.getId().equals(idDesactivado))
+                .findFirst().orElseThrow().getActivo());
+        CambiosArticulosResponse vacia = articuloSoapService.obtenerCambiosDesde(null, 2, token);
+        assertTrue(vacia.getArticulos().isEmpty());
+        assertFalse(vacia.getHayMas());
+        assertEquals(token, vacia.getToken());
+    }
+
+    @Test
+    @DisplayName("RF10: Un token de cambios inválido debe lanzar VALIDACION")
+    void testObtenerCambiosDesdeTokenInvalidoSOAPFault() {
+        ArticuloSoapFault tokenInvalido = assertThrows(ArticuloSoapFault.class,
+                () -> articuloSoapService.obtenerCambiosDesde(null, 10, "xyz!!"));
+        ArticuloSoapFault fechaInvalida = assertThrows(ArticuloSoapFault.class,
+                () -> articuloSoapService.obtenerCambiosDesde("ayer", 10, null));
+
+        assertEquals("VALIDACION", tokenInvalido.getFaultInfo().getCodigoError());
+        assertEquals("VALIDACION", fechaInvalida.getFaultInfo().getCodigoError());
+    }
+
+    /**
+     * Lanza la tarea en N hilos que arrancan a la vez y propaga el primer error
+     */
+    private void ejecutarEnParalelo(int hilos, Callable<Void> tarea) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Void>> futuros = new ArrayList<>();
+        try {
+            for (int i = 0; i < hilos; i++) {
+                futuros.add(executor.submit(() -> {
+                    salida.await();
+                    return tarea.call();
+                }));
+            }
+            salida.countDown();
+            for (Future<Void> futuro : futuros) {
+                futuro.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     // ==================== PRUEBAS DE RESPUESTA SOAP ====================
 
     @Test
@@ -402,6 +981,119 @@ class ArticuloSoapServiceTest {
         assertTrue(response.getTieneStockBajo());
     }
 
+    @Test
+    @DisplayName("RF7: El stock bajo debe listarse por déficit usando la columna generada")
+    void testStockBajoOrdenadoPorDeficit() throws ArticuloSoapFault {
+        // Arrange - Déficits 2, 9 y 5; el cuarto artículo no tiene stock bajo
+        int[][] stocks = {{8, 10}, {1, 10}, {5, 10}, {20, 10}};
+        for (int i = 0; i < stocks.length; i++) {
+            articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                    .codigo("SOAP-DEF-" + testCounter + "-" + i)
+                    .nombre("Artículo Déficit " + i)
+                    .categoria("Pruebas")
+                    .precioCompra(new BigDecimal("10.00"))
+                    .precioVenta(new BigDecimal("15.00"))
+                    .stockActual(stocks[i][0])
+                    .stockMinimo(stocks[i][1])
+                    .build());
+        }
+
+        // Act
+        List<Articulo> desdeBaseDatos = articuloRepository.findArticulosConStockBajo();
+        List<Articulo> desdeRegistro = articuloService.obtenerArticulosConStockBajo();
+
+        // Assert - Mismo contenido y orden en la consulta indexada y en el registro en memoria
+        List<Integer> deficits = desdeBaseDatos.stream().map(Articulo::getDeficit).toList();
+        assertEquals(List.of(9, 5, 2), deficits);
+        assertEquals(desdeBaseDatos.stream().map(Articulo::getCodigo).toList(),
+                desdeRegistro.stream().map(Articulo::getCodigo).toList());
+    }
+
+    @Test
+    @DisplayName("La valoración por categoría en memoria debe coincidir con la agregación en la base de datos")
+    void testResumenInventarioCoincideConBaseDatos() throws ArticuloSoapFault {
+        // Arrange - Inserciones, cambios de stock, cambio de categoría y baja
+        String prefijo = "SOAP-RES-" + testCounter + "-";
+        String[] categorias = {"Pinturas", "Pinturas", "Herramientas"};
+        List<ArticuloResponse> insertados = new ArrayList<>();
+        for (int i = 0; i < categorias.length; i++) {
+            insertados.add(articuloSoapService.insertarArticulo(ArticuloRequest.builder()
+                    .codigo(prefijo + i)
+                    .nombre("Artículo Resumen " + i)
+                    .categoria(categorias[i])
+                    .precioCompra(new BigDecimal("2.50"))
+                    .precioVenta(new BigDecimal("4.75"))
+                    .stockActual(10 * (i + 1))
+                    .stockMinimo(5)
+                    .build()));
+        }
+        articuloSoapService.decrementarStock(prefijo + 0, 7);
+        articuloSoapService.incrementarStock(prefijo + 2, 3);
+        ArticuloRequest cambio = ArticuloRequest.builder()
+                .codigo(prefijo + 1)
+                .nombre("Artículo Resumen 1")
+                .categoria("Herramientas")
+                .precioCompra(new BigDecimal("3.00"))
+                .precioVenta(new BigDecimal("6.00"))
+                .stockActual(12)
+                .stockMinimo(5)
+                .build();
+        articuloSoapService.actualizarArticulo(prefijo + 1, cambio);
+        articuloService.eliminarArticulo(insertados.get(2).getId());
+
+        // Act
+        List<ResumenCategoriaResponse> respuesta = articuloSoapService.obtenerResumenInventario();
+        List<ResumenCategoria> esperado = articuloRepository.calcularResumenInventario();
+
+        // Assert
+        assertEquals(esperado.size(), respuesta.size());
+        for (int i = 0; i < esperado.size(); i++) {
+            ResumenCategoria fila = esperado.get(i);
+            ResumenCategoriaResponse obtenido = respuesta.get(i);
+            assertEquals(fila.getCategoria(), obtenido.getCategoria());
+            assertEquals(fila.getTotalArticulos(), obtenido.getTotalArticulos());
+            assertEquals(fila.getStockTotal(), obtenido.getStockTotal());
+            assertEquals(0, fila.getValorCompra().compareTo(obtenido.getValorCompra()));
+            assertEquals(0, fila.getValorVenta().compareTo(obtenido.getValorVenta()));
+            assertEquals(0, fila.getUtilidadPotencial().compareTo(obtenido.getUtilidadPotencial()));
+        }
+    }
+
+    @Test
+    @DisplayName("La exportación de inventario debe incluir solo los artículos activos, en orden de ID")
+    void testExportarInventario() throws Exception {
+        // Arrange - Tres artículos, uno dado de baja
+        List<String> codigos = new ArrayList<>();
+        Long idInactivo = null;
+        for (int i = 0; i < 3; i++) {
+            articuloRequestValido.setCodigo("SOAP-EXP-" + testCounter + "-" + i);
+            ArticuloResponse insertado = articuloSoapService.insertarArticulo(articuloRequestValido);
+            if (i == 1) {
+                idInactivo = insertado.getId();
+            } else {
+                codigos.add(insertado.getCodigo());
+            }
+        }
+        articuloService.eliminarArticulo(idInactivo);
+
+        // Act - El contenido se genera al escribir el adjunto
+        ExportacionInventarioResponse response = articuloSoapService.exportarInventario();
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        response.getContenido().writeTo(salida);
+
+        // Assert
+        assertEquals("application/xml", response.getFormato());
+        List<String> exportados = new ArrayList<>();
+        XMLStreamReader xml = XMLInputFactory.newFactory()
+                .createXMLStreamReader(new ByteArrayInputStream(salida.toByteArray()));
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "codigo".equals(xml.getLocalName())) {
+                exportados.add(xml.getElementText());
+            }
+        }
+        assertEquals(codigos, exportados);
+    }
+
     @Test
     @DisplayName("La respuesta SOAP debe incluir margen de ganancia calculado")
     @Transactional
@@ -426,6 +1118,33 @@ class ArticuloSoapServiceTest {
         assertNotNull(response.getFechaActualizacion());
     }
 
+    // ==================== PRUEBAS DE EJECUCIÓN ASÍNCRONA ====================
+
+    @Test
+    @DisplayName("RNF2: Las variantes asíncronas deben ejecutarse en el pool SOAP y propagar faults")
+    void testOperacionesAsincronasEnEjecutorSOAP() throws Exception {
+        // Arrange
+        articuloSoapService.insertarArticulo(articuloRequestValido);
+        CompletableFuture<String> hilo = new CompletableFuture<>();
+        CompletableFuture<Response<ConsultarArticuloResponse>> encontrado = new CompletableFuture<>();
+        CompletableFuture<Response<ConsultarArticuloResponse>> inexistente = new CompletableFuture<>();
+
+        // Act
+        articuloSoapService.consultarArticuloAsync(articuloRequestValido.getCodigo(), respuesta -> {
+            hilo.complete(Thread.currentThread().getName());
+            encontrado.complete(respuesta);
+        });
+        articuloSoapService.consultarArticuloAsync("CODIGO-INEXISTENTE-999", inexistente::complete);
+
+        // Assert
+        assertTrue(hilo.get(10, TimeUnit.SECONDS).startsWith("soap-"));
+        assertEquals(articuloRequestValido.getCodigo(),
+                encontrado.get(10, TimeUnit.SECONDS).get().getResultado().getCodigo());
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> inexistente.get(10, TimeUnit.SECONDS).get());
+        assertEquals("NO_ENCONTRADO", ((ArticuloSoapFault) error.getCause()).getFaultInfo().getCodigoError());
+    }
+
     // ==================== PRUEBAS DE RENDIMIENTO ====================
 
     @Test
@@ -521,6 +1240,23 @@ class ArticuloSoapServiceTest {
         assertFalse(exception.getFaultInfo().getMensaje().isEmpty());
     }
 
+    @Test
+    @DisplayName("RF10: Los faults de negocio esperados no capturan la traza de la pila")
+    void testFaultNegocioSinTraza() {
+        // Act & Assert
+        ArticuloSoapFault noEncontrado = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.consultarArticulo("INEXISTENTE-999");
+        });
+        ArticuloSoapFault stockNoEncontrado = assertThrows(ArticuloSoapFault.class, () -> {
+            articuloSoapService.verificarStock("INEXISTENTE-999");
+        });
+
+        assertEquals("NO_ENCONTRADO", noEncontrado.getFaultInfo().getCodigoError());
+        assertEquals(0, noEncontrado.getStackTrace().length);
+        assertEquals(0, stockNoEncontrado.getStackTrace().length);
+        assertEquals(noEncontrado.getFaultInfo().getMensaje(), stockNoEncontrado.getFaultInfo().getMensaje());
+    }
+
     // ==================== PRUEBAS DE VALIDACIÓN ====================
 
     @Test